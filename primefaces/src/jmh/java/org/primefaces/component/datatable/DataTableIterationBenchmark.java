@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable;
+
+import org.primefaces.component.column.Column;
+import org.primefaces.mock.FacesContextMock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.html.HtmlOutputText;
+import jakarta.faces.context.FacesContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the row iteration of rendering a read-only DataTable: every row is selected by {@link DataTable#setRowIndex(int)} and the
+ * client id of every cell component is resolved, as the renderer does. Compares the read-only iteration with the previous path, which
+ * saves and restores the state of all descendants on every row change.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DataTableIterationBenchmark {
+
+    @Param({"true", "false"})
+    private boolean readOnlyIteration;
+
+    @Param({"500"})
+    private int rows;
+
+    @Param({"20"})
+    private int columns;
+
+    private FacesContext context;
+    private DataTable table;
+    private List<UIComponent> cells;
+
+    @Setup
+    public void setup() {
+        context = new FacesContextMock();
+
+        List<String> data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add("Row " + i);
+        }
+
+        boolean readOnly = readOnlyIteration;
+        table = new DataTable() {
+            @Override
+            public boolean isReadOnlyIteration() {
+                return readOnly;
+            }
+        };
+        table.setId("table");
+        table.setVar("row");
+        table.setValue(data);
+
+        cells = new ArrayList<>(columns);
+        for (int i = 0; i < columns; i++) {
+            Column column = new Column();
+            column.setId("col" + i);
+            HtmlOutputText output = new HtmlOutputText();
+            output.setId("out" + i);
+            column.getChildren().add(output);
+            table.getChildren().add(column);
+            cells.add(output);
+        }
+    }
+
+    @Benchmark
+    public int iterate() {
+        int length = 0;
+        for (int i = 0; i < rows; i++) {
+            table.setRowIndex(i);
+            for (int j = 0; j < cells.size(); j++) {
+                length += cells.get(j).getClientId(context).length();
+            }
+        }
+        table.setRowIndex(-1);
+        return length;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.context;
+
+import org.primefaces.util.EscapeUtils;
+import org.primefaces.util.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares streaming a callback param with the {@link JsonWriter}, as done by
+ * {@link PrimePartialResponseWriter#encodeCallbackParams(java.util.Map)}, with the previous path, which built an
+ * <code>org.json</code> tree, turned it into a string and XML escaped that string.
+ * The payload is a bean with a list of schedule-like events. Run with <code>-prof gc</code> to compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimePartialResponseWriterBenchmark {
+
+    @Param({"10", "1000"})
+    private int events;
+
+    private StringBuilder output;
+    private Writer writer;
+    private Schedule schedule;
+
+    @Setup
+    public void setup() {
+        output = new StringBuilder(events * 200);
+        writer = new StringBuilderWriter(output);
+        schedule = new Schedule();
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 8, 0);
+        for (int i = 0; i < events; i++) {
+            schedule.getEvents().add(new Event("event-" + i, "Meeting <" + i + "> & review", start.plusHours(i), i % 3 == 0, i * 1.5d));
+        }
+    }
+
+    @Benchmark
+    public int streaming() throws IOException {
+        output.setLength(0);
+        writer.write("\"schedule\":");
+        new JsonWriter(writer, true).writeValue(schedule);
+        return output.length();
+    }
+
+    @Benchmark
+    public int orgJson() throws IOException {
+        output.setLength(0);
+        writer.write("\"schedule\":");
+        writer.write(EscapeUtils.forXml(new JSONObject(schedule).toString()));
+        return output.length();
+    }
+
+    public static class Schedule {
+
+        private final List<Event> events = new ArrayList<>();
+
+        public List<Event> getEvents() {
+            return events;
+        }
+
+        public String getTimeZone() {
+            return "Europe/Vienna";
+        }
+    }
+
+    public static class Event {
+
+        private final String id;
+        private final String title;
+        private final LocalDateTime start;
+        private final boolean allDay;
+        private final double progress;
+
+        Event(String id, String title, LocalDateTime start, boolean allDay, double progress) {
+            this.id = id;
+            this.title = title;
+            this.start = start;
+            this.allDay = allDay;
+            this.progress = progress;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public boolean isAllDay() {
+            return allDay;
+        }
+
+        public double getProgress() {
+            return progress;
+        }
+    }
+
+    static class StringBuilderWriter extends Writer {
+
+        private final StringBuilder out;
+
+        StringBuilderWriter(StringBuilder out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            out.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str) {
+            out.append(str);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            out.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+            // NOOP
+        }
+
+        @Override
+        public void close() {
+            // NOOP
+        }
+    }
+}
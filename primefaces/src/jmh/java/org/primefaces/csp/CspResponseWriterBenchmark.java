@@ -0,0 +1,248 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.csp;
+
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.pf.PrimeApplicationContextMock;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.ResponseWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of the {@link CspResponseWriter} for a page of rows with inline event handlers,
+ * and compares the nonce generation with its previous, UUID based implementation.
+ * Run with <code>-prof gc</code> to compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CspResponseWriterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean csp;
+
+    @Param({"100"})
+    private int rows;
+
+    private StringBuilder output;
+    private FacesContext context;
+    private ResponseWriter writer;
+
+    @Setup
+    public void setup() {
+        output = new StringBuilder(65536);
+        context = new FacesContextMock();
+        PrimeApplicationContext.setCurrentInstance(new PrimeApplicationContextMock(context), context);
+        writer = new StringBuilderResponseWriter(output);
+    }
+
+    @Benchmark
+    public int render() throws IOException {
+        output.setLength(0);
+        ResponseWriter rw = csp ? new CspResponseWriter(writer, new FixedNonceCspState(context)) : writer;
+
+        rw.startElement("body", null);
+        for (int i = 0; i < rows; i++) {
+            rw.startElement("tr", null);
+            rw.writeAttribute("id", "form:table:" + i, null);
+            rw.writeAttribute("class", "ui-widget-content ui-datatable-even", null);
+            rw.writeAttribute("data-ri", i, null);
+            rw.writeAttribute("onclick", "PrimeFaces.ab({s:\"form:table\",e:\"rowClick\",f:\"form\"});", null);
+
+            rw.startElement("td", null);
+            rw.writeAttribute("role", "gridcell", null);
+            rw.startElement("a", null);
+            rw.writeAttribute("href", "#", null);
+            rw.writeAttribute("onmouseover", "this.classList.add('hover')", null);
+            rw.writeAttribute("onmouseout", "this.classList.remove('hover')", null);
+            rw.writeText("Row " + i, null);
+            rw.endElement("a");
+            rw.endElement("td");
+
+            rw.endElement("tr");
+        }
+        rw.endElement("body");
+        return output.length();
+    }
+
+    @Benchmark
+    public String nonce() {
+        return new CspState(context).generateNonce();
+    }
+
+    @Benchmark
+    public String legacyNonce() {
+        return Base64.getEncoder().encodeToString(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Skips the nonce validation of postbacks, which needs a full request.
+     */
+    static class FixedNonceCspState extends CspState {
+
+        private final String nonce;
+
+        FixedNonceCspState(FacesContext context) {
+            super(context);
+            nonce = generateNonce();
+        }
+
+        @Override
+        public String getNonce() {
+            return nonce;
+        }
+    }
+
+    /**
+     * Minimal HTML writer, so that the benchmark measures the CSP handling only.
+     */
+    static class StringBuilderResponseWriter extends ResponseWriter {
+
+        private final StringBuilder out;
+        private boolean startTagOpen;
+
+        StringBuilderResponseWriter(StringBuilder out) {
+            this.out = out;
+        }
+
+        private void closeStartTag() {
+            if (startTagOpen) {
+                out.append('>');
+                startTagOpen = false;
+            }
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/html";
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return "UTF-8";
+        }
+
+        @Override
+        public void flush() {
+            closeStartTag();
+        }
+
+        @Override
+        public void startDocument() {
+            // NOOP
+        }
+
+        @Override
+        public void endDocument() {
+            // NOOP
+        }
+
+        @Override
+        public void startElement(String name, UIComponent component) {
+            closeStartTag();
+            out.append('<').append(name);
+            startTagOpen = true;
+        }
+
+        @Override
+        public void endElement(String name) {
+            closeStartTag();
+            out.append("</").append(name).append('>');
+        }
+
+        @Override
+        public void writeAttribute(String name, Object value, String property) {
+            out.append(' ').append(name).append("=\"").append(value).append('"');
+        }
+
+        @Override
+        public void writeURIAttribute(String name, Object value, String property) {
+            writeAttribute(name, value, property);
+        }
+
+        @Override
+        public void writeComment(Object comment) {
+            closeStartTag();
+            out.append("<!--").append(comment).append("-->");
+        }
+
+        @Override
+        public void writeText(Object text, String property) {
+            closeStartTag();
+            out.append(text);
+        }
+
+        @Override
+        public void writeText(char[] text, int off, int len) {
+            closeStartTag();
+            out.append(text, off, len);
+        }
+
+        @Override
+        public ResponseWriter cloneWithWriter(Writer writer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            closeStartTag();
+            out.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str) {
+            closeStartTag();
+            out.append(str);
+        }
+
+        @Override
+        public void close() {
+            // NOOP
+        }
+    }
+}
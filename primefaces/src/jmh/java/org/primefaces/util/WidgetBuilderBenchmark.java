@@ -0,0 +1,276 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import org.primefaces.config.PrimeEnvironment;
+import org.primefaces.mock.CollectingResponseWriter;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.mock.pf.PrimeConfigurationMock;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.ResponseWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link WidgetBuilder} with its previous implementation, which wrote every fragment as separate string,
+ * for typical DataTable and SelectOneMenu initializations. Run with <code>-prof gc</code> to compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WidgetBuilderBenchmark {
+
+    @Param({"current", "legacy"})
+    private String builder;
+
+    private StringBuilder output;
+    private WidgetBuilder wb;
+
+    @Setup
+    public void setup() {
+        output = new StringBuilder(2048);
+        FacesContext context = new FacesContextMock(new CollectingResponseWriter(output));
+        PrimeConfigurationMock configuration = new PrimeConfigurationMock(context, new PrimeEnvironment(context));
+        wb = "legacy".equals(builder) ? new LegacyWidgetBuilder(context, configuration) : new WidgetBuilder(context, configuration);
+    }
+
+    @Benchmark
+    public int dataTable() throws IOException {
+        output.setLength(0);
+        wb.init("DataTable", "widget_form_table", "form:table", false)
+                .attr("selectionMode", "multiple", null)
+                .attr("selectionPageOnly", false, true)
+                .attr("rowSelector", "td.ui-selection-column", null)
+                .attr("filter", true)
+                .attr("filterEvent", "keyup", null)
+                .attr("filterDelay", 300, Integer.MAX_VALUE)
+                .attr("scrollable", true)
+                .attr("liveScroll", Boolean.FALSE)
+                .attr("scrollStep", 20)
+                .attr("scrollLimit", 1000)
+                .attr("scrollHeight", "400", null)
+                .attr("frozenColumns", 0, 0)
+                .attr("resizableColumns", true, false)
+                .attr("resizeMode", "expand", "fit")
+                .attr("reflow", true, false)
+                .attr("editMode", "row", null)
+                .attr("groupColumnIndexes", "[0]", null)
+                .attr("multiViewState", true, false)
+                .attr("emptyMessage", "No records found.", null)
+                .callback("rowSelect", "function(ext,event)",
+                        "PrimeFaces.ab({s:\"form:table\",e:\"rowSelect\",f:\"form\",p:\"form:table\",u:\"form:msgs\"},ext);")
+                .callback("page", "function(ext,event)",
+                        "PrimeFaces.ab({s:\"form:table\",e:\"page\",f:\"form\",p:\"form:table\"},ext);")
+                .finish();
+        return output.length();
+    }
+
+    @Benchmark
+    public int selectOneMenu() throws IOException {
+        output.setLength(0);
+        wb.init("SelectOneMenu", "widget_form_city", "form:city", false)
+                .attr("editable", false, false)
+                .attr("appendTo", "@(body)")
+                .attr("syncTooltip", true, false)
+                .attr("label", "Select a city", null)
+                .attr("labelTemplate", "{label} - \"{value}\"", null)
+                .attr("autoWidth", "auto", "auto")
+                .attr("dynamic", false, false)
+                .attr("touchable", true, true)
+                .attr("renderPanelContentOnClient", false, false)
+                .attr("filter", true)
+                .attr("filterMatchMode", "startsWith", null)
+                .nativeAttr("filterFunction", null, null)
+                .attr("caseSensitive", false, false)
+                .attr("filterNormalize", true, false)
+                .callback("change", "function(ext,event)",
+                        "PrimeFaces.ab({s:\"form:city\",e:\"change\",f:\"form\",p:\"form:city\",u:\"form:district\"},ext);")
+                .finish();
+        return output.length();
+    }
+
+    /**
+     * The previous implementation, which writes every name, punctuation and escaped value separately.
+     */
+    static class LegacyWidgetBuilder extends WidgetBuilder {
+
+        LegacyWidgetBuilder(FacesContext context, PrimeConfigurationMock configuration) {
+            super(context, configuration);
+        }
+
+        @Override
+        protected WidgetBuilder init(String widgetClass, String widgetVar, String id, boolean endFunction) throws IOException {
+            this.endFunction = endFunction;
+
+            ResponseWriter rw = context.getResponseWriter();
+            rw.write("PrimeFaces.cw(\"");
+            rw.write(widgetClass);
+            rw.write("\",\"");
+            rw.write(widgetVar);
+            rw.write("\",{id:\"");
+            rw.write(id);
+            rw.write("\"");
+
+            return this;
+        }
+
+        @Override
+        public WidgetBuilder attr(String name, String value) throws IOException {
+            if (value != null) {
+                ResponseWriter rw = context.getResponseWriter();
+                rw.write(",");
+                rw.write(name);
+                rw.write(":\"");
+                rw.write(EscapeUtils.forJavaScript(value));
+                rw.write("\"");
+            }
+
+            return this;
+        }
+
+        @Override
+        public WidgetBuilder attr(String name, String value, String defaultValue) throws IOException {
+            if (value != null && !value.equals(defaultValue)) {
+                ResponseWriter rw = context.getResponseWriter();
+                rw.write(",");
+                rw.write(name);
+                rw.write(":\"");
+                rw.write(EscapeUtils.forJavaScript(value));
+                rw.write("\"");
+            }
+
+            return this;
+        }
+
+        @Override
+        public WidgetBuilder nativeAttr(String name, String value, String defaultValue) throws IOException {
+            if (value != null && !value.equals(defaultValue)) {
+                ResponseWriter rw = context.getResponseWriter();
+                rw.write(",");
+                rw.write(name);
+                rw.write(":");
+                rw.write(value);
+            }
+
+            return this;
+        }
+
+        @Override
+        public WidgetBuilder attr(String name, Boolean value) throws IOException {
+            if (value != null) {
+                ResponseWriter rw = context.getResponseWriter();
+                rw.write(",");
+                rw.write(name);
+                rw.write(":");
+                rw.write(Boolean.toString(value));
+            }
+
+            return this;
+        }
+
+        @Override
+        public WidgetBuilder attr(String name, Number value) throws IOException {
+            if (value != null) {
+                ResponseWriter rw = context.getResponseWriter();
+                rw.write(",");
+                rw.write(name);
+                rw.write(":");
+                rw.write(value.toString());
+            }
+
+            return this;
+        }
+
+        @Override
+        public WidgetBuilder attr(String name, int value, int defaultValue) throws IOException {
+            if (value != defaultValue) {
+                ResponseWriter rw = context.getResponseWriter();
+                rw.write(",");
+                rw.write(name);
+                rw.write(":");
+                rw.write(Integer.toString(value));
+            }
+
+            return this;
+        }
+
+        @Override
+        public WidgetBuilder attr(String name, boolean value, boolean defaultValue) throws IOException {
+            if (value != defaultValue) {
+                ResponseWriter rw = context.getResponseWriter();
+                rw.write(",");
+                rw.write(name);
+                rw.write(":");
+                rw.write(Boolean.toString(value));
+            }
+
+            return this;
+        }
+
+        @Override
+        public WidgetBuilder callback(String name, String signature, String callback) throws IOException {
+            if (callback != null) {
+                ResponseWriter rw = context.getResponseWriter();
+                rw.write(",");
+                rw.write(name);
+                rw.write(":");
+                rw.write(signature);
+                rw.write("{");
+                rw.write(callback);
+                rw.write("}");
+            }
+
+            return this;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            ResponseWriter rw = context.getResponseWriter();
+            rw.write("});");
+
+            if (endFunction) {
+                rw.write("});");
+            }
+
+            rw.endElement("script");
+        }
+    }
+}
@@ -5,6 +5,8 @@
 
 import * as fs from "node:fs/promises";
 import * as path from "node:path";
+import { promisify } from "node:util";
+import * as zlib from "node:zlib";
 
 import { bannedDependenciesPlugin } from "@xenorange/esbuild-plugin-banned-dependencies";
 import { facesResourceLoaderPlugin } from "@xenorange/esbuild-plugin-faces-resource-loader";
@@ -70,6 +72,41 @@ async function main() {
 
     // Each NPM dependency should be included only in one bundle file to avoid duplicates
     failOnDuplicateModulesInOutputs(finalMetaFile)
+
+    // Served by the PrimeResourceHandler when primefaces.RESOURCE_CONTENT_HASH is enabled
+    if (Env.IsProduction) {
+        await writePrecompressedVariants(finalMetaFile);
+    }
+}
+
+/**
+ * Writes a brotli (`.br`) and a gzip (`.gz`) variant next to each built script,
+ * so that the server can send them as-is instead of compressing on each request.
+ *
+ * Stylesheets are skipped, as they may contain `#{resource[...]}` expressions that
+ * are only evaluated when the resource is served.
+ *
+ * @param {Metafile} metaFile Meta file with the build results.
+ */
+async function writePrecompressedVariants(metaFile) {
+    console.log("Writing pre-compressed variants of built scripts...");
+    const brotliCompress = promisify(zlib.brotliCompress);
+    const gzip = promisify(zlib.gzip);
+    const scripts = Object.keys(metaFile.outputs)
+        .filter(output => output.endsWith(".js"))
+        .map(output => path.resolve(Env.RootDir, output));
+    await Promise.all(scripts.map(async script => {
+        const content = await fs.readFile(script);
+        const [br, gz] = await Promise.all([
+            brotliCompress(content, { params: { [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY } }),
+            gzip(content, { level: zlib.constants.Z_BEST_COMPRESSION }),
+        ]);
+        await Promise.all([
+            fs.writeFile(`${script}.br`, br),
+            fs.writeFile(`${script}.gz`, gz),
+        ]);
+    }));
+    console.log(`Pre-compressed ${scripts.length} scripts`);
 }
 
 /**
@@ -4320,6 +4320,64 @@ PrimeFaces.widget.DataTable = class DataTable extends PrimeFaces.widget.Deferred
         row.replaceWith($content);
     }
 
+    /**
+     * Applies a partial update rendered by the server for this widget, see
+     * `PrimeFaces.current().dataTable(expression).updateRows(rowKeys)`.
+     * @protected
+     * @param {string} type Type of the partial update, `rows` for updated rows.
+     * @param {string} content HTML string of the update.
+     */
+    handlePartialUpdate(type, content) {
+        if (type === 'rows') {
+            this.updateRows(content);
+        }
+        else {
+            PrimeFaces.warn("Unsupported partial update '" + type + "' for DataTable " + this.id);
+        }
+    }
+
+    /**
+     * Replaces the rows of the current page with the updated rows in the given content. Rows are matched by their row
+     * key or, when no row key is rendered, by their row index. Expansions of the updated rows are replaced as well.
+     * @protected
+     * @param {string} content HTML string with the updated rows.
+     */
+    updateRows(content) {
+        var $this = this,
+        rows = $(content).filter('tr');
+
+        rows.each(function(i) {
+            var newRow = $(this);
+            if (newRow.hasClass('ui-expanded-row-content')) {
+                return;
+            }
+
+            var rowKey = newRow.attr('data-rk'),
+            oldRow = (rowKey !== undefined)
+                ? $this.tbody.children('tr[data-rk]').filter(function() { return $(this).attr('data-rk') === rowKey; })
+                : $this.tbody.children("tr[data-ri='" + newRow.attr('data-ri') + "']");
+            if (oldRow.length === 0) {
+                return;
+            }
+
+            if (oldRow.hasClass('ui-expanded-row')) {
+                oldRow.next('.ui-expanded-row-content').remove();
+            }
+
+            var expansion = rows.eq(i + 1);
+            oldRow.replaceWith(newRow);
+            if (expansion.hasClass('ui-expanded-row-content')) {
+                newRow.after(expansion);
+            }
+        });
+
+        this.postUpdateData();
+
+        if (this.cfg.clientCache) {
+            this.clearCacheMap();
+        }
+    }
+
     /**
      * Displays row editors in invalid format.
      * @protected
@@ -116,6 +116,12 @@ PrimeFaces.widget.VerticalTree = class VerticalTree extends PrimeFaces.widget.Ba
                             $this.nodeClick(e, $(this));
                         });
 
+        this.jq.off('click.tree-loadmore', '.ui-treenode-loadmore-link')
+                        .on('click.tree-loadmore', '.ui-treenode-loadmore-link', null, function(e) {
+                            e.preventDefault();
+                            $this.loadMoreChildren($(this).parent());
+                        });
+
         if(this.cfg.filter) {
             this.cfg.filterDelay = this.cfg.filterDelay || 300;
             this.cfg.filterEvent = this.cfg.filterEvent || 'keyup';
@@ -437,6 +443,56 @@ PrimeFaces.widget.VerticalTree = class VerticalTree extends PrimeFaces.widget.Ba
         }
     }
 
+    /**
+     * Loads the next page of children of a node whose children are loaded in pages, and replaces the given
+     * `load more` item with them.
+     * @param {JQuery} loader The `load more` item, must be a LI element.
+     */
+    loadMoreChildren(loader) {
+        var $this = this;
+
+        if(loader.data('processing')) {
+            return;
+        }
+
+        loader.data('processing', true);
+
+        var options = {
+            source: this.id,
+            process: this.id,
+            update: this.id,
+            formId: this.getParentFormId(),
+            params: [
+                {name: this.id + '_loadMore', value: loader.attr('data-rowkey')}
+            ],
+            onsuccess: function(responseXML, status, xhr) {
+                PrimeFaces.ajax.Response.handle(responseXML, status, xhr, {
+                        widget: $this,
+                        handle: function(content) {
+                            var items = $(content);
+                            loader.replaceWith(items);
+
+                            if(this.cfg.draggable) {
+                                this.makeDraggable(items.find('.ui-treenode-content'));
+                            }
+
+                            if(this.cfg.droppable) {
+                                this.makeDropPoints(items.filter('li.ui-tree-droppoint').add(items.find('li.ui-tree-droppoint')));
+                                this.makeDropNodes(items.find('div.ui-treenode-droppable'));
+                            }
+                        }
+                    });
+
+                return true;
+            },
+            oncomplete: function() {
+                loader.removeData('processing');
+            }
+        };
+
+        PrimeFaces.ajax.Request.handle(options);
+    }
+
     /**
      * @override
      * @protected
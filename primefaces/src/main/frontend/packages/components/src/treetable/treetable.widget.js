@@ -211,6 +211,13 @@ PrimeFaces.widget.TreeTable = class TreeTable extends PrimeFaces.widget.Deferred
                         }
                     });
 
+        //load more children of nodes which are loaded in pages
+        this.tbody.off('click.treeTable-loadmore', '> tr > td > .ui-treetable-loadmore-link')
+                    .on('click.treeTable-loadmore', '> tr > td > .ui-treetable-loadmore-link', null, function(e) {
+                        e.preventDefault();
+                        $this.loadMoreChildren($(this).closest('tr'));
+                    });
+
         //selection
         if(this.cfg.selectionMode) {
             this.jqSelection = $(this.jqId + '_selection');
@@ -953,6 +960,52 @@ PrimeFaces.widget.TreeTable = class TreeTable extends PrimeFaces.widget.Deferred
         }
     }
 
+    /**
+     * Loads the next page of children of a node whose children are loaded in pages, and replaces the given
+     * `load more` row with them.
+     * @param {JQuery} loader The `load more` row, must be a TR element.
+     */
+    loadMoreChildren(loader) {
+        var $this = this;
+
+        if(loader.data('processing')) {
+            return;
+        }
+
+        loader.data('processing', true);
+
+        var options = {
+            source: this.id,
+            process: this.id,
+            update: this.id,
+            params: [
+                {name: this.id + '_encodeFeature', value: true},
+                {name: this.id + '_loadMore', value: loader.attr('data-lmk')}
+            ],
+            onsuccess: function(responseXML, status, xhr) {
+                PrimeFaces.ajax.Response.handle(responseXML, status, xhr, {
+                        widget: $this,
+                        handle: function(content) {
+                            loader.replaceWith(content);
+                            $this.indeterminateNodes($this.tbody.children('tr.ui-treetable-partialselected'));
+
+                            if(this.cfg.scrollable) {
+                                this.alignScrollBody();
+                            }
+                        }
+                    });
+
+                return true;
+            },
+            oncomplete: function() {
+                loader.removeData('processing');
+                $this.updateVerticalScroll();
+            }
+        };
+
+        PrimeFaces.ajax.Request.handle(options);
+    }
+
     /**
      * Collapses the given row of this tree table.
      * @param {JQuery} node A node to collapse, must be a TR element.
@@ -1274,7 +1327,9 @@ PrimeFaces.widget.TreeTable = class TreeTable extends PrimeFaces.widget.Deferred
             nextNodeRowKey = nextNode.attr('data-rk');
 
             if(nextNodeRowKey.indexOf(nodeKey) != -1) {
-                descendants.push(nextNode);
+                if(!nextNode.hasClass('ui-treetable-loadmore')) {
+                    descendants.push(nextNode);
+                }
             }
             else {
                 break;
@@ -292,6 +292,9 @@ export class AjaxUtils {
         else if (id === $('head')[0]?.id) {
             ajax.Utils.updateHead(content);
         }
+        else if (id.indexOf(ajax.WIDGET_UPDATE_SEPARATOR) > 0) {
+            ajax.Utils.updateWidget(id, content);
+        }
         else {
             var target = $(core.escapeClientId(id));
             if (target.length === 0) {
@@ -305,6 +308,25 @@ export class AjaxUtils {
         }
     }
 
+    /**
+     * Passes a partial update, which a component has rendered for its widget instead of updating itself completely, to
+     * the `handlePartialUpdate` method of the widget, e.g. the rows of a DataTable.
+     * @param id ID of the update, the ID of the widget and the type of the update separated by
+     * {@link Ajax.WIDGET_UPDATE_SEPARATOR}, e.g. `form:table@rows`.
+     * @param content The new content of the changeset as returned by an AJAX request.
+     */
+    updateWidget(id: string, content: string): void {
+        const separatorIndex = id.indexOf(ajax.WIDGET_UPDATE_SEPARATOR);
+        const widgetId = id.substring(0, separatorIndex);
+        const widget = core.getWidgetById(widgetId) as (BaseWidget & { handlePartialUpdate?: (type: string, content: string) => void }) | null;
+        if (widget && typeof widget.handlePartialUpdate === "function") {
+            widget.handlePartialUpdate(id.substring(separatorIndex + 1), content);
+        }
+        else {
+            core.warn("Widget with id '" + widgetId + "' cant be found or doesn't support partial updates; skip update...");
+        }
+    }
+
     /**
      * Handle the error either by calling the p:ajaxExceptionHandlers, trying to redirect to the error-page or by logging.
      * @param errorName The error name.
@@ -1614,6 +1636,14 @@ export class Ajax {
      */
     RESOURCE = "jakarta.faces.Resource";
 
+    /**
+     * Separates the widget ID from the type of a partial update of the widget in the ID of an `update` action,
+     * e.g. `form:table@rows`. Client IDs never contain it.
+     * @type {string}
+     * @readonly
+     */
+    WIDGET_UPDATE_SEPARATOR = "@";
+
     /**
      * Parameter shortcut mapping for the method {@link ab}.
      */
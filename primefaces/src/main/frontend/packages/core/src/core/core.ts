@@ -1356,6 +1356,17 @@ export class Core {
         this.createWidget(widgetName, widgetVar, cfg);
     }
 
+    /**
+     * Creates several widgets at once, in the given order. Used when the server batches the widget initializations
+     * of a page into a single call, see the `primefaces.MOVE_SCRIPTS_TO_BOTTOM_BATCH_WIDGETS` context parameter.
+     * @param widgets List of `[widgetName, widgetVar, cfg]` tuples, each passed to {@link createWidget}.
+     */
+    cws(widgets: Parameters<Core["createWidget"]>[]): void {
+        for (const [widgetName, widgetVar, cfg] of widgets) {
+            this.createWidget(widgetName, widgetVar, cfg);
+        }
+    }
+
     /**
      * Gets the URL for a Faces resource.
      * @deprecated Use {@link getFacesResource} instead.
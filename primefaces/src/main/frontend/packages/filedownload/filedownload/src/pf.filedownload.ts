@@ -10,6 +10,8 @@ import downloadJs from "downloadjs";
  * honor the file name you provide, instead they automatically name the downloaded file.
  * @param cookieName Name of the file download cookie (by default `primefaces.download`). This function
  * makes sure the cookie is set properly when the download finishes.
+ *
+ * While the server answers with `202 Accepted`, the download is retried after the `Retry-After` seconds.
  */
 export function download(url: string, mimeType: string, fileName: string, cookieName: string): void {
     let cookiePath = PrimeFaces.settings.contextPath;
@@ -21,7 +23,19 @@ export function download(url: string, mimeType: string, fileName: string, cookie
     xhr.open("GET", url, true);
     xhr.responseType = 'blob';
     xhr.onload = () => {
-        downloadJs(xhr.response, fileName, mimeType);
+        // 202 Accepted: the file is still being created on the server (e.g. an async export), so try again later
+        if (xhr.status === 202) {
+            const retryAfter = parseInt(xhr.getResponseHeader("Retry-After") ?? "", 10);
+            setTimeout(() => download(url, mimeType, fileName, cookieName), (isNaN(retryAfter) ? 1 : retryAfter) * 1000);
+            return;
+        }
+
+        if (xhr.status >= 400) {
+            PrimeFaces.error("Download of " + fileName + " failed with status " + xhr.status);
+        }
+        else {
+            downloadJs(xhr.response, fileName, mimeType);
+        }
         PrimeFaces.setCookie(cookieName, "true", {path: cookiePath});
     };
     xhr.send();
@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import org.primefaces.util.LangUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.faces.FacesException;
+
+/**
+ * Application-wide dynamic content keys, which are used instead of the per-session mapping when
+ * <code>primefaces.DYNAMIC_CONTENT_SCOPE</code> is <code>application</code>.
+ * <p>
+ * The key carries the {@link jakarta.el.ValueExpression} string itself, encrypted and authenticated with AES-GCM, so it is resolved
+ * without any server-side state: every cluster node sharing the same <code>primefaces.DYNAMIC_CONTENT_SECRET</code> of at least
+ * {@value #MIN_SECRET_LENGTH} characters resolves the keys of the others, also after a failover. A random secret is generated if not
+ * set. The nonce is derived from the expression, so an expression always gets the same key and the browser cache remains valid.
+ * The keys of at most <code>capacity</code> recently used expressions are cached, so they aren't encrypted on every render.
+ */
+public class DynamicContentRegistry {
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    /**
+     * The minimum length of a configured secret, 32 characters.
+     */
+    public static final int MIN_SECRET_LENGTH = 32;
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int NONCE_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private static final byte[] ENCRYPTION_KEY_CONTEXT = "primefaces.dynamicContent.encryption".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NONCE_KEY_CONTEXT = "primefaces.dynamicContent.nonce".getBytes(StandardCharsets.UTF_8);
+
+    private final SecretKeySpec encryptionKey;
+    private final SecretKeySpec nonceKey;
+    private final Map<String, String> keys;
+
+    public DynamicContentRegistry(String secret, int capacity) {
+        byte[] secretBytes;
+        if (LangUtils.isEmpty(secret)) {
+            secretBytes = new byte[32];
+            new SecureRandom().nextBytes(secretBytes);
+        }
+        else if (secret.length() < MIN_SECRET_LENGTH) {
+            throw new FacesException("primefaces.DYNAMIC_CONTENT_SECRET must have at least " + MIN_SECRET_LENGTH + " characters");
+        }
+        else {
+            secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.encryptionKey = new SecretKeySpec(hmac(new SecretKeySpec(secretBytes, MAC_ALGORITHM), ENCRYPTION_KEY_CONTEXT), "AES");
+        this.nonceKey = new SecretKeySpec(hmac(new SecretKeySpec(secretBytes, MAC_ALGORITHM), NONCE_KEY_CONTEXT), MAC_ALGORITHM);
+        // access ordered, evicts the least recently used expression
+        this.keys = new LinkedHashMap<String, String>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @param expressionString the expression which resolves the dynamic content
+     * @return the key to resolve the expression in the resource request
+     */
+    public String register(String expressionString) {
+        synchronized (keys) {
+            String key = keys.get(expressionString);
+            if (key != null) {
+                return key;
+            }
+        }
+
+        String key = encrypt(expressionString);
+        synchronized (keys) {
+            keys.put(expressionString, key);
+        }
+        return key;
+    }
+
+    /**
+     * @param key the key from the resource request
+     * @return the expression or <code>null</code> if the key is invalid or was created with another secret
+     */
+    public String resolve(String key) {
+        if (LangUtils.isEmpty(key)) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(key);
+            if (bytes.length < NONCE_BYTES + TAG_BITS / 8) {
+                return null;
+            }
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, bytes, 0, NONCE_BYTES));
+            return new String(cipher.doFinal(bytes, NONCE_BYTES, bytes.length - NONCE_BYTES), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException | GeneralSecurityException e) {
+            // malformed or forged key
+            return null;
+        }
+    }
+
+    public int size() {
+        synchronized (keys) {
+            return keys.size();
+        }
+    }
+
+    protected String encrypt(String expressionString) {
+        byte[] plain = expressionString.getBytes(StandardCharsets.UTF_8);
+        byte[] nonce = Arrays.copyOf(hmac(nonceKey, plain), NONCE_BYTES);
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, nonce));
+            ByteBuffer bytes = ByteBuffer.allocate(NONCE_BYTES + cipher.getOutputSize(plain.length));
+            bytes.put(nonce);
+            cipher.doFinal(ByteBuffer.wrap(plain), bytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.array());
+        }
+        catch (GeneralSecurityException e) {
+            throw new FacesException(e);
+        }
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        }
+        catch (GeneralSecurityException e) {
+            throw new FacesException(e);
+        }
+    }
+}
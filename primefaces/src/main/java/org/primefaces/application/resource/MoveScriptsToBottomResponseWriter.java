@@ -28,12 +28,13 @@ import org.primefaces.util.AgentUtils;
 import org.primefaces.util.LangUtils;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.UUID;
 
 import jakarta.faces.FacesException;
 import jakarta.faces.component.UIComponent;
@@ -47,6 +48,11 @@ public class MoveScriptsToBottomResponseWriter extends ResponseWriterWrapper {
     private static final String BODY_TAG = "body";
     private static final String HTML_TAG = "html";
     private static final String TYPE_ATTRIBUTE = "type";
+    private static final String PRIMEFACES = "PrimeFaces";
+    private static final String WINDOW_PREFIX = "window.";
+    private static final String WIDGET_PREFIX = "PrimeFaces.cw(\"";
+    private static final String WIDGET_SUFFIX = "});";
+    private static final String[] PF_MEMBERS = {".settings", ".cw", ".ab"};
 
     private final MoveScriptsToBottomState state;
 
@@ -202,7 +208,7 @@ public class MoveScriptsToBottomResponseWriter extends ResponseWriterWrapper {
         if (SCRIPT_TAG.equalsIgnoreCase(name)) {
             inScript = false;
 
-            state.addInline(scriptType, inline);
+            state.addInline(scriptType, inline, state.isBatchWidgets() && isWidgetScript(includeAttributes.get("id"), inline));
             if (LangUtils.isNotBlank(includeAttributes.get("src"))) {
                 state.addInclude(scriptType, includeAttributes);
             }
@@ -237,21 +243,30 @@ public class MoveScriptsToBottomResponseWriter extends ResponseWriterWrapper {
 
             // write inline scripts
             for (Map.Entry<String, List<String>> entry : state.getInlines().entrySet()) {
-                // strip tracking _0, _1, _2 etc off the end of the string
-                String type = entry.getKey().replaceAll("_\\d+$", "");
                 List<String> inlines = entry.getValue();
+                if (!hasContent(inlines)) {
+                    continue;
+                }
 
-                String id = UUID.randomUUID().toString();
-                String merged = mergeAndMinimizeInlineScripts(id, type, inlines, state.isDeferred());
-
-                if (LangUtils.isNotBlank(merged)) {
+                String key = entry.getKey();
+                boolean javascript = RendererUtils.SCRIPT_TYPE.equalsIgnoreCase(key);
+                // strip tracking _0, _1, _2 etc off the end of the string
+                String type = javascript ? key : key.replaceAll("_\\d+$", "");
 
-                    getWrapped().startElement(SCRIPT_TAG, null);
-                    getWrapped().writeAttribute("id", id, null);
-                    getWrapped().writeAttribute(TYPE_ATTRIBUTE, type, null);
-                    getWrapped().write(merged);
-                    getWrapped().endElement(SCRIPT_TAG);
+                getWrapped().startElement(SCRIPT_TAG, null);
+                getWrapped().writeAttribute(TYPE_ATTRIBUTE, type, null);
+                if (javascript) {
+                    writeInlineScripts(getWrapped(), key, inlines, state.isDeferred());
                 }
+                else {
+                    for (int i = 0; i < inlines.size(); i++) {
+                        if (i > 0) {
+                            getWrapped().write('\n');
+                        }
+                        getWrapped().write(inlines.get(i));
+                    }
+                }
+                getWrapped().endElement(SCRIPT_TAG);
             }
 
             getWrapped().endElement(name);
@@ -272,48 +287,140 @@ public class MoveScriptsToBottomResponseWriter extends ResponseWriterWrapper {
         }
     }
 
-    protected String mergeAndMinimizeInlineScripts(String id, String type, List<String> inlines, boolean deferred) {
-        StringBuilder script = new StringBuilder(inlines.size() * 100);
-        for (int i = 0; i < inlines.size(); i++) {
-            if (i > 0) {
-                script.append("\n");
-            }
-            script.append(inlines.get(i));
+    /**
+     * Streams the merged and minimized JavaScript inline scripts to the given writer, without building the merged script in memory.
+     * Consecutive widget scripts are batched into a single <code>PrimeFaces.cws</code> call if enabled.
+     * The script element removes itself after execution.
+     *
+     * @param out the writer
+     * @param type the script type as tracked in the {@link MoveScriptsToBottomState}
+     * @param inlines the inline scripts
+     * @param deferred whether the scripts have to wait until the DOM is loaded
+     * @throws IOException if any error occurs
+     */
+    protected void writeInlineScripts(Writer out, String type, List<String> inlines, boolean deferred) throws IOException {
+        // deferred scripts have to wait until scripts are loaded before it can execute inline
+        if (deferred) {
+            out.write("document.addEventListener(\"DOMContentLoaded\", function() {");
+        }
 
-            // append ; only if this is JS code
-            if (RendererUtils.SCRIPT_TYPE.equalsIgnoreCase(type)) {
-                script.append(";");
+        for (int i = 0; i < inlines.size(); i++) {
+            if (inlines.get(i).contains(PRIMEFACES)) {
+                out.write("var pf=window.PrimeFaces;");
+                break;
             }
         }
 
-        String minimized = script.toString();
+        boolean inBatch = false;
+        for (int i = 0; i < inlines.size(); i++) {
+            String inline = inlines.get(i);
+            if (state.isWidget(type, i)) {
+                // PrimeFaces.cw("Widget","widgetVar",{...}); -> ["Widget","widgetVar",{...}]
+                out.write(inBatch ? ",[" : (i > 0 ? "\npf.cws([[" : "pf.cws([["));
+                writeMinimized(out, inline, WIDGET_PREFIX.length() - 1, inline.length() - 2);
+                out.write(']');
+                inBatch = true;
+                continue;
+            }
 
-        if (LangUtils.isNotBlank(minimized)) {
-            if (RendererUtils.SCRIPT_TYPE.equalsIgnoreCase(type)) {
-                minimized = minimized.replace(";;", ";");
+            if (inBatch) {
+                out.write("]);");
+                inBatch = false;
+            }
+            if (i > 0) {
+                out.write('\n');
+            }
+            writeMinimized(out, inline, 0, inline.length());
+            if (inline.charAt(inline.length() - 1) != ';') {
+                out.write(';');
+            }
+        }
+        if (inBatch) {
+            out.write("]);");
+        }
 
-                if (minimized.contains("PrimeFaces")) {
-                    minimized = minimized.replace("PrimeFaces.settings", "pf.settings")
-                        .replace("PrimeFaces.cw", "pf.cw")
-                        .replace("PrimeFaces.ab", "pf.ab")
-                        .replace("window.PrimeFaces", "pf");
+        if (deferred) {
+            out.write("});");
+        }
+        out.write("document.currentScript.remove();");
+    }
 
-                    minimized = "var pf=window.PrimeFaces;" + minimized;
+    /**
+     * Writes the given range of the script and shortens the PrimeFaces namespace to the <code>pf</code> variable on the fly.
+     */
+    protected void writeMinimized(Writer out, String script, int begin, int end) throws IOException {
+        int written = begin;
+        int index = script.indexOf(PRIMEFACES, begin);
+        while (index >= 0 && index + PRIMEFACES.length() <= end) {
+            int next = index + PRIMEFACES.length();
+            int replaceFrom = -1;
+            if (index - WINDOW_PREFIX.length() >= written && script.startsWith(WINDOW_PREFIX, index - WINDOW_PREFIX.length())) {
+                replaceFrom = index - WINDOW_PREFIX.length();
+            }
+            else {
+                for (String member : PF_MEMBERS) {
+                    if (script.startsWith(member, next)) {
+                        replaceFrom = index;
+                        break;
+                    }
                 }
+            }
 
-                if (!minimized.endsWith(";")) {
-                    minimized += ";";
-                }
-                minimized += "document.getElementById('" + id + "').remove();";
+            if (replaceFrom >= 0) {
+                out.write(script, written, replaceFrom - written);
+                out.write("pf");
+                written = next;
+            }
+            index = script.indexOf(PRIMEFACES, next);
+        }
+        out.write(script, written, end - written);
+    }
 
-                // deferred scripts have to wait until scripts are loaded before it can execute inline
-                if (deferred) {
-                    minimized = String.format("document.addEventListener(\"DOMContentLoaded\", function() {%s});", minimized);
-                }
+    /**
+     * @deprecated the scripts are streamed by {@link #writeInlineScripts(Writer, String, List, boolean)} now
+     */
+    @Deprecated
+    protected String mergeAndMinimizeInlineScripts(String id, String type, List<String> inlines, boolean deferred) {
+        StringWriter script = new StringWriter(inlines.size() * 100);
+        try {
+            if (RendererUtils.SCRIPT_TYPE.equalsIgnoreCase(type)) {
+                writeInlineScripts(script, type, inlines, deferred);
+            }
+            else {
+                script.write(String.join("\n", inlines));
             }
         }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return script.toString();
+    }
+
+    protected boolean isWidgetScript(String id, StringBuilder inline) {
+        if (id == null || !id.endsWith("_s") || inline.length() < WIDGET_PREFIX.length() + WIDGET_SUFFIX.length()) {
+            return false;
+        }
+        for (int i = 0; i < WIDGET_PREFIX.length(); i++) {
+            if (inline.charAt(i) != WIDGET_PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+        int offset = inline.length() - WIDGET_SUFFIX.length();
+        for (int i = 0; i < WIDGET_SUFFIX.length(); i++) {
+            if (inline.charAt(offset + i) != WIDGET_SUFFIX.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        return minimized;
+    protected static boolean hasContent(List<String> inlines) {
+        for (int i = 0; i < inlines.size(); i++) {
+            if (LangUtils.isNotBlank(inlines.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
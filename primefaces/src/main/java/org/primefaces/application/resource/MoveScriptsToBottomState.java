@@ -25,6 +25,7 @@ package org.primefaces.application.resource;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -37,13 +38,17 @@ public class MoveScriptsToBottomState implements Serializable {
     private Map<String, List<Map<String, String>>> includes;
     private Map<String, List<String>> inlines;
     private int savedInlineTags;
+    private Map<String, BitSet> widgets;
     private boolean deferred;
+    private boolean batchWidgets;
 
     public MoveScriptsToBottomState() {
         includes = new HashMap<>(1);
         inlines = new HashMap<>(1);
+        widgets = new HashMap<>(1);
         savedInlineTags = -1;
         deferred = false;
+        batchWidgets = false;
     }
 
     public MoveScriptsToBottomState(boolean deferred) {
@@ -51,6 +56,11 @@ public class MoveScriptsToBottomState implements Serializable {
         this.deferred = deferred;
     }
 
+    public MoveScriptsToBottomState(boolean deferred, boolean batchWidgets) {
+        this(deferred);
+        this.batchWidgets = batchWidgets;
+    }
+
     public void addInclude(String type, Map<String, String> includeAttributes) {
         if (!includeAttributes.isEmpty()) {
             List<Map<String, String>> includeList = includes.computeIfAbsent(type, k -> new ArrayList<>(20));
@@ -59,8 +69,20 @@ public class MoveScriptsToBottomState implements Serializable {
     }
 
     public void addInline(String type, StringBuilder content) {
+        addInline(type, content, false);
+    }
+
+    /**
+     * @param type the script type
+     * @param content the script content
+     * @param widget whether the content is a single widget initialization, which may be batched with its neighbours
+     */
+    public void addInline(String type, StringBuilder content, boolean widget) {
         if (content.length() > 0) {
             List<String> inlineList = inlines.computeIfAbsent(type, k -> new ArrayList<>(100));
+            if (widget) {
+                widgets.computeIfAbsent(type, k -> new BitSet()).set(inlineList.size());
+            }
             inlineList.add(content.toString());
 
             savedInlineTags++;
@@ -82,4 +104,13 @@ public class MoveScriptsToBottomState implements Serializable {
     public boolean isDeferred() {
         return deferred;
     }
+
+    public boolean isBatchWidgets() {
+        return batchWidgets;
+    }
+
+    public boolean isWidget(String type, int index) {
+        BitSet bits = widgets.get(type);
+        return bits != null && bits.get(index);
+    }
 }
@@ -31,19 +31,33 @@ import jakarta.faces.application.ResourceWrapper;
 import jakarta.faces.context.FacesContext;
 
 /**
- * {@link ResourceWrapper} which appends the version of PrimeFaces to the URL.
+ * {@link ResourceWrapper} which appends the version of PrimeFaces, or a hash of the resource content, to the URL.
  */
 public class PrimeResource extends ResourceWrapper {
 
     private String version;
 
     public PrimeResource(Resource wrapped) {
+        this(wrapped, null);
+    }
+
+    /**
+     * @param wrapped the resource to wrap
+     * @param contentHash the hash of the resource content to use as version, or <code>null</code> to use the version of PrimeFaces
+     */
+    public PrimeResource(Resource wrapped, String contentHash) {
         super(wrapped);
 
         FacesContext context = FacesContext.getCurrentInstance();
-        version = PrimeRequestContext.getCurrentInstance(context).isHideResourceVersion()
-                ? null
-                : "&v=" + PrimeApplicationContext.getCurrentInstance(context).getEnvironment().getBuildVersion();
+        if (PrimeRequestContext.getCurrentInstance(context).isHideResourceVersion()) {
+            version = null;
+        }
+        else if (contentHash != null) {
+            version = "&v=" + contentHash;
+        }
+        else {
+            version = "&v=" + PrimeApplicationContext.getCurrentInstance(context).getEnvironment().getBuildVersion();
+        }
     }
 
     @Override
@@ -0,0 +1,265 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.faces.FacesException;
+import jakarta.faces.application.Resource;
+import jakarta.faces.application.ResourceHandler;
+
+/**
+ * Keeps the content of PrimeFaces resources in memory, together with a gzip and a brotli variant.
+ * Variants written next to a resource by the frontend build (<code>core.js.br</code>, <code>core.js.gz</code>) are preferred;
+ * otherwise the gzip variant is compressed once when the resource is loaded, and brotli is not available.
+ * <p>
+ * Stylesheets are not cached, see {@link #isCacheable(Resource)}.
+ */
+public class PrimeResourceCache {
+
+    /**
+     * Content codings of the variants, in order of preference, and the suffix of the pre-compressed resources.
+     */
+    static final String[][] VARIANTS = {{"br", ".br"}, {"gzip", ".gz"}};
+
+    private static final int HASH_LENGTH = 8;
+
+    private final ResourceHandler resourceHandler;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param resourceHandler the handler to look up the pre-compressed variants, without PrimeFaces wrapping
+     */
+    public PrimeResourceCache(ResourceHandler resourceHandler) {
+        this.resourceHandler = resourceHandler;
+    }
+
+    /**
+     * Gets the cached entry of the given resource, loading it on first access.
+     *
+     * @param resource the resource
+     * @return the entry or <code>null</code> if the resource has no content
+     * @throws IOException if the resource could not be read
+     */
+    public Entry get(Resource resource) throws IOException {
+        if (!isCacheable(resource)) {
+            return null;
+        }
+
+        String key = resource.getLibraryName() + ":" + resource.getResourceName();
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = load(resource);
+            if (entry != null) {
+                Entry previous = entries.putIfAbsent(key, entry);
+                if (previous != null) {
+                    entry = previous;
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Whether the content of the given resource is the same for all requests. The content of stylesheets is not, as the
+     * <code>#{resource[...]}</code> expressions in them are evaluated per request, and the resulting URLs may contain e.g.
+     * the context path, the client window or the session id.
+     *
+     * @param resource the resource
+     * @return <code>false</code> for stylesheets
+     */
+    public static boolean isCacheable(Resource resource) {
+        String resourceName = resource.getResourceName();
+        return !"text/css".equals(resource.getContentType()) && (resourceName == null || !resourceName.endsWith(".css"));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    protected Entry load(Resource resource) throws IOException {
+        byte[] content = read(resource);
+        if (content == null) {
+            return null;
+        }
+
+        byte[] brotli = null;
+        byte[] gzip = null;
+        for (String[] variant : VARIANTS) {
+            Resource compressed = resourceHandler.createResource(resource.getResourceName() + variant[1],
+                    resource.getLibraryName(), resource.getContentType());
+            byte[] compressedContent = compressed == null ? null : read(compressed);
+            if ("br".equals(variant[0])) {
+                brotli = compressedContent;
+            }
+            else {
+                gzip = compressedContent;
+            }
+        }
+
+        if (gzip == null) {
+            gzip = gzip(content);
+            // not worth it for already compressed content like images and fonts
+            if (gzip.length >= content.length) {
+                gzip = null;
+            }
+        }
+
+        return new Entry(resource.getContentType(), hash(content), content, gzip, brotli);
+    }
+
+    protected static byte[] read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return in == null ? null : in.readAllBytes();
+        }
+    }
+
+    protected static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Hashes the given content with SHA-256, hex encoding the first {@value #HASH_LENGTH} bytes.
+     *
+     * @param content the content
+     * @return the hash
+     */
+    public static String hash(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder sb = new StringBuilder(HASH_LENGTH * 2);
+            for (int i = 0; i < HASH_LENGTH; i++) {
+                sb.append(Character.forDigit((hash[i] >> 4) & 0xF, 16)).append(Character.forDigit(hash[i] & 0xF, 16));
+            }
+            return sb.toString();
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new FacesException(e);
+        }
+    }
+
+    public static class Entry {
+
+        private final String contentType;
+        private final String hash;
+        private final String opaqueTag;
+        private final String eTag;
+        private final byte[] content;
+        private final byte[] gzip;
+        private final byte[] brotli;
+
+        public Entry(String contentType, String hash, byte[] content, byte[] gzip, byte[] brotli) {
+            this.contentType = contentType;
+            this.hash = hash;
+            // weak, as the same tag is used for all content codings
+            this.opaqueTag = "\"" + hash + "\"";
+            this.eTag = "W/" + opaqueTag;
+            this.content = content;
+            this.gzip = gzip;
+            this.brotli = brotli;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        /**
+         * @return <code>true</code> if the content may be sent in different encodings
+         */
+        public boolean isCompressed() {
+            return gzip != null || brotli != null;
+        }
+
+        /**
+         * Selects the preferred content coding which is accepted by the client.
+         *
+         * @param acceptEncoding the Accept-Encoding request header
+         * @return <code>br</code>, <code>gzip</code> or <code>null</code> for the identity
+         */
+        public String selectEncoding(String acceptEncoding) {
+            if (brotli != null && PrimeResourceHandler.isEncodingAccepted(acceptEncoding, "br")) {
+                return "br";
+            }
+            if (gzip != null && PrimeResourceHandler.isEncodingAccepted(acceptEncoding, "gzip")) {
+                return "gzip";
+            }
+            return null;
+        }
+
+        public byte[] getContent(String encoding) {
+            if ("br".equals(encoding)) {
+                return brotli;
+            }
+            if ("gzip".equals(encoding)) {
+                return gzip;
+            }
+            return content;
+        }
+
+        /**
+         * Checks the If-None-Match request header against the entity tag.
+         *
+         * @param ifNoneMatch the If-None-Match request header
+         * @return <code>true</code> if the client already has the current content
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.startsWith("W/")) {
+                    trimmed = trimmed.substring(2);
+                }
+                if ("*".equals(trimmed) || opaqueTag.equals(trimmed)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
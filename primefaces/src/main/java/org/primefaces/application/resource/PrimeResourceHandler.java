@@ -24,28 +24,54 @@
 package org.primefaces.application.resource;
 
 import org.primefaces.component.barcode.BarcodeHandler;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import jakarta.faces.application.ProjectStage;
 import jakarta.faces.application.Resource;
 import jakarta.faces.application.ResourceHandler;
 import jakarta.faces.application.ResourceHandlerWrapper;
+import jakarta.faces.context.ExternalContext;
 import jakarta.faces.context.FacesContext;
+import jakarta.servlet.http.HttpServletResponse;
 
 public class PrimeResourceHandler extends ResourceHandlerWrapper {
 
     private static final Logger LOGGER = Logger.getLogger(PrimeResourceHandler.class.getName());
 
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    /**
+     * Same as the default resource max age of Mojarra and MyFaces, i.e. 7 days.
+     */
+    private static final String CACHE_CONTROL = "public, max-age=604800";
+
     private final Map<String, DynamicContentHandler> handlers;
 
+    private final Map<String, String> contentHashes = new ConcurrentHashMap<>();
+
+    // the resources whose content hash is being computed by the current thread, to break reference cycles of stylesheets
+    private final ThreadLocal<Set<String>> computingContentHashes = ThreadLocal.withInitial(HashSet::new);
+
+    private final PrimeResourceCache resourceCache;
+
     public PrimeResourceHandler(ResourceHandler wrapped) {
         super(wrapped);
+        resourceCache = new PrimeResourceCache(wrapped);
         handlers = new HashMap<>();
         handlers.put(DynamicContentType.STREAMED_CONTENT.toString(), new StreamedContentHandler());
 
@@ -73,7 +99,9 @@ public class PrimeResourceHandler extends ResourceHandlerWrapper {
         String handlerType = params.get(Constants.DYNAMIC_CONTENT_TYPE_PARAM);
 
         if (LangUtils.isBlank(handlerType)) {
-            super.handleResourceRequest(context);
+            if (!handlePrimeResourceRequest(context)) {
+                super.handleResourceRequest(context);
+            }
         }
         else {
             DynamicContentHandler handler = handlers.get(handlerType);
@@ -92,10 +120,234 @@ public class PrimeResourceHandler extends ResourceHandlerWrapper {
     private Resource wrapResource(Resource resource, String libraryName) {
         if (resource != null && libraryName != null
                     && (libraryName.toLowerCase().startsWith(Constants.LIBRARY))) {
-            return new PrimeResource(resource);
+            FacesContext context = FacesContext.getCurrentInstance();
+            String contentHash = isResourceContentHash(context) ? getContentHash(resource) : null;
+            return new PrimeResource(resource, contentHash);
         }
         else {
             return resource;
         }
     }
+
+    /**
+     * Serves PrimeFaces resources from the {@link PrimeResourceCache} and/or, if requested with their current content hash as version,
+     * as immutable. As the URL changes together with the content, such a response may be cached forever. Without the cache,
+     * a pre-compressed variant of an immutable resource is sent directly if the client accepts it.
+     * Everything else is left to the wrapped handler.
+     *
+     * @param context the {@link FacesContext}
+     * @return <code>true</code> if the response has been completed
+     * @throws IOException if the resource could not be sent
+     */
+    protected boolean handlePrimeResourceRequest(FacesContext context) throws IOException {
+        boolean contentHash = isResourceContentHash(context);
+        boolean cache = isResourceCache(context);
+        if (!contentHash && !cache) {
+            return false;
+        }
+
+        ExternalContext externalContext = context.getExternalContext();
+        Map<String, String> params = externalContext.getRequestParameterMap();
+        String libraryName = params.get("ln");
+        if (libraryName == null || !libraryName.toLowerCase().startsWith(Constants.LIBRARY)) {
+            return false;
+        }
+
+        Resource resource = resolveRequestedResource(externalContext, libraryName);
+        if (resource == null) {
+            return false;
+        }
+
+        String version = params.get("v");
+        boolean immutable = contentHash && version != null && version.equals(getContentHash(resource));
+
+        if (cache) {
+            PrimeResourceCache.Entry entry = resourceCache.get(resource);
+            if (entry != null) {
+                sendCachedResource(context, entry, immutable);
+                return true;
+            }
+        }
+
+        // the raw pre-compressed variant of a stylesheet lacks its evaluated expressions
+        if (immutable && PrimeResourceCache.isCacheable(resource)) {
+            externalContext.setResponseHeader("Cache-Control", IMMUTABLE_CACHE_CONTROL);
+            externalContext.setResponseHeader("Vary", "Accept-Encoding");
+            return sendPrecompressedResource(context, resource);
+        }
+
+        return false;
+    }
+
+    protected void sendCachedResource(FacesContext context, PrimeResourceCache.Entry entry, boolean immutable) throws IOException {
+        ExternalContext externalContext = context.getExternalContext();
+        Map<String, String> headers = externalContext.getRequestHeaderMap();
+
+        externalContext.setResponseHeader("Cache-Control", immutable ? IMMUTABLE_CACHE_CONTROL : CACHE_CONTROL);
+        externalContext.setResponseHeader("ETag", entry.getETag());
+        if (entry.isCompressed()) {
+            externalContext.setResponseHeader("Vary", "Accept-Encoding");
+        }
+
+        if (entry.matches(headers.get("If-None-Match"))) {
+            externalContext.setResponseStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        }
+        else {
+            String encoding = entry.selectEncoding(headers.get("Accept-Encoding"));
+            byte[] content = entry.getContent(encoding);
+            externalContext.setResponseContentType(entry.getContentType());
+            if (encoding != null) {
+                externalContext.setResponseHeader("Content-Encoding", encoding);
+            }
+            externalContext.setResponseContentLength(content.length);
+            OutputStream out = externalContext.getResponseOutputStream();
+            out.write(content);
+            out.flush();
+        }
+
+        context.responseComplete();
+    }
+
+    protected boolean sendPrecompressedResource(FacesContext context, Resource resource) throws IOException {
+        ExternalContext externalContext = context.getExternalContext();
+        String acceptEncoding = externalContext.getRequestHeaderMap().get("Accept-Encoding");
+        for (String[] variant : PrimeResourceCache.VARIANTS) {
+            if (!isEncodingAccepted(acceptEncoding, variant[0])) {
+                continue;
+            }
+
+            Resource compressed = getWrapped().createResource(resource.getResourceName() + variant[1],
+                    resource.getLibraryName(), resource.getContentType());
+            if (compressed != null) {
+                externalContext.setResponseContentType(resource.getContentType());
+                externalContext.setResponseHeader("Content-Encoding", variant[0]);
+                try (InputStream in = compressed.getInputStream()) {
+                    OutputStream out = externalContext.getResponseOutputStream();
+                    in.transferTo(out);
+                    out.flush();
+                }
+                context.responseComplete();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Resolves the requested resource from the request path, e.g. <code>/jakarta.faces.resource/core.js</code>
+     * for prefix mapping or <code>/jakarta.faces.resource/core.js.xhtml</code> for extension mapping.
+     */
+    protected Resource resolveRequestedResource(ExternalContext externalContext, String libraryName) {
+        String path = externalContext.getRequestServletPath() + Objects.toString(externalContext.getRequestPathInfo(), "");
+        String prefix = ResourceHandler.RESOURCE_IDENTIFIER + "/";
+        int index = path.indexOf(prefix);
+        if (index < 0) {
+            return null;
+        }
+
+        String resourceName = path.substring(index + prefix.length());
+        Resource resource = getWrapped().createResource(resourceName, libraryName);
+        if (resource == null) {
+            int extension = resourceName.lastIndexOf('.');
+            if (extension > 0) {
+                resource = getWrapped().createResource(resourceName.substring(0, extension), libraryName);
+            }
+        }
+        return resource;
+    }
+
+    /**
+     * Gets the hash of the content of the given resource, which is computed once per resource.
+     * <p>
+     * It is computed outside of the map, as reading a stylesheet evaluates its <code>#{resource[...]}</code> expressions,
+     * which get the hashes of the referenced resources again. A resource referenced while its own hash is computed, i.e. in a cycle,
+     * gets none.
+     *
+     * @param resource the resource
+     * @return the hex encoded hash or <code>null</code> if the content could not be read
+     */
+    protected String getContentHash(Resource resource) {
+        String key = resource.getLibraryName() + ":" + resource.getResourceName();
+        String hash = contentHashes.get(key);
+        if (hash == null) {
+            Set<String> computing = computingContentHashes.get();
+            if (!computing.add(key)) {
+                return null;
+            }
+            try {
+                hash = computeContentHash(resource);
+            }
+            finally {
+                computing.remove(key);
+            }
+            if (hash != null) {
+                String previous = contentHashes.putIfAbsent(key, hash);
+                if (previous != null) {
+                    hash = previous;
+                }
+            }
+        }
+        return hash;
+    }
+
+    protected String computeContentHash(Resource resource) {
+        try {
+            byte[] content = PrimeResourceCache.read(resource);
+            return content == null ? null : PrimeResourceCache.hash(content);
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Could not compute content hash of resource: " + resource.getResourceName());
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the given content coding is acceptable according to the Accept-Encoding header,
+     * i.e. it is listed, or <code>*</code> is listed, with a non zero quality value.
+     */
+    static boolean isEncodingAccepted(String acceptEncoding, String encoding) {
+        if (LangUtils.isBlank(acceptEncoding)) {
+            return false;
+        }
+
+        boolean accepted = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean exact = name.equals(encoding);
+            if (!exact && !"*".equals(name)) {
+                continue;
+            }
+
+            boolean zeroQuality = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        zeroQuality = Double.parseDouble(param.substring(2)) <= 0;
+                    }
+                    catch (NumberFormatException e) {
+                        zeroQuality = true;
+                    }
+                }
+            }
+
+            if (exact) {
+                return !zeroQuality;
+            }
+            accepted = !zeroQuality;
+        }
+        return accepted;
+    }
+
+    private static boolean isResourceCache(FacesContext context) {
+        PrimeApplicationContext applicationContext = PrimeApplicationContext.getCurrentInstance(context);
+        return applicationContext != null && applicationContext.getConfig().isResourceCache() && !context.isProjectStage(ProjectStage.Development);
+    }
+
+    private static boolean isResourceContentHash(FacesContext context) {
+        PrimeApplicationContext applicationContext = PrimeApplicationContext.getCurrentInstance(context);
+        return applicationContext != null && applicationContext.getConfig().isResourceContentHash();
+    }
 }
@@ -23,13 +23,27 @@
  */
 package org.primefaces.application.resource;
 
+import org.primefaces.component.export.ExportJob;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.model.StreamedContent;
+import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.Constants;
+import org.primefaces.util.ResourceUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -58,36 +72,57 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
 
             try {
                 ExternalContext externalContext = context.getExternalContext();
-                Map<String, Object> session = externalContext.getSessionMap();
-                Map<String, String> dynamicResourcesMapping = (Map<String, String>) session.get(Constants.DYNAMIC_RESOURCES_MAPPING);
-
-                if (dynamicResourcesMapping != null) {
-                    String dynamicContentEL = dynamicResourcesMapping.get(resourceKey);
-
-                    if (dynamicContentEL != null) {
-                        ELContext eLContext = context.getELContext();
-                        ValueExpression ve = context.getApplication().getExpressionFactory().createValueExpression(
-                                context.getELContext(), dynamicContentEL, Object.class);
-                        Object value = ve.getValue(eLContext);
-
-                        if (value == null) {
-                            if (context.isProjectStage(ProjectStage.Development)) {
-                                LOGGER.log(Level.WARNING,
-                                        "Dynamic content resolved to null - skip streaming resource for ValueExpression: {0}",
-                                        dynamicContentEL);
-                            }
-                            sendNotFound(externalContext);
-                            return;
+
+                if (Boolean.parseBoolean(params.get(Constants.DYNAMIC_CONTENT_EXPORT_PARAM))) {
+                    streamExport(context, resourceKey);
+                    return;
+                }
+
+                String dynamicContentEL = resolveExpression(context, resourceKey);
+
+                if (dynamicContentEL != null) {
+                    ELContext eLContext = context.getELContext();
+                    ValueExpression ve = context.getApplication().getExpressionFactory().createValueExpression(
+                            context.getELContext(), dynamicContentEL, Object.class);
+                    Object value = ve.getValue(eLContext);
+
+                    if (value == null) {
+                        if (context.isProjectStage(ProjectStage.Development)) {
+                            LOGGER.log(Level.WARNING,
+                                    "Dynamic content resolved to null - skip streaming resource for ValueExpression: {0}",
+                                    dynamicContentEL);
                         }
+                        sendNotFound(externalContext);
+                        return;
+                    }
 
-                        if (value instanceof StreamedContent) {
-                            StreamedContent streamedContent = (StreamedContent) value;
-                            if (streamedContent.getWriter() != null) {
-                                setResponseHeaders(streamedContent, externalContext);
-                                stream(externalContext, streamedContent.getWriter(), cache);
+                    if (value instanceof StreamedContent) {
+                        StreamedContent streamedContent = (StreamedContent) value;
+                        if (isNotModified(externalContext, streamedContent)) {
+                            externalContext.setResponseStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                            handleCache(externalContext, cache);
+                        }
+                        else if (streamedContent.getWriter() != null) {
+                            setResponseHeaders(streamedContent, externalContext);
+                            stream(externalContext, streamedContent.getWriter(), cache);
+                        }
+                        else if (streamedContent.getPath() != null) {
+                            setResponseHeaders(streamedContent, externalContext);
+                            stream(externalContext, streamedContent, streamedContent.getPath(), cache);
+                        }
+                        else {
+                            if (streamedContent.getStream() == null) {
+                                if (context.isProjectStage(ProjectStage.Development)) {
+                                    LOGGER.log(Level.WARNING,
+                                            "Stream of StreamedContent resolved to null - skip streaming resource for ValueExpression: {0}",
+                                            dynamicContentEL);
+                                }
+                                sendNotFound(externalContext);
+                                return;
                             }
-                            else {
-                                if (streamedContent.getStream() == null) {
+
+                            try (InputStream inputStream = streamedContent.getStream().get()) {
+                                if (inputStream == null) {
                                     if (context.isProjectStage(ProjectStage.Development)) {
                                         LOGGER.log(Level.WARNING,
                                                 "Stream of StreamedContent resolved to null - skip streaming resource for ValueExpression: {0}",
@@ -96,31 +131,19 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
                                     sendNotFound(externalContext);
                                     return;
                                 }
-
-                                try (InputStream inputStream = streamedContent.getStream().get()) {
-                                    if (inputStream == null) {
-                                        if (context.isProjectStage(ProjectStage.Development)) {
-                                            LOGGER.log(Level.WARNING,
-                                                    "Stream of StreamedContent resolved to null - skip streaming resource for ValueExpression: {0}",
-                                                    dynamicContentEL);
-                                        }
-                                        sendNotFound(externalContext);
-                                        return;
-                                    }
-                                    setResponseHeaders(streamedContent, externalContext);
-                                    stream(externalContext, inputStream, cache);
-                                }
+                                setResponseHeaders(streamedContent, externalContext);
+                                stream(externalContext, streamedContent, inputStream, cache);
                             }
                         }
-                        else if (value instanceof InputStream) {
-                            try (InputStream inputStream = (InputStream) value) {
-                                stream(externalContext, inputStream, cache);
-                            }
+                    }
+                    else if (value instanceof InputStream) {
+                        try (InputStream inputStream = (InputStream) value) {
+                            stream(externalContext, inputStream, cache);
                         }
-                        else if (value instanceof byte[]) {
-                            try (InputStream inputStream = new ByteArrayInputStream((byte[]) value)) {
-                                stream(externalContext, inputStream, cache);
-                            }
+                    }
+                    else if (value instanceof byte[]) {
+                        try (InputStream inputStream = new ByteArrayInputStream((byte[]) value)) {
+                            stream(externalContext, inputStream, cache);
                         }
                     }
                 }
@@ -134,6 +157,56 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
         }
     }
 
+    /**
+     * Streams the file of a finished async export; answers <code>202 Accepted</code> while it is queued or running,
+     * so the client polls again.
+     */
+    protected void streamExport(FacesContext context, String jobId) throws IOException {
+        ExternalContext externalContext = context.getExternalContext();
+        ExportJob job = PrimeApplicationContext.getCurrentInstance(context).getExportJobManager().get(context, jobId);
+        if (job == null) {
+            sendNotFound(externalContext);
+            return;
+        }
+
+        if (job.getStatus() == ExportJob.Status.QUEUED || job.getStatus() == ExportJob.Status.RUNNING) {
+            ResourceUtils.addNoCacheControl(externalContext);
+            externalContext.setResponseStatus(HttpServletResponse.SC_ACCEPTED);
+            externalContext.setResponseHeader("Retry-After", "1");
+            externalContext.setResponseHeader("X-Export-Progress", String.valueOf(job.getProgress()));
+            context.responseComplete();
+            return;
+        }
+
+        StreamedContent streamedContent = job.getContent();
+        if (streamedContent == null) {
+            externalContext.responseSendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Export failed");
+            context.responseComplete();
+            return;
+        }
+
+        setResponseHeaders(streamedContent, externalContext);
+        externalContext.setResponseHeader("Content-Disposition",
+                ComponentUtils.createContentDisposition("attachment", streamedContent.getName()));
+        stream(externalContext, streamedContent, streamedContent.getPath(), false);
+
+        externalContext.responseFlushBuffer();
+        context.responseComplete();
+    }
+
+    /**
+     * @return the expression registered for the resource key, either application-wide or in the session
+     */
+    protected String resolveExpression(FacesContext context, String resourceKey) {
+        if (PrimeApplicationContext.getCurrentInstance(context).getConfig().isDynamicContentApplicationScoped()) {
+            return PrimeApplicationContext.getCurrentInstance(context).getDynamicContentRegistry().resolve(resourceKey);
+        }
+
+        Map<String, Object> session = context.getExternalContext().getSessionMap();
+        Map<String, String> dynamicResourcesMapping = (Map<String, String>) session.get(Constants.DYNAMIC_RESOURCES_MAPPING);
+        return dynamicResourcesMapping == null ? null : dynamicResourcesMapping.get(resourceKey);
+    }
+
     protected void setResponseHeaders(StreamedContent streamedContent, ExternalContext externalContext) {
         if (streamedContent.getContentType() != null) {
             externalContext.setResponseContentType(streamedContent.getContentType());
@@ -155,11 +228,218 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
 
         handleCache(externalContext, cache);
 
-        byte[] buffer = new byte[2048];
+        inputStream.transferTo(externalContext.getResponseOutputStream());
+    }
+
+    protected void stream(ExternalContext externalContext, StreamedContent streamedContent, InputStream inputStream, boolean cache)
+            throws IOException {
+        ByteRange range = startResponse(externalContext, streamedContent.getContentLength(), getETag(streamedContent),
+                streamedContent.getLastModified(), cache);
+        if (range == ByteRange.UNSATISFIABLE) {
+            return;
+        }
+
+        OutputStream outputStream = externalContext.getResponseOutputStream();
+        if (range == null) {
+            inputStream.transferTo(outputStream);
+            return;
+        }
+
+        long skip = range.start;
+        while (skip > 0) {
+            long skipped = inputStream.skip(skip);
+            if (skipped <= 0) {
+                if (inputStream.read() < 0) {
+                    return;
+                }
+                skipped = 1;
+            }
+            skip -= skipped;
+        }
+
+        byte[] buffer = new byte[8192];
+        long remaining = range.getLength();
+        while (remaining > 0) {
+            int length = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (length < 0) {
+                break;
+            }
+            outputStream.write(buffer, 0, length);
+            remaining -= length;
+        }
+    }
+
+    /**
+     * Streams the (requested range of the) file via {@link FileChannel#transferTo}, without reading it into the heap.
+     */
+    protected void stream(ExternalContext externalContext, StreamedContent streamedContent, Path path, boolean cache) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteRange range = startResponse(externalContext, size, getETag(streamedContent), streamedContent.getLastModified(), cache);
+            if (range == ByteRange.UNSATISFIABLE) {
+                return;
+            }
+
+            if (range == null) {
+                range = new ByteRange(0, size - 1);
+            }
+
+            WritableByteChannel target = Channels.newChannel(externalContext.getResponseOutputStream());
+            long position = range.start;
+            long remaining = range.getLength();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * Sets the status and headers of a response which may be restricted to a byte range.
+     *
+     * @return the requested range, <code>null</code> for the full content or {@link ByteRange#UNSATISFIABLE} if nothing must be written
+     */
+    protected ByteRange startResponse(ExternalContext externalContext, Long contentLength, String eTag, Long lastModified, boolean cache) {
+        handleCache(externalContext, cache);
+
+        if (contentLength == null) {
+            externalContext.setResponseStatus(HttpServletResponse.SC_OK);
+            return null;
+        }
+
+        externalContext.setResponseHeader("Accept-Ranges", "bytes");
+
+        ByteRange range = getRange(externalContext, contentLength, eTag, lastModified);
+        if (range == null) {
+            externalContext.setResponseStatus(HttpServletResponse.SC_OK);
+            externalContext.setResponseHeader("Content-Length", String.valueOf(contentLength));
+        }
+        else if (range == ByteRange.UNSATISFIABLE) {
+            externalContext.setResponseStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            externalContext.setResponseHeader("Content-Range", "bytes */" + contentLength);
+            externalContext.setResponseHeader("Content-Length", "0");
+        }
+        else {
+            externalContext.setResponseStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            externalContext.setResponseHeader("Content-Range", "bytes " + range.start + "-" + range.end + "/" + contentLength);
+            externalContext.setResponseHeader("Content-Length", String.valueOf(range.getLength()));
+        }
+        return range;
+    }
+
+    /**
+     * Parses the Range header. Only a single range is supported, multiple ranges are answered with the full content.
+     */
+    protected ByteRange getRange(ExternalContext externalContext, long contentLength, String eTag, Long lastModified) {
+        Map<String, String> headers = externalContext.getRequestHeaderMap();
+        String rangeHeader = headers.get("Range");
+        if (rangeHeader == null || !rangeHeader.startsWith("bytes=") || rangeHeader.indexOf(',') >= 0) {
+            return null;
+        }
+
+        // only send a part, if the client still has the same representation
+        String ifRange = headers.get("If-Range");
+        if (ifRange != null) {
+            boolean sameETag = eTag != null && !eTag.startsWith("W/") && ifRange.equals(eTag);
+            Long ifRangeDate = parseHttpDate(ifRange);
+            boolean sameDate = ifRangeDate != null && lastModified != null && ifRangeDate / 1000 == lastModified / 1000;
+            if (!sameETag && !sameDate) {
+                return null;
+            }
+        }
+
+        String spec = rangeHeader.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            String start = spec.substring(0, dash).trim();
+            String end = spec.substring(dash + 1).trim();
+            if (start.isEmpty()) {
+                // suffix range, the last n bytes
+                long suffixLength = Long.parseLong(end);
+                if (suffixLength <= 0 || contentLength == 0) {
+                    return ByteRange.UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, contentLength - suffixLength), contentLength - 1);
+            }
 
-        int length;
-        while ((length = (inputStream.read(buffer))) >= 0) {
-            externalContext.getResponseOutputStream().write(buffer, 0, length);
+            long first = Long.parseLong(start);
+            long last = end.isEmpty() ? contentLength - 1 : Math.min(Long.parseLong(end), contentLength - 1);
+            if (first >= contentLength || last < first) {
+                return ByteRange.UNSATISFIABLE;
+            }
+            return new ByteRange(first, last);
+        }
+        catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Sets the ETag and Last-Modified headers and evaluates If-None-Match and If-Modified-Since.
+     *
+     * @return <code>true</code> if the client already has the current representation
+     */
+    protected boolean isNotModified(ExternalContext externalContext, StreamedContent streamedContent) {
+        String eTag = getETag(streamedContent);
+        Long lastModified = streamedContent.getLastModified();
+        if (eTag != null) {
+            externalContext.setResponseHeader("ETag", eTag);
+        }
+        if (lastModified != null) {
+            externalContext.setResponseHeader("Last-Modified",
+                    DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(lastModified).atZone(ZoneOffset.UTC)));
+        }
+
+        Map<String, String> headers = externalContext.getRequestHeaderMap();
+        String ifNoneMatch = headers.get("If-None-Match");
+        if (ifNoneMatch != null) {
+            if (eTag == null) {
+                return false;
+            }
+            String opaqueTag = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+            for (String candidate : ifNoneMatch.split(",")) {
+                candidate = candidate.trim();
+                if ("*".equals(candidate) || opaqueTag.equals(candidate.startsWith("W/") ? candidate.substring(2) : candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        String ifModifiedSince = headers.get("If-Modified-Since");
+        if (ifModifiedSince != null && lastModified != null) {
+            Long since = parseHttpDate(ifModifiedSince);
+            return since != null && lastModified / 1000 <= since / 1000;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the entity tag of the content or a weak one derived from its length and last modification time
+     */
+    protected String getETag(StreamedContent streamedContent) {
+        String eTag = streamedContent.getETag();
+        if (eTag == null && streamedContent.getContentLength() != null && streamedContent.getLastModified() != null) {
+            eTag = "W/\"" + Long.toHexString(streamedContent.getContentLength()) + "-" + Long.toHexString(streamedContent.getLastModified()) + "\"";
+        }
+        return eTag;
+    }
+
+    protected Long parseHttpDate(String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        }
+        catch (DateTimeParseException e) {
+            return null;
         }
     }
 
@@ -178,4 +458,32 @@ public class StreamedContentHandler extends BaseDynamicContentHandler {
             externalContext.responseSendError(HttpServletResponse.SC_NOT_FOUND, null);
         }
     }
+
+    /**
+     * Inclusive byte range of a partial response.
+     */
+    protected static final class ByteRange {
+
+        public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+        private final long start;
+        private final long end;
+
+        public ByteRange(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        public long getLength() {
+            return end - start + 1;
+        }
+    }
 }
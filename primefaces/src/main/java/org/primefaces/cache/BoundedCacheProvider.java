@@ -0,0 +1,384 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+import org.primefaces.util.LangUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded in-process cache provider, which can be used in production without any additional dependency.
+ * <p>
+ * Each region is limited by a maximum number of entries and/or a maximum weight and supports expiration after write (TTL)
+ * and after access (TTI). New entries enter a small LRU window; entries which overflow the window are only admitted into the
+ * main LRU space if they were requested more frequently than the entry they would replace (W-TinyLFU style admission),
+ * so one-hit wonders don't flush popular entries. Hits, misses and evictions are counted per region, see {@link #getStats(String)}.
+ * <p>
+ * Regions are configured with the optional classpath resource {@value #CONFIG_RESOURCE}, e.g.:
+ * <pre>
+ * maxEntries=10000
+ * expireAfterWrite=3600
+ * region./products.xhtml.maxWeight=5000000
+ * region./products.xhtml.expireAfterAccess=600
+ * </pre>
+ * The keys without prefix define the defaults of all regions ({@code maxEntries} defaults to {@value #DEFAULT_MAX_ENTRIES}),
+ * keys with the {@code region.<name>.} prefix override them for a single region. Times are in seconds, 0 means unlimited.
+ */
+public class BoundedCacheProvider implements CacheProvider {
+
+    public static final String CONFIG_RESOURCE = "/primefaces-cache.properties";
+    public static final long DEFAULT_MAX_ENTRIES = 10000;
+
+    private static final Logger LOGGER = Logger.getLogger(BoundedCacheProvider.class.getName());
+    private static final String REGION_PREFIX = "region.";
+
+    private final Properties config;
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    public BoundedCacheProvider() {
+        this(loadConfig());
+    }
+
+    public BoundedCacheProvider(Properties config) {
+        this.config = config;
+    }
+
+    @Override
+    public Object get(String region, String key) {
+        return getRegion(region).get(key);
+    }
+
+    @Override
+    public void put(String region, String key, Object object) {
+        getRegion(region).put(key, object);
+    }
+
+    @Override
+    public void remove(String region, String key) {
+        getRegion(region).remove(key);
+    }
+
+    @Override
+    public void clear() {
+        regions.clear();
+    }
+
+    /**
+     * @param region the name of the region
+     * @return a snapshot of the statistics of the region
+     */
+    public Stats getStats(String region) {
+        return getRegion(region).getStats();
+    }
+
+    /**
+     * Calculates the weight of a value, which is limited per region by {@code maxWeight}.
+     * Defaults to the length of Strings, byte arrays and {@link CachedFragment}s, 1 for all other values.
+     *
+     * @param value the cached value
+     * @return the weight, at least 1
+     */
+    protected long weigh(Object value) {
+        if (value instanceof CharSequence) {
+            return Math.max(1, ((CharSequence) value).length());
+        }
+        if (value instanceof byte[]) {
+            return Math.max(1, ((byte[]) value).length);
+        }
+        if (value instanceof CachedFragment) {
+            return Math.max(1, ((CachedFragment) value).getSize());
+        }
+        return 1;
+    }
+
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    protected Region getRegion(String name) {
+        return regions.computeIfAbsent(name, this::createRegion);
+    }
+
+    protected Region createRegion(String name) {
+        String prefix = REGION_PREFIX + name + ".";
+        long maxEntries = getLong(prefix, "maxEntries", DEFAULT_MAX_ENTRIES);
+        long maxWeight = getLong(prefix, "maxWeight", 0);
+        long expireAfterWrite = TimeUnit.SECONDS.toNanos(getLong(prefix, "expireAfterWrite", 0));
+        long expireAfterAccess = TimeUnit.SECONDS.toNanos(getLong(prefix, "expireAfterAccess", 0));
+        return new Region(maxEntries, maxWeight, expireAfterWrite, expireAfterAccess);
+    }
+
+    private long getLong(String prefix, String name, long defaultValue) {
+        String value = config.getProperty(prefix + name, config.getProperty(name));
+        return LangUtils.isBlank(value) ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    private static Properties loadConfig() {
+        Properties properties = new Properties();
+        try (InputStream is = BoundedCacheProvider.class.getResourceAsStream(CONFIG_RESOURCE)) {
+            if (is != null) {
+                properties.load(is);
+            }
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not load " + CONFIG_RESOURCE + ", using defaults", e);
+        }
+        return properties;
+    }
+
+    protected static final class Entry {
+
+        private Object value;
+        private long weight;
+        private long writeTime;
+        private long accessTime;
+    }
+
+    /**
+     * A single cache region. All operations are synchronized on the region.
+     */
+    protected class Region {
+
+        private final long maxEntries;
+        private final long maxWeight;
+        private final long expireAfterWrite;
+        private final long expireAfterAccess;
+        private final int maxWindowSize;
+        private final FrequencySketch sketch;
+
+        // access ordered, eldest entry first
+        private final LinkedHashMap<String, Entry> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<String, Entry> main = new LinkedHashMap<>(16, 0.75f, true);
+
+        private long weight;
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+        private long expirationCount;
+
+        protected Region(long maxEntries, long maxWeight, long expireAfterWrite, long expireAfterAccess) {
+            this.maxEntries = maxEntries <= 0 ? Long.MAX_VALUE : maxEntries;
+            this.maxWeight = maxWeight <= 0 ? Long.MAX_VALUE : maxWeight;
+            this.expireAfterWrite = expireAfterWrite;
+            this.expireAfterAccess = expireAfterAccess;
+            this.maxWindowSize = (int) Math.max(1, Math.min(this.maxEntries / 100, Integer.MAX_VALUE));
+            this.sketch = new FrequencySketch(maxEntries <= 0 ? DEFAULT_MAX_ENTRIES : maxEntries);
+        }
+
+        protected synchronized Object get(String key) {
+            sketch.increment(key);
+
+            Entry entry = window.get(key);
+            if (entry == null) {
+                entry = main.get(key);
+            }
+
+            long now = nanoTime();
+            if (entry != null && isExpired(entry, now)) {
+                discard(key);
+                expirationCount++;
+                entry = null;
+            }
+
+            if (entry == null) {
+                missCount++;
+                return null;
+            }
+
+            hitCount++;
+            entry.accessTime = now;
+            return entry.value;
+        }
+
+        protected synchronized void put(String key, Object value) {
+            if (value == null) {
+                discard(key);
+                return;
+            }
+
+            sketch.increment(key);
+
+            long now = nanoTime();
+            Entry entry = window.get(key);
+            if (entry == null) {
+                entry = main.get(key);
+            }
+
+            if (entry == null) {
+                entry = new Entry();
+                window.put(key, entry);
+                sketch.ensureCapacity(window.size() + main.size());
+            }
+            else {
+                weight -= entry.weight;
+            }
+
+            entry.value = value;
+            entry.weight = weigh(value);
+            entry.writeTime = now;
+            entry.accessTime = now;
+            weight += entry.weight;
+
+            evict();
+        }
+
+        protected synchronized void remove(String key) {
+            discard(key);
+        }
+
+        protected synchronized Stats getStats() {
+            return new Stats(window.size() + main.size(), weight, hitCount, missCount, evictionCount, expirationCount);
+        }
+
+        protected boolean isExpired(Entry entry, long now) {
+            return (expireAfterWrite > 0 && now - entry.writeTime >= expireAfterWrite)
+                    || (expireAfterAccess > 0 && now - entry.accessTime >= expireAfterAccess);
+        }
+
+        private void discard(String key) {
+            Entry entry = window.remove(key);
+            if (entry == null) {
+                entry = main.remove(key);
+            }
+            if (entry != null) {
+                weight -= entry.weight;
+            }
+        }
+
+        private void evict() {
+            // move the overflow of the window into the main space and let the less frequent one of
+            // the candidate and the eldest main entry go, if the region is full
+            while (window.size() > maxWindowSize) {
+                Map.Entry<String, Entry> candidate = eldest(window);
+                window.remove(candidate.getKey());
+                main.put(candidate.getKey(), candidate.getValue());
+
+                if (isOverflow() && main.size() > 1) {
+                    Map.Entry<String, Entry> victim = eldest(main);
+                    if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey())) {
+                        evict(main, victim);
+                    }
+                    else {
+                        evict(main, candidate);
+                    }
+                }
+            }
+
+            // still overflowing, e.g. due to heavy entries
+            while (isOverflow() && !(main.isEmpty() && window.isEmpty())) {
+                Map<String, Entry> source = main.isEmpty() ? window : main;
+                evict(source, eldest(source));
+            }
+        }
+
+        private void evict(Map<String, Entry> source, Map.Entry<String, Entry> entry) {
+            source.remove(entry.getKey());
+            weight -= entry.getValue().weight;
+            evictionCount++;
+        }
+
+        private boolean isOverflow() {
+            return window.size() + main.size() > maxEntries || weight > maxWeight;
+        }
+
+        private Map.Entry<String, Entry> eldest(Map<String, Entry> map) {
+            Iterator<Map.Entry<String, Entry>> iterator = map.entrySet().iterator();
+            Map.Entry<String, Entry> eldest = iterator.next();
+            return new AbstractMap.SimpleImmutableEntry<>(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Snapshot of the statistics of a region.
+     */
+    public static final class Stats {
+
+        private final long size;
+        private final long weight;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long expirationCount;
+
+        public Stats(long size, long weight, long hitCount, long missCount, long evictionCount, long expirationCount) {
+            this.size = size;
+            this.weight = weight;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.expirationCount = expirationCount;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getExpirationCount() {
+            return expirationCount;
+        }
+
+        public double getHitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "size=" + size +
+                    ", weight=" + weight +
+                    ", hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", evictionCount=" + evictionCount +
+                    ", expirationCount=" + expirationCount +
+                    '}';
+        }
+    }
+}
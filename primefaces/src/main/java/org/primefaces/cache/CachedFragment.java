@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import jakarta.faces.FacesException;
+
+/**
+ * Rendered markup stored by p:cache as UTF-8 encoded bytes, optionally deflated.
+ */
+public class CachedFragment implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] data;
+    private final int length;
+    private final boolean compressed;
+
+    protected CachedFragment(byte[] data, int length, boolean compressed) {
+        this.data = data;
+        this.length = length;
+        this.compressed = compressed;
+    }
+
+    /**
+     * @param bytes the UTF-8 encoded markup
+     * @param compressionThreshold minimum number of bytes to deflate the markup, 0 or less to never compress it
+     * @return the fragment
+     */
+    public static CachedFragment of(byte[] bytes, int compressionThreshold) {
+        if (compressionThreshold > 0 && bytes.length >= compressionThreshold) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(bytes);
+                deflater.finish();
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+                byte[] buffer = new byte[8192];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+
+                // not worth to inflate it on every hit
+                if (out.size() < bytes.length) {
+                    return new CachedFragment(out.toByteArray(), bytes.length, true);
+                }
+            }
+            finally {
+                deflater.end();
+            }
+        }
+
+        return new CachedFragment(bytes, bytes.length, false);
+    }
+
+    /**
+     * @return the decoded markup
+     */
+    public String getContent() {
+        return new String(getBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the UTF-8 encoded markup, inflated if required
+     */
+    public byte[] getBytes() {
+        if (!compressed) {
+            return data;
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                offset += inflater.inflate(bytes, offset, length - offset);
+            }
+            return bytes;
+        }
+        catch (DataFormatException e) {
+            throw new FacesException("Cached fragment is corrupt", e);
+        }
+        finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @return the number of bytes held in memory
+     */
+    public int getSize() {
+        return data.length;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+}
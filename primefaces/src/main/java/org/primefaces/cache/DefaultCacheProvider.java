@@ -39,7 +39,8 @@ public class DefaultCacheProvider implements CacheProvider {
 
     public DefaultCacheProvider() {
         cache = new ConcurrentHashMap<>();
-        LOGGER.warning("DefaultCacheProvider is for development purposes only, prefer another provider such as EhCache, HazelCast, or Caffeine in production.");
+        LOGGER.warning("DefaultCacheProvider is for development purposes only, "
+                + "prefer another provider such as BoundedCacheProvider, EhCache, HazelCast, or Caffeine in production.");
     }
 
     @Override
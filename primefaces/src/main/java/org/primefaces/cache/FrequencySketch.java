@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+/**
+ * Probabilistic frequency counter (Count-Min sketch with 4-bit counters), as used by TinyLFU admission policies.
+ * All counters are halved periodically, so the history of the sketch ages and recent popularity wins.
+ * <p>
+ * Sixteen counters are packed into a <code>long</code> and the table is sized lazily to the number of elements,
+ * see {@link #ensureCapacity(long)}. It takes 8 bytes per element, up to {@value #MAX_TABLE_LENGTH} elements.
+ * <p>
+ * This class is not thread-safe, callers must synchronize.
+ */
+public class FrequencySketch {
+
+    /**
+     * The maximum length of the table, 8MB.
+     */
+    public static final int MAX_TABLE_LENGTH = 1 << 20;
+
+    private static final int MIN_TABLE_LENGTH = 16;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    private final int maximumLength;
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    /**
+     * @param maximumSize the expected maximum number of distinct elements
+     */
+    public FrequencySketch(long maximumSize) {
+        maximumLength = ceilingPowerOfTwo(Math.min(maximumSize, MAX_TABLE_LENGTH));
+        table = new long[Math.min(MIN_TABLE_LENGTH, maximumLength)];
+        tableMask = table.length - 1;
+        sampleSize = 10 * table.length;
+    }
+
+    /**
+     * Grows the table to the given number of elements, as long as it doesn't exceed the maximum size.
+     * The current counters are discarded, if it grows.
+     *
+     * @param expectedSize the number of distinct elements, e.g. the current size of the cache
+     */
+    public void ensureCapacity(long expectedSize) {
+        int length = ceilingPowerOfTwo(Math.min(expectedSize, maximumLength));
+        if (length > table.length) {
+            table = new long[length];
+            tableMask = length - 1;
+            sampleSize = 10 * length;
+            size = 0;
+        }
+    }
+
+    /**
+     * @param e the element
+     * @return the estimated number of occurrences of the element, at most 15
+     */
+    public int frequency(Object e) {
+        int hash = spread(e.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the occurrences of the element and ages all counters, once the sample size is reached.
+     *
+     * @param e the element
+     */
+    public void increment(Object e) {
+        int hash = spread(e.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    protected void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (odd >>> 2);
+    }
+
+    private boolean incrementAt(int i, int j) {
+        int offset = j << 2;
+        long mask = 0xfL << offset;
+        if ((table[i] & mask) != mask) {
+            table[i] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private int indexOf(int hash, int depth) {
+        long h = (hash + SEEDS[depth]) * SEEDS[depth];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int ceilingPowerOfTwo(long x) {
+        return x <= 1 ? 1 : Integer.highestOneBit((int) (x - 1)) << 1;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
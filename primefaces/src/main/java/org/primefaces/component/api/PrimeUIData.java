@@ -40,7 +40,9 @@ import java.util.logging.Logger;
 
 import jakarta.faces.FacesException;
 import jakarta.faces.application.ProjectStage;
+import jakarta.faces.component.EditableValueHolder;
 import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.UIForm;
 import jakarta.faces.component.visit.VisitCallback;
 import jakarta.faces.component.visit.VisitContext;
 import jakarta.faces.component.visit.VisitContextWrapper;
@@ -55,6 +57,8 @@ public class PrimeUIData extends UIDataPatch {
 
     private static final Logger LOGGER = Logger.getLogger(PrimeUIData.class.getName());
 
+    private Boolean readOnlyIteration;
+
     public enum PropertyKeys {
         rowIndexVar,
         lazy,
@@ -197,9 +201,109 @@ public class PrimeUIData extends UIDataPatch {
 
     @Override
     protected void setRowIndexWithoutRowStatePreserved(int rowIndex) {
-        saveDescendantState();
-        setRowModel(rowIndex);
-        restoreDescendantState();
+        if (isReadOnlyIteration()) {
+            setRowModel(rowIndex);
+            resetDescendantClientIds();
+        }
+        else {
+            saveDescendantState();
+            setRowModel(rowIndex);
+            restoreDescendantState();
+        }
+
+        if (rowIndex == -1) {
+            // decided again for the next iteration, the children may have been changed in between, e.g. by c:if or programmatically
+            readOnlyIteration = null;
+        }
+    }
+
+    /**
+     * Whether the rows can be iterated without saving and restoring the state of the descendants, as none of them keeps per-row state,
+     * i.e. there is no {@link EditableValueHolder} or {@link UIForm} within the row components, see {@link #isRowComponent(UIComponent)}.
+     * Only the client ids of the row components and their descendants are reset on row changes then. Decided once per iteration,
+     * on its first row change.
+     *
+     * @return <code>true</code> if no descendant keeps per-row state
+     */
+    public boolean isReadOnlyIteration() {
+        if (readOnlyIteration == null) {
+            readOnlyIteration = !hasRowStateDescendants();
+        }
+        return readOnlyIteration;
+    }
+
+    /**
+     * Whether the given child is rendered for each row. All children by default, facets are never rendered per row.
+     *
+     * @param kid a child of this component
+     * @return <code>true</code> if the child is rendered per row
+     */
+    protected boolean isRowComponent(UIComponent kid) {
+        return true;
+    }
+
+    protected boolean hasRowStateDescendants() {
+        for (int i = 0; i < getChildCount(); i++) {
+            UIComponent kid = getChildren().get(i);
+            if (isRowComponent(kid) && (isRowStateComponent(kid) || hasRowStateDescendants(kid))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean hasRowStateDescendants(UIComponent component) {
+        for (int i = 0; i < component.getChildCount(); i++) {
+            UIComponent kid = component.getChildren().get(i);
+            if (isRowStateComponent(kid) || hasRowStateDescendants(kid)) {
+                return true;
+            }
+        }
+
+        if (component.getFacetCount() > 0) {
+            for (UIComponent facet : component.getFacets().values()) {
+                if (isRowStateComponent(facet) || hasRowStateDescendants(facet)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isRowStateComponent(UIComponent component) {
+        return component instanceof EditableValueHolder || component instanceof UIForm;
+    }
+
+    /**
+     * Resets the client ids of the row components and their descendants, what {@link #restoreDescendantState()} does for components
+     * without state.
+     */
+    protected void resetDescendantClientIds() {
+        for (int i = 0; i < getChildCount(); i++) {
+            UIComponent kid = getChildren().get(i);
+            if (isRowComponent(kid)) {
+                // forces the client id to be reset
+                kid.setId(kid.getId());
+                resetClientIds(kid);
+            }
+        }
+    }
+
+    protected void resetClientIds(UIComponent component) {
+        for (int i = 0; i < component.getChildCount(); i++) {
+            UIComponent kid = component.getChildren().get(i);
+            // forces the client id to be reset
+            kid.setId(kid.getId());
+            resetClientIds(kid);
+        }
+
+        if (component.getFacetCount() > 0) {
+            for (UIComponent facet : component.getFacets().values()) {
+                facet.setId(facet.getId());
+                resetClientIds(facet);
+            }
+        }
     }
 
     public void setRowModel(int rowIndex) {
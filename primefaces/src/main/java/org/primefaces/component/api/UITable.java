@@ -25,6 +25,7 @@ package org.primefaces.component.api;
 
 import org.primefaces.component.column.ColumnBase;
 import org.primefaces.component.headerrow.HeaderRow;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.expression.SearchExpressionUtils;
 import org.primefaces.model.ColumnMeta;
 import org.primefaces.model.FilterMeta;
@@ -407,6 +408,19 @@ public interface UITable<T extends UITableState> extends ColumnAware, MultiViewS
                 .collect(Collectors.joining("','", "['", "']"));
     }
 
+    /**
+     * Whether the given number of rows should be filtered and sorted in parallel,
+     * see {@link org.primefaces.util.Constants.ContextParams#PARALLEL_TABLE_THRESHOLD}.
+     *
+     * @param context the {@link FacesContext}
+     * @param rowCount the number of rows
+     * @return true if the configured threshold is reached
+     */
+    default boolean isParallelThresholdReached(FacesContext context, int rowCount) {
+        int threshold = PrimeApplicationContext.getCurrentInstance(context).getConfig().getParallelTableThreshold();
+        return threshold > 0 && rowCount >= threshold;
+    }
+
     default boolean isSortingEnabled() {
         return !getSortByAsMap().isEmpty();
     }
@@ -40,6 +40,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +72,8 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
     public static final String REQUIRED_MESSAGE_ID = "primefaces.tree.REQUIRED";
     public static final String CHECKBOX_CLASS = "ui-selection";
     public static final String ROOT_ROW_KEY = "root";
+    public static final String LOAD_MORE_MESSAGE_ID = "primefaces.tree.LOAD_MORE";
+    public static final String LOAD_MORE_CLASS = "ui-treenode-loadmore";
     private static final String SB_GET_CONTAINER_CLIENT_ID = UITree.class.getName() + "#getContainerClientId";
     private static final String SB_GET_SELECTED_ROW_KEYS_AS_STRING = UITree.class.getName() + "#getSelectedRowKeysAsString";
 
@@ -82,6 +85,11 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
 
     private List<TreeNode<?>> preselection;
 
+    // rowKey -> node of the last indexed tree, filled while (re)building the rowKeys
+    private transient Map<String, TreeNode<?>> rowKeyIndex;
+
+    private transient TreeNode<?> rowKeyIndexRoot;
+
     public enum PropertyKeys {
         var,
         selectionMode,
@@ -262,47 +270,103 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
             return getValue();
         }
 
-        String[] paths = rowKey.split(SEPARATOR);
-
-        if (paths.length == 0) {
-            return null;
+        if (rowKeyIndexRoot == searchRoot) {
+            TreeNode<?> node = rowKeyIndex.get(rowKey);
+            if (node != null && rowKey.equals(node.getRowKey()) && isAttached(searchRoot, node, rowKey)) {
+                return node;
+            }
         }
 
-        int childIndex = Integer.parseInt(paths[0]);
-        if (childIndex >= searchRoot.getChildCount()) {
-            return null;
+        TreeNode<?> node = findTreeNodeByPath(searchRoot, rowKey);
+        if (node != null && rowKey.equals(node.getRowKey())) {
+            getRowKeyIndex(searchRoot).put(rowKey, node);
         }
+        return node;
+    }
 
-        searchRoot = searchRoot.getChildren().get(childIndex);
+    /**
+     * Resolves the node by walking down the child indexes of the rowKey, without splitting it into substrings.
+     */
+    protected TreeNode<?> findTreeNodeByPath(TreeNode<?> searchRoot, String rowKey) {
+        TreeNode<?> node = searchRoot;
+        int childIndex = 0;
+        boolean digits = false;
 
-        if (paths.length == 1) {
-            return searchRoot;
+        for (int i = 0; i <= rowKey.length(); i++) {
+            char c = i < rowKey.length() ? rowKey.charAt(i) : SEPARATOR.charAt(0);
+            if (c == SEPARATOR.charAt(0)) {
+                if (!digits) {
+                    // trailing separators are ignored, as by String#split
+                    if (i > 0 && i == rowKey.length()) {
+                        return node;
+                    }
+                    throw new NumberFormatException("For input string: \"" + rowKey + "\"");
+                }
+                if (childIndex >= node.getChildCount()) {
+                    return null;
+                }
+                node = node.getChildren().get(childIndex);
+                childIndex = 0;
+                digits = false;
+            }
+            else if (c >= '0' && c <= '9') {
+                childIndex = childIndex * 10 + (c - '0');
+                digits = true;
+            }
+            else {
+                throw new NumberFormatException("For input string: \"" + rowKey + "\"");
+            }
         }
-        else {
-            String relativeRowKey = rowKey.substring(rowKey.indexOf(SEPARATOR) + 1);
 
-            return findTreeNode(searchRoot, relativeRowKey);
-        }
+        return node;
     }
 
-    public void buildRowKeys(TreeNode<?> node) {
-        if (node instanceof LazyTreeNode && !((LazyTreeNode) node).isLoaded()) {
-            return;
+    /**
+     * Checks if an indexed node is still part of the tree at the position of its rowKey,
+     * as the tree might have been modified after it has been indexed.
+     */
+    protected boolean isAttached(TreeNode<?> searchRoot, TreeNode<?> node, String rowKey) {
+        TreeNode<?> parent = node.getParent();
+        if (parent == null) {
+            return false;
         }
 
-        int childCount = node.getChildCount();
-        if (childCount > 0) {
-            for (int i = 0; i < childCount; i++) {
-                TreeNode<?> childNode = node.getChildren().get(i);
-                if (childNode.isSelected()) {
-                    addToPreselection(childNode);
-                }
+        int childIndex = 0;
+        int multiplier = 1;
+        for (int i = rowKey.length() - 1; i >= 0 && rowKey.charAt(i) != SEPARATOR.charAt(0); i--) {
+            childIndex += (rowKey.charAt(i) - '0') * multiplier;
+            multiplier *= 10;
+        }
+        if (childIndex >= parent.getChildCount() || parent.getChildren().get(childIndex) != node) {
+            return false;
+        }
 
-                String childRowKey = (node.getParent() == null) ? String.valueOf(i) : node.getRowKey() + "_" + i;
-                childNode.setRowKey(childRowKey);
-                buildRowKeys(childNode);
+        while (parent != null) {
+            if (parent == searchRoot) {
+                return true;
             }
+            parent = parent.getParent();
         }
+        return false;
+    }
+
+    protected Map<String, TreeNode<?>> getRowKeyIndex(TreeNode<?> root) {
+        if (rowKeyIndexRoot != root) {
+            rowKeyIndex = new HashMap<>();
+            rowKeyIndexRoot = root;
+        }
+        return rowKeyIndex;
+    }
+
+    protected TreeNode<?> getRoot(TreeNode<?> node) {
+        while (node.getParent() != null) {
+            node = node.getParent();
+        }
+        return node;
+    }
+
+    public void buildRowKeys(TreeNode<?> node) {
+        buildRowKeys(node, getRowKeyIndex(getRoot(node)), true);
     }
 
     public void populateRowKeys(TreeNode<?> node, List<String> keys) {
@@ -325,22 +389,93 @@ public abstract class UITree extends UIComponentBase implements NamingContainer
     }
 
     public void updateRowKeys(TreeNode<?> node) {
+        buildRowKeys(node, getRowKeyIndex(getRoot(node)), false);
+    }
+
+    protected void buildRowKeys(TreeNode<?> node, Map<String, TreeNode<?>> index, boolean preselect) {
         if (node instanceof LazyTreeNode && !((LazyTreeNode) node).isLoaded()) {
             return;
         }
 
         int childCount = node.getChildCount();
         if (childCount > 0) {
+            String parentRowKey = node.getParent() == null ? null : node.getRowKey();
             for (int i = 0; i < childCount; i++) {
                 TreeNode<?> childNode = node.getChildren().get(i);
+                if (preselect && childNode.isSelected()) {
+                    addToPreselection(childNode);
+                }
 
-                String childRowKey = (node.getParent() == null) ? String.valueOf(i) : node.getRowKey() + "_" + i;
-                childNode.setRowKey(childRowKey);
-                updateRowKeys(childNode); // should we comment this to enable lazy loading?
+                // the TreeNode implementations usually keep their rowKeys up to date, so avoid creating a new String per node
+                String childRowKey = childNode.getRowKey();
+                if (!isChildRowKey(childRowKey, parentRowKey, i)) {
+                    childRowKey = childRowKey(parentRowKey, i);
+                    childNode.setRowKey(childRowKey);
+                }
+                index.put(childRowKey, childNode);
+                buildRowKeys(childNode, index, preselect);
             }
         }
     }
 
+    /**
+     * Checks if the given rowKey equals {@code parentRowKey + SEPARATOR + childIndex} without creating the String.
+     */
+    protected static boolean isChildRowKey(String rowKey, String parentRowKey, int childIndex) {
+        if (rowKey == null) {
+            return false;
+        }
+
+        int offset = 0;
+        if (parentRowKey != null) {
+            offset = parentRowKey.length() + 1;
+            if (rowKey.length() <= offset || rowKey.charAt(offset - 1) != SEPARATOR.charAt(0) || !rowKey.startsWith(parentRowKey)) {
+                return false;
+            }
+        }
+
+        int length = rowKey.length() - offset;
+        if (length == 0 || length > 10 || (length > 1 && rowKey.charAt(offset) == '0')) {
+            return false;
+        }
+
+        long value = 0;
+        for (int i = offset; i < rowKey.length(); i++) {
+            char c = rowKey.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value == childIndex;
+    }
+
+    public boolean isLoadMoreRequest(FacesContext context) {
+        return context.getExternalContext().getRequestParameterMap().containsKey(getClientId(context) + "_loadMore");
+    }
+
+    /**
+     * Loads the next page of children of the node requested via {@code _loadMore}.
+     *
+     * @return the index of the first loaded child or {@code -1} if the node does not support paged loading or has no more children.
+     */
+    public int loadMoreChildren(FacesContext context, TreeNode<?> node) {
+        if (!hasMoreChildren(node)) {
+            return -1;
+        }
+        return ((LazyTreeNode) node).loadMoreChildren();
+    }
+
+    public static boolean hasMoreChildren(TreeNode<?> node) {
+        return node instanceof LazyTreeNode && ((LazyTreeNode) node).hasMoreChildren();
+    }
+
+    public String getLoadMoreLabel(FacesContext context, TreeNode<?> node) {
+        String label = MessageFactory.getMessage(context, LOAD_MORE_MESSAGE_ID);
+        int totalChildCount = ((LazyTreeNode) node).getTotalChildCount();
+        return totalChildCount < 0 ? label : label + " (" + node.getChildCount() + "/" + totalChildCount + ")";
+    }
+
     public void initPreselection() {
         ValueExpression ve = getValueExpression(UITree.PropertyKeys.selection.toString());
         if (ve != null) {
@@ -37,7 +37,8 @@ public abstract class UICacheBase extends UIPanel {
         disabled,
         region,
         key,
-        processEvents
+        processEvents,
+        compressionThreshold
     }
 
     public UICacheBase() {
@@ -81,4 +82,12 @@ public abstract class UICacheBase extends UIPanel {
         getStateHelper().put(PropertyKeys.processEvents, processEvents);
     }
 
+    public int getCompressionThreshold() {
+        return (Integer) getStateHelper().eval(PropertyKeys.compressionThreshold, 0);
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        getStateHelper().put(PropertyKeys.compressionThreshold, compressionThreshold);
+    }
+
 }
\ No newline at end of file
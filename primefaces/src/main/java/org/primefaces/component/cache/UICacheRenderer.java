@@ -24,12 +24,20 @@
 package org.primefaces.component.cache;
 
 import org.primefaces.cache.CacheProvider;
+import org.primefaces.cache.CachedFragment;
 import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.context.PrimeRequestContext;
 import org.primefaces.renderkit.CoreRenderer;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,8 +46,15 @@ import jakarta.faces.context.ResponseWriter;
 
 public class UICacheRenderer extends CoreRenderer<UICache> {
 
+    /**
+     * How long a request waits for the concurrent rendering of the same fragment, before it renders the fragment on its own.
+     */
+    public static final long IN_FLIGHT_TIMEOUT_MILLIS = 10_000;
+
     private static final Logger LOGGER = Logger.getLogger(UICacheRenderer.class.getName());
 
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
     @Override
     public void encodeChildren(FacesContext context, UICache component) throws IOException {
         if (!component.isDisabled()) {
@@ -65,27 +80,82 @@ public class UICacheRenderer extends CoreRenderer<UICache> {
                 region = context.getViewRoot().getViewId();
             }
 
-            String output = (String) cacheProvider.get(region, key);
-            if (output == null) {
-                StringWriter stringWriter = new StringWriter();
-                ResponseWriter clonedWriter = writer.cloneWithWriter(stringWriter);
-                context.setResponseWriter(clonedWriter);
-                renderChildren(context, component);
-
-                output = stringWriter.getBuffer().toString();
-                cacheProvider.put(region, key, output);
-                context.setResponseWriter(writer);
+            Object cached = cacheProvider.get(region, key);
+            if (cached == null) {
+                // single-flight: only one request renders a missing entry, concurrent ones wait for its result
+                String flightKey = region + '\u0000' + key;
+                CompletableFuture<Object> flight = new CompletableFuture<>();
+                CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+                if (existing != null) {
+                    cached = await(existing, region, key);
+                }
+                else {
+                    try {
+                        // might have been cached after our miss
+                        cached = cacheProvider.get(region, key);
+                        if (cached == null) {
+                            cached = encodeFragment(context, component, writer);
+                            cacheProvider.put(region, key, cached);
+                            component.setCacheSetInCurrentRequest(true);
+                        }
+                    }
+                    finally {
+                        inFlight.remove(flightKey, flight);
+                        // null lets waiting requests render on their own, if rendering failed
+                        flight.complete(cached);
+                    }
+                }
+            }
 
+            if (cached == null) {
+                renderChildren(context, component);
                 component.setCacheSetInCurrentRequest(true);
             }
-
-            writer.write(output);
+            else if (cached instanceof CachedFragment) {
+                writer.write(((CachedFragment) cached).getContent());
+            }
+            else {
+                writer.write(cached.toString());
+            }
         }
         else {
             renderChildren(context, component);
         }
     }
 
+    /**
+     * Waits for the concurrent rendering of the same fragment.
+     *
+     * @return the rendered fragment or {@code null} if it failed or didn't finish within {@link #IN_FLIGHT_TIMEOUT_MILLIS}
+     */
+    protected Object await(CompletableFuture<Object> flight, String region, String key) {
+        try {
+            return flight.get(IN_FLIGHT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        catch (ExecutionException | TimeoutException e) {
+            LOGGER.log(Level.FINE, e, () -> "Rendering fragment " + region + "/" + key + " uncached, the concurrent rendering didn't finish");
+            return null;
+        }
+    }
+
+    protected CachedFragment encodeFragment(FacesContext context, UICache component, ResponseWriter writer) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        context.setResponseWriter(writer.cloneWithWriter(stringWriter));
+        try {
+            renderChildren(context, component);
+        }
+        finally {
+            context.setResponseWriter(writer);
+        }
+
+        byte[] bytes = stringWriter.toString().getBytes(StandardCharsets.UTF_8);
+        return CachedFragment.of(bytes, component.getCompressionThreshold());
+    }
+
     @Override
     public boolean getRendersChildren() {
         return true;
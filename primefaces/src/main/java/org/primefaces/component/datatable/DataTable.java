@@ -31,11 +31,14 @@ import org.primefaces.component.columngroup.ColumnGroup;
 import org.primefaces.component.columns.Columns;
 import org.primefaces.component.datatable.feature.DataTableFeatures;
 import org.primefaces.component.datatable.feature.FilterFeature;
+import org.primefaces.component.datatable.feature.FilterValueCache;
+import org.primefaces.component.datatable.feature.LazyScrollCache;
 import org.primefaces.component.headerrow.HeaderRow;
 import org.primefaces.component.row.Row;
 import org.primefaces.component.rowexpansion.RowExpansion;
 import org.primefaces.component.subtable.SubTable;
 import org.primefaces.component.summaryrow.SummaryRow;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.event.CellEditEvent;
 import org.primefaces.event.ColumnResizeEvent;
 import org.primefaces.event.ReorderEvent;
@@ -65,10 +68,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -209,10 +214,21 @@ public class DataTable extends DataTableBase {
 
     private static final Collection<String> EVENT_NAMES = BEHAVIOR_EVENT_MAPPING.keySet();
 
+    // FacesContext attribute, the tables which already rebuilt their rowKey index on a lookup miss in the current request
+    private static final String ROW_KEY_INDEX_REBUILT = DataTable.class.getName() + ".rowKeyIndexRebuilt";
+
     private boolean reset = false;
     private List<UIColumn> columns;
     private final Map<String, AjaxBehaviorEvent> deferredEvents = new HashMap<>(1);
 
+    // rowKey -> row index of the last indexed wrapped data, built in a single pass on the first lookup by rowKey
+    private transient Map<String, Integer> rowKeyIndex;
+
+    private transient Object rowKeyIndexData;
+
+    // the indexed data itself if it's a random access list, otherwise a copy
+    private transient List<?> rowKeyIndexRows;
+
     protected enum InternalPropertyKeys {
         filterByAsMap,
         sortByAsMap,
@@ -314,7 +330,7 @@ public class DataTable extends DataTableBase {
                 // trigger filter as previous requests were filtered
                 // in older PF versions, we stored the filtered data in the viewstate but this blows up memory
                 // and caused bugs with editing and serialization like #7999
-                filterAndSort();
+                doFilterAndSort();
             }
         }
     }
@@ -405,6 +421,9 @@ public class DataTable extends DataTableBase {
             }
             else if ("rowEdit".equals(eventName) || "rowEditCancel".equals(eventName) || "rowEditInit".equals(eventName)) {
                 loadLazyDataIfRequired();
+                if ("rowEdit".equals(eventName)) {
+                    FilterValueCache.reset(context, this);
+                }
 
                 int rowIndex = Integer.parseInt(params.get(clientId + "_rowEditIndex"));
                 setRowIndex(rowIndex);
@@ -436,6 +455,9 @@ public class DataTable extends DataTableBase {
                 wrapperEvent = new ToggleEvent(this, behaviorEvent.getBehavior(), visibility, getRowData());
             }
             else if ("cellEdit".equals(eventName) || "cellEditCancel".equals(eventName) || "cellEditInit".equals(eventName)) {
+                if ("cellEdit".equals(eventName)) {
+                    FilterValueCache.reset(context, this);
+                }
                 String[] cellInfo = params.get(clientId + "_cellInfo").split(",");
                 int rowIndex = Integer.parseInt(cellInfo[0]);
                 int cellIndex = Integer.parseInt(cellInfo[1]);
@@ -519,10 +541,21 @@ public class DataTable extends DataTableBase {
             throw new FacesException("Unexpected call, datatable " + getClientId(getFacesContext()) + " is not lazy.");
         }
 
+        FacesContext context = getFacesContext();
+        Map<String, SortMeta> sortBy = getActiveSortMeta();
         Map<String, FilterMeta> filterBy = getActiveFilterMeta();
-        model.setRowCount(model.count(filterBy));
 
-        FacesContext context = getFacesContext();
+        LazyScrollCache cache = (isVirtualScroll() || isLiveScroll()) ? LazyScrollCache.of(context, this) : null;
+        if (cache != null) {
+            // only scrolling reuses loaded windows, every other load (e.g. an update of the table) starts from scratch
+            if (!isScrollingRequest(context)) {
+                cache.clear();
+            }
+            cache.validate(sortBy, filterBy);
+        }
+
+        model.setRowCount(cache != null ? cache.count(model, filterBy) : model.count(filterBy));
+
         boolean clientCacheRequest = isClientCacheRequest(context);
         if (clientCacheRequest) {
             offset += rows;
@@ -544,17 +577,43 @@ public class DataTable extends DataTableBase {
             }
         }
 
-        List<?> data = model.load(offset, rows, getActiveSortMeta(), getActiveFilterMeta());
+        List<?> data = cache != null ? cache.load(model, offset, rows, sortBy, filterBy) : model.load(offset, rows, sortBy, filterBy);
         model.setPageSize(rows);
         // set empty list if model returns null; this avoids multiple calls while visiting the component+rows
         model.setWrappedData(data != null ? data : Collections.emptyList());
 
+        if (cache != null) {
+            cache.setRowCount(model.getRowCount());
+            if (isScrollPrefetch() && model.isLoadThreadSafe()) {
+                prefetchLazyScrollData(context, cache, model, offset, rows, sortBy, filterBy);
+            }
+        }
+
         //Update paginator/livescroller for callback
         if (ComponentUtils.isRequestSource(this, getFacesContext()) && (isPaginator() || isLiveScroll() || isVirtualScroll())) {
             PrimeFaces.current().ajax().addCallbackParam("totalRecords", model.getRowCount());
         }
     }
 
+    /**
+     * Prefetches the window, which is requested by the next scroll, while the current one is rendered.
+     */
+    protected void prefetchLazyScrollData(FacesContext context, LazyScrollCache cache, LazyDataModel<?> model, int offset, int rows,
+            Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        int scrollRows = getScrollRows();
+        int nextOffset = offset + (scrollRows > 0 ? scrollRows : rows);
+        int rowCount = model.getRowCount();
+        if (nextOffset >= rowCount) {
+            return;
+        }
+
+        int nextRows = isVirtualScroll() ? Math.min(scrollRows * 2, rowCount - nextOffset) : rows;
+        if (nextRows > 0) {
+            cache.prefetch(PrimeApplicationContext.getCurrentInstance(context).getPrefetchExecutor(),
+                    model, nextOffset, nextRows, sortBy, filterBy);
+        }
+    }
+
     public int getScrollOffset() {
         return (java.lang.Integer) getStateHelper().eval("scrollOffset", 0);
     }
@@ -570,6 +629,8 @@ public class DataTable extends DataTableBase {
     public void resetValue() {
         setValue(null);
         setFilteredValue(null);
+        FilterValueCache.reset(getFacesContext(), this);
+        LazyScrollCache.reset(getFacesContext(), this);
     }
 
     public void reset() {
@@ -601,6 +662,14 @@ public class DataTable extends DataTableBase {
         return ComponentTraversalUtils.firstChildRendered(SubTable.class, this);
     }
 
+    /**
+     * @return <code>true</code> if rows can be identified by {@link #getRowKey(Object)}, either by a {@link SelectableDataModel}
+     *         or the rowKey attribute
+     */
+    public boolean isRowKeyDefined() {
+        return getDataModel() instanceof SelectableDataModel || getValueExpression(PropertyKeys.rowKey.name()) != null;
+    }
+
     public <T> String getRowKey(T object) {
         DataModel<T> model = getDataModel();
         if (model instanceof SelectableDataModel) {
@@ -623,16 +692,62 @@ public class DataTable extends DataTableBase {
         }
         else {
             Collection<T> data = (Collection<T>) getDataModel().getWrappedData();
-            for (T o : data) {
+            if (data == null) {
+                return null;
+            }
+
+            boolean rebuilt = false;
+            if (rowKeyIndexData != data) {
+                buildRowKeyIndex(data);
+                rebuilt = true;
+            }
+
+            Integer index = rowKeyIndex.get(rowKey);
+            if (index != null && index < rowKeyIndexRows.size()) {
+                T o = (T) rowKeyIndexRows.get(index);
                 if (Objects.equals(rowKey, getRowKey(o))) {
                     return o;
                 }
             }
 
+            // the data may have been modified in place since it was indexed, e.g. rows added, removed, replaced or their keys changed,
+            // which a copy of a non random access collection doesn't reflect either.
+            // Rebuilt at most once per request, further misses, e.g. of stale or unknown keys, are not found.
+            if (!rebuilt && markRowKeyIndexRebuilt(getFacesContext())) {
+                buildRowKeyIndex(data);
+                index = rowKeyIndex.get(rowKey);
+                return index == null ? null : (T) rowKeyIndexRows.get(index);
+            }
+
             return null;
         }
     }
 
+    private boolean markRowKeyIndexRebuilt(FacesContext context) {
+        if (context == null) {
+            return true;
+        }
+        Set<DataTable> tables = (Set<DataTable>) context.getAttributes()
+                .computeIfAbsent(ROW_KEY_INDEX_REBUILT, k -> Collections.newSetFromMap(new IdentityHashMap<>()));
+        return tables.add(this);
+    }
+
+    /**
+     * Evaluates the rowKey of all rows once, so that looking up many rows by their key, e.g. when decoding
+     * a multiple selection, doesn't scan the data for each key.
+     */
+    protected void buildRowKeyIndex(Collection<?> data) {
+        List<?> rows = data instanceof List && data instanceof RandomAccess ? (List<?>) data : new ArrayList<>(data);
+        Map<String, Integer> index = new HashMap<>((int) (rows.size() / 0.75f) + 1);
+        for (int i = 0; i < rows.size(); i++) {
+            // first row wins, as the previous linear scan did
+            index.putIfAbsent(getRowKey(rows.get(i)), i);
+        }
+        rowKeyIndex = index;
+        rowKeyIndexData = data;
+        rowKeyIndexRows = rows;
+    }
+
     public Set<String> getExpandedRowKeys() {
         return (Set<String>) getStateHelper().eval(InternalPropertyKeys.expandedRowKeys, Collections::emptySet);
     }
@@ -664,6 +779,12 @@ public class DataTable extends DataTableBase {
         getStateHelper().put(InternalPropertyKeys.selectAll, selectAll);
     }
 
+    @Override
+    protected boolean isRowComponent(UIComponent kid) {
+        // like UIData only the columns, plus the other children rendered in the context of a row
+        return kid instanceof UIColumn || kid instanceof RowExpansion || kid instanceof SummaryRow || kid instanceof HeaderRow;
+    }
+
     public List<SummaryRow> getSummaryRows() {
         List<SummaryRow> sumRows = new ArrayList<>(3);
         for (int i = 0; i < getChildCount(); i++) {
@@ -1063,6 +1184,13 @@ public class DataTable extends DataTableBase {
      */
     @Override
     public void filterAndSort() {
+        // rows might have been added, updated or removed, so the cached filter values are outdated
+        FilterValueCache.reset(getFacesContext(), this);
+
+        doFilterAndSort();
+    }
+
+    protected void doFilterAndSort() {
         if (isLazy()) {
             return;
         }
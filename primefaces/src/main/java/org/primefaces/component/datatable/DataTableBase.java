@@ -68,6 +68,7 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
         exportTag,
         exportRowTag,
         filterBy,
+        filterCache,
         filterDelay,
         filterEvent,
         filterNormalize,
@@ -98,7 +99,9 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
         rowStyleClass,
         rowTitle,
         saveOnCellBlur,
+        scrollCache,
         scrollHeight,
+        scrollPrefetch,
         scrollRows,
         scrollWidth,
         scrollable,
@@ -799,4 +802,28 @@ public abstract class DataTableBase extends UIPageableData implements Widget, RT
     public void setFilterNormalize(boolean filterNormalize) {
         getStateHelper().put(PropertyKeys.filterNormalize, filterNormalize);
     }
+
+    public boolean isFilterCache() {
+        return (Boolean) getStateHelper().eval(PropertyKeys.filterCache, false);
+    }
+
+    public void setFilterCache(boolean filterCache) {
+        getStateHelper().put(PropertyKeys.filterCache, filterCache);
+    }
+
+    public int getScrollCache() {
+        return (Integer) getStateHelper().eval(PropertyKeys.scrollCache, 0);
+    }
+
+    public void setScrollCache(int scrollCache) {
+        getStateHelper().put(PropertyKeys.scrollCache, scrollCache);
+    }
+
+    public boolean isScrollPrefetch() {
+        return (Boolean) getStateHelper().eval(PropertyKeys.scrollPrefetch, false);
+    }
+
+    public void setScrollPrefetch(boolean scrollPrefetch) {
+        getStateHelper().put(PropertyKeys.scrollPrefetch, scrollPrefetch);
+    }
 }
@@ -49,6 +49,7 @@ import org.primefaces.util.MessageFactory;
 import org.primefaces.util.WidgetBuilder;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -64,10 +65,13 @@ import jakarta.faces.FacesException;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.component.UINamingContainer;
 import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.PartialResponseWriter;
 import jakarta.faces.context.ResponseWriter;
 
 public class DataTableRenderer extends DataRenderer<DataTable> {
 
+    public static final String UPDATE_ROWS_SUFFIX = "@rows";
+
     private static final Logger LOGGER = Logger.getLogger(DataTableRenderer.class.getName());
 
     @Override
@@ -1110,6 +1114,65 @@ public class DataTableRenderer extends DataRenderer<DataTable> {
         }
     }
 
+    /**
+     * Renders only the rows of the current page with the given row keys as partial update
+     * <code>clientId@rows</code>, which is applied by the widget. Tables whose rows can't be replaced
+     * one by one or can't be identified by row key are updated completely.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link DataTable}
+     * @param writer the {@link PartialResponseWriter} of the current request
+     * @param rowKeys the row keys of the rows to update
+     * @throws IOException if rendering fails
+     */
+    public void encodeRowUpdates(FacesContext context, DataTable table, PartialResponseWriter writer, Collection<String> rowKeys)
+            throws IOException {
+
+        String clientId = table.getClientId(context);
+
+        if (table.getFrozenColumns() > 0 || table.getSubTable() != null || table.isLiveScroll() || table.isVirtualScroll()
+                || !table.isRowKeyDefined()) {
+            writer.startUpdate(clientId);
+            table.encodeAll(context);
+            writer.endUpdate();
+            return;
+        }
+
+        preRender(context, table);
+
+        int rows = table.getRows();
+        int first = table.getFirst();
+        int last = rows == 0 ? table.getRowCount() : first + rows;
+        if (first == 0 && table.getFrozenRows() > 0) {
+            first += table.getFrozenRows();
+        }
+
+        boolean started = false;
+        for (int i = first; i < last; i++) {
+            table.setRowIndex(i);
+            if (!table.isRowAvailable()) {
+                break;
+            }
+
+            if (rowKeys.contains(table.getRowKey(table.getRowData()))) {
+                if (!started) {
+                    writer.startUpdate(clientId + UPDATE_ROWS_SUFFIX);
+                    started = true;
+                }
+                encodeRow(context, table, i);
+            }
+        }
+
+        if (started) {
+            writer.endUpdate();
+        }
+
+        table.setRowIndex(-1);
+        if (table.getRowIndexVar() != null) {
+            context.getExternalContext().getRequestMap().remove(table.getRowIndexVar());
+        }
+    }
+
     protected void encodeRows(FacesContext context, DataTable table, int first, int last, int columnStart, int columnEnd) throws IOException {
         List<SummaryRow> summaryRows = table.getSummaryRows();
         HeaderRow headerRow = table.getHeaderRow();
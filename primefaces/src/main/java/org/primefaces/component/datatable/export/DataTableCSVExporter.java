@@ -104,6 +104,11 @@ public class DataTableCSVExporter extends DataTableExporter<PrintWriter, CSVOpti
                 .append(options().getQuoteChar());
     }
 
+    @Override
+    protected void flushPage(FacesContext context, DataTable table) {
+        document.flush();
+    }
+
     @Override
     public String getContentType() {
         return "text/csv";
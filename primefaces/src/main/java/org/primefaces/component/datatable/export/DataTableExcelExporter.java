@@ -28,7 +28,6 @@ import org.primefaces.component.datatable.DataTable;
 import org.primefaces.component.export.ColumnValue;
 import org.primefaces.component.export.ExcelOptions;
 import org.primefaces.util.ExcelStylesManager;
-import org.primefaces.util.LocaleUtils;
 
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -56,7 +55,7 @@ public class DataTableExcelExporter extends DataTableExporter<Workbook, ExcelOpt
     @Override
     protected void preExport(FacesContext context) throws IOException {
         super.preExport(context);
-        stylesManager = ExcelStylesManager.createExcelStylesManager(document, LocaleUtils.getCurrentLocale(context), options());
+        stylesManager = ExcelStylesManager.createExcelStylesManager(document, getLocale(context), options());
     }
 
     @Override
@@ -24,6 +24,7 @@
 package org.primefaces.component.datatable.export;
 
 import org.primefaces.component.datatable.DataTable;
+import org.primefaces.component.export.ExportConfiguration;
 import org.primefaces.component.export.ExporterOptions;
 import org.primefaces.component.export.TableExporter;
 import org.primefaces.model.LazyDataModel;
@@ -95,12 +96,17 @@ public abstract class DataTableExporter<P, O extends ExporterOptions> extends Ta
 
     @Override
     protected void exportAll(FacesContext context, DataTable table) {
+        boolean streaming = exportConfiguration.isStreaming();
+        Integer bufferSize = exportConfiguration.getBufferSize();
+        if (bufferSize == null && streaming) {
+            bufferSize = ExportConfiguration.DEFAULT_STREAMING_BUFFER_SIZE;
+        }
+
         if (table.isLazy()) {
             // bufferSize is used to control how many items are fetched at a time.
             // The purpose of using this variable is to retrieve the entire underlying dataset in smaller,
             // manageable chunks rather than all at once.
             LazyDataModel<Object> lazyDataModel = (LazyDataModel<Object>) table.getValue();
-            Integer bufferSize = exportConfiguration.getBufferSize();
             boolean bufferized = bufferSize != null;
             int batchSize = Objects.requireNonNullElseGet(bufferSize, () -> lazyDataModel.count(table.getActiveFilterMeta()));
 
@@ -118,6 +124,12 @@ public abstract class DataTableExporter<P, O extends ExporterOptions> extends Ta
                         exportRow(context, table, rowIndex);
                     }
                     offset += items.size();
+
+                    if (streaming) {
+                        // release the page, so only one page is held at a time
+                        lazyDataModel.setWrappedData(null);
+                        endPage(context, table);
+                    }
                 } while ((bufferized && !items.isEmpty()) || (!bufferized && offset < batchSize));
 
                 //restore
@@ -133,6 +145,10 @@ public abstract class DataTableExporter<P, O extends ExporterOptions> extends Ta
 
             for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
                 exportRow(context, table, rowIndex);
+
+                if (streaming && bufferSize > 0 && (rowIndex + 1) % bufferSize == 0) {
+                    endPage(context, table);
+                }
             }
 
             //restore
@@ -113,7 +113,10 @@ public class DataTablePDFExporter extends DataTableExporter<Document, PDFOptions
 
             int columnsCount = getExportableColumns(table).size();
             pdfTable = new PdfPTable(columnsCount);
+            // an incomplete table writes and releases its finished rows on every Document#add
+            pdfTable.setComplete(!exportConfiguration.isStreaming());
             super.exportTable(context, table, index);
+            pdfTable.setComplete(true);
             document.add(pdfTable);
         }
         catch (DocumentException e) {
@@ -146,6 +149,12 @@ public class DataTablePDFExporter extends DataTableExporter<Document, PDFOptions
         addCell(pdfTable, cell);
     }
 
+    @Override
+    protected void flushPage(FacesContext context, DataTable table) {
+        document.add(pdfTable);
+        super.flushPage(context, table);
+    }
+
     @Override
     public String getContentType() {
         return "application/pdf";
@@ -96,6 +96,11 @@ public class DataTableXMLExporter extends DataTableExporter<PrintWriter, Exporte
                 .append("</").append(tag).append(">\n");
     }
 
+    @Override
+    protected void flushPage(FacesContext context, DataTable table) {
+        document.flush();
+    }
+
     @Override
     public String getContentType() {
         return "text/xml";
@@ -29,8 +29,21 @@ import org.primefaces.component.datatable.DataTableRenderer;
 import org.primefaces.component.datatable.DataTableState;
 import org.primefaces.event.data.PostFilterEvent;
 import org.primefaces.model.FilterMeta;
+import org.primefaces.model.filter.BetweenFilterConstraint;
+import org.primefaces.model.filter.ContainsFilterConstraint;
+import org.primefaces.model.filter.EndsWithFilterConstraint;
+import org.primefaces.model.filter.EqualsFilterConstraint;
+import org.primefaces.model.filter.ExactFilterConstraint;
 import org.primefaces.model.filter.FilterConstraint;
 import org.primefaces.model.filter.FunctionFilterConstraint;
+import org.primefaces.model.filter.GlobalFilterConstraint;
+import org.primefaces.model.filter.GreaterThanEqualsFilterConstraint;
+import org.primefaces.model.filter.GreaterThanFilterConstraint;
+import org.primefaces.model.filter.InFilterConstraint;
+import org.primefaces.model.filter.LessThanEqualsFilterConstraint;
+import org.primefaces.model.filter.LessThanFilterConstraint;
+import org.primefaces.model.filter.NegationFilterConstraintWrapper;
+import org.primefaces.model.filter.StartsWithFilterConstraint;
 import org.primefaces.util.ComponentUtils;
 
 import java.io.IOException;
@@ -38,7 +51,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import jakarta.el.ELContext;
 import jakarta.faces.context.FacesContext;
@@ -46,6 +63,20 @@ import jakarta.faces.event.PhaseId;
 
 public class FilterFeature implements DataTableFeature {
 
+    private static final Set<Class<?>> THREAD_SAFE_CONSTRAINTS = Set.of(
+            BetweenFilterConstraint.class,
+            ContainsFilterConstraint.class,
+            EndsWithFilterConstraint.class,
+            EqualsFilterConstraint.class,
+            ExactFilterConstraint.class,
+            GlobalFilterConstraint.class,
+            GreaterThanEqualsFilterConstraint.class,
+            GreaterThanFilterConstraint.class,
+            InFilterConstraint.class,
+            LessThanEqualsFilterConstraint.class,
+            LessThanFilterConstraint.class,
+            StartsWithFilterConstraint.class);
+
     private boolean isFilterRequest(FacesContext context, DataTable table) {
         return context.getExternalContext().getRequestParameterMap().containsKey(table.getClientId(context) + "_filtering");
     }
@@ -107,6 +138,13 @@ public class FilterFeature implements DataTableFeature {
     }
 
     public void filter(FacesContext context, DataTable table) {
+        table.setValue(null); // reset value (instead of filtering on already filtered value)
+
+        if (table.isFilterCache() || table.isParallelThresholdReached(context, table.getRowCount())) {
+            filterWithValueCache(context, table);
+            return;
+        }
+
         List<Object> filtered = new ArrayList<>();
         Locale filterLocale = table.resolveDataLocale();
         ELContext elContext = context.getELContext();
@@ -114,7 +152,6 @@ public class FilterFeature implements DataTableFeature {
         FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
         boolean hasGlobalFilterFunction = globalFilter != null && globalFilter.getConstraint() instanceof FunctionFilterConstraint;
 
-        table.setValue(null); // reset value (instead of filtering on already filtered value)
         AtomicBoolean localMatch = new AtomicBoolean();
         AtomicBoolean globalMatch = new AtomicBoolean();
 
@@ -164,6 +201,113 @@ public class FilterFeature implements DataTableFeature {
             }
         }
 
+        updateFilteredValue(context, table, filtered);
+    }
+
+    /**
+     * Filters the table on a {@link FilterValueCache}, so the filterBy expressions are only evaluated once per value.
+     * The active constraints are compiled into a single predicate chain, which is evaluated per row and stops on the first mismatch.
+     * If the number of rows reaches {@link DataTable#isParallelThresholdReached(FacesContext, int)}, the predicate is evaluated in parallel,
+     * as long as all active constraints are thread-safe.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link DataTable}
+     */
+    protected void filterWithValueCache(FacesContext context, DataTable table) {
+        Map<String, FilterMeta> filterBy = table.getFilterByAsMap();
+
+        FilterValueCache cache = FilterValueCache.of(context, table, filterBy);
+        IntPredicate predicate = compile(context, cache, filterBy, table.resolveDataLocale());
+
+        IntStream rows = IntStream.range(0, cache.getRowCount());
+        if (table.isParallelThresholdReached(context, cache.getRowCount()) && isThreadSafe(filterBy)) {
+            rows = rows.parallel();
+        }
+        List<Object> filtered = rows.filter(predicate)
+                .mapToObj(cache::getRowData)
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        updateFilteredValue(context, table, filtered);
+    }
+
+    /**
+     * Whether the active constraints can be evaluated outside of the request thread.
+     * Only the built-in constraints are known to not depend on the {@link FacesContext}, negated ones are checked by their wrapped
+     * constraint. {@link FunctionFilterConstraint}, which invokes EL, and custom constraints, including subclasses of the built-in ones,
+     * are not.
+     *
+     * @param filterBy the filters of the table
+     * @return true if all active constraints are thread-safe
+     */
+    protected boolean isThreadSafe(Map<String, FilterMeta> filterBy) {
+        for (FilterMeta filter : filterBy.values()) {
+            if (filter.isActive() && !isThreadSafe(filter.getConstraint())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected boolean isThreadSafe(FilterConstraint constraint) {
+        if (constraint instanceof NegationFilterConstraintWrapper) {
+            return isThreadSafe(((NegationFilterConstraintWrapper) constraint).getWrapped());
+        }
+        return constraint != null && THREAD_SAFE_CONSTRAINTS.contains(constraint.getClass());
+    }
+
+    /**
+     * Compiles the active filters into a predicate, which accepts the index of a row in the given {@link FilterValueCache}.
+     * Column constraints are evaluated before the global filter, as they are usually more selective.
+     *
+     * @param context the {@link FacesContext}
+     * @param cache the {@link FilterValueCache} of the table
+     * @param filterBy the filters of the table
+     * @param filterLocale the {@link Locale} used for filtering
+     * @return the compiled predicate
+     */
+    protected IntPredicate compile(FacesContext context, FilterValueCache cache, Map<String, FilterMeta> filterBy, Locale filterLocale) {
+        IntPredicate predicate = null;
+
+        for (FilterMeta filter : filterBy.values()) {
+            Object[] values = cache.getColumnValues(filter.getColumnKey());
+            if (filter.isGlobalFilter() || !filter.isActive() || values == null) {
+                continue;
+            }
+
+            FilterConstraint constraint = filter.getConstraint();
+            Object filterValue = filter.getFilterValue();
+            IntPredicate local = row -> constraint.isMatching(context, values[row], filterValue, filterLocale);
+            predicate = predicate == null ? local : predicate.and(local);
+        }
+
+        FilterMeta globalFilter = filterBy.get(FilterMeta.GLOBAL_FILTER_KEY);
+        if (globalFilter != null && globalFilter.isActive()) {
+            FilterConstraint constraint = globalFilter.getConstraint();
+            Object filterValue = globalFilter.getFilterValue();
+            IntPredicate global;
+
+            if (constraint instanceof FunctionFilterConstraint) {
+                global = row -> constraint.isMatching(context, cache.getRowData(row), filterValue, filterLocale);
+            }
+            else {
+                Object[][] columnValues = cache.getColumnValues().toArray(new Object[0][]);
+                global = row -> {
+                    for (Object[] values : columnValues) {
+                        if (constraint.isMatching(context, values[row], filterValue, filterLocale)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            }
+
+            predicate = predicate == null ? global : predicate.and(global);
+        }
+
+        return predicate == null ? row -> true : predicate;
+    }
+
+    protected void updateFilteredValue(FacesContext context, DataTable table, List<Object> filtered) {
         //Metadata for callback
         if ((table.isPaginator() || table.isVirtualScroll()) && ComponentUtils.isRequestSource(table, context)) {
             PrimeFaces.current().ajax().addCallbackParam("totalRecords", filtered.size());
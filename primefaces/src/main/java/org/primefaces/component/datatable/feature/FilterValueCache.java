@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.feature;
+
+import org.primefaces.component.api.UIColumn;
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.model.FilterMeta;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import jakarta.el.ELContext;
+import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Column-oriented cache of the values, which are used to filter a non-lazy {@link DataTable}.
+ * The row data and the local value of each filterable column are extracted once per value and reused
+ * by subsequent filter requests, instead of evaluating the filterBy expression of every row on every request.
+ * <p>
+ * If {@link DataTable#isFilterCache()} is enabled, the cache is kept in the view map and is rebuilt as soon as the value
+ * (identity or size) or the filterable columns change.
+ * All fields are transient, so the cache never increases the size of a serialized session.
+ */
+public class FilterValueCache implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String KEY_PREFIX = FilterValueCache.class.getName() + ":";
+
+    private transient Object value;
+    private transient String signature;
+    private transient Object[] rowData;
+    private transient Map<String, Object[]> columnValues;
+
+    /**
+     * Returns the cache for the current (unfiltered) value of the given table; builds a new one if required.
+     * The cache is only kept in the view map if {@link DataTable#isFilterCache()} is enabled.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link DataTable}
+     * @param filterBy the filters of the table
+     * @return the up to date {@link FilterValueCache}
+     */
+    public static FilterValueCache of(FacesContext context, DataTable table, Map<String, FilterMeta> filterBy) {
+        Object value = table.getValue();
+        int rowCount = table.getRowCount();
+
+        List<UIColumn> columns = new ArrayList<>();
+        List<FilterMeta> filters = new ArrayList<>();
+        StringBuilder signature = new StringBuilder();
+        int rowIndex = table.getRowIndex();
+        table.forEachColumn(column -> {
+            FilterMeta filter = filterBy.get(column.getColumnKey(table, rowIndex));
+            if (filter != null && !filter.isGlobalFilter()) {
+                columns.add(column);
+                filters.add(filter);
+                signature.append(filter.getColumnKey())
+                        .append('=')
+                        .append(filter.getFilterBy() == null ? null : filter.getFilterBy().getExpressionString())
+                        .append(filter.isNormalize() ? ";n;" : ";");
+            }
+            return true;
+        });
+
+        String key = KEY_PREFIX + table.getClientId(context);
+        Map<String, Object> viewMap = table.isFilterCache() ? context.getViewRoot().getViewMap(true) : null;
+        FilterValueCache cache = viewMap == null ? null : (FilterValueCache) viewMap.get(key);
+        if (cache != null && cache.isValid(value, rowCount, signature.toString())) {
+            return cache;
+        }
+
+        cache = new FilterValueCache();
+        cache.value = value;
+        cache.signature = signature.toString();
+        cache.rowData = new Object[rowCount];
+        cache.columnValues = new LinkedHashMap<>(filters.size());
+        for (FilterMeta filter : filters) {
+            cache.columnValues.put(filter.getColumnKey(), new Object[rowCount]);
+        }
+
+        ELContext elContext = context.getELContext();
+        for (int i = 0; i < rowCount; i++) {
+            table.setRowIndex(i);
+            cache.rowData[i] = table.getRowData();
+
+            for (int j = 0; j < columns.size(); j++) {
+                FilterMeta filter = filters.get(j);
+                cache.columnValues.get(filter.getColumnKey())[i] = filter.getLocalValue(elContext, columns.get(j));
+            }
+        }
+        table.setRowIndex(-1);
+
+        if (viewMap != null) {
+            viewMap.put(key, cache);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Removes the cache of the given table, e.g. after rows have been added, updated or removed.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link DataTable}
+     */
+    public static void reset(FacesContext context, DataTable table) {
+        UIViewRoot viewRoot = context.getViewRoot();
+        if (viewRoot != null) {
+            Map<String, Object> viewMap = viewRoot.getViewMap(false);
+            if (viewMap != null) {
+                viewMap.remove(KEY_PREFIX + table.getClientId(context));
+            }
+        }
+    }
+
+    protected boolean isValid(Object value, int rowCount, String signature) {
+        return this.value != null
+                && this.value == value
+                && rowData.length == rowCount
+                && Objects.equals(this.signature, signature);
+    }
+
+    public int getRowCount() {
+        return rowData.length;
+    }
+
+    public Object getRowData(int rowIndex) {
+        return rowData[rowIndex];
+    }
+
+    /**
+     * @param columnKey the key of the column
+     * @return the local values of the column, indexed by row; or null if the column is not filterable
+     */
+    public Object[] getColumnValues(String columnKey) {
+        return columnValues.get(columnKey);
+    }
+
+    public Collection<Object[]> getColumnValues() {
+        return columnValues.values();
+    }
+}
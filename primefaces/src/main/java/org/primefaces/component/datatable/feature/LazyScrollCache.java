@@ -0,0 +1,326 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.feature;
+
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Bounded cache of the windows, which have been loaded from the {@link LazyDataModel} of a live or virtual scrolling {@link DataTable}.
+ * Scrolling back and forth reuses the loaded windows instead of calling {@link LazyDataModel#load} again, and the next window
+ * may be prefetched in the background while the current one is rendered.
+ * <p>
+ * If {@link DataTable#getScrollCache()} is greater than 0, the cache is kept in the view map and holds at most that many windows,
+ * evicting the least recently used one first. The windows and the row count are only valid for the same sort and filter signature.
+ * All fields are transient, so the cache never increases the size of a serialized session.
+ */
+public class LazyScrollCache implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(LazyScrollCache.class.getName());
+
+    private static final String KEY_PREFIX = LazyScrollCache.class.getName() + ":";
+
+    /**
+     * How long a request waits for a running prefetch of the window it needs, before it loads the window itself.
+     */
+    private static final long PREFETCH_TIMEOUT_MILLIS = 10_000L;
+
+    private final int maxWindows;
+    private transient Object[] signature;
+    private transient Integer rowCount;
+    private transient Map<String, Window> windows;
+
+    public LazyScrollCache(int maxWindows) {
+        this.maxWindows = maxWindows;
+    }
+
+    /**
+     * Returns the cache of the given table from the view map; creates a new one if required.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link DataTable}
+     * @return the {@link LazyScrollCache} or null if {@link DataTable#getScrollCache()} is not enabled
+     */
+    public static LazyScrollCache of(FacesContext context, DataTable table) {
+        int maxWindows = table.getScrollCache();
+        if (maxWindows <= 0) {
+            return null;
+        }
+
+        String key = KEY_PREFIX + table.getClientId(context);
+        Map<String, Object> viewMap = context.getViewRoot().getViewMap(true);
+        LazyScrollCache cache = (LazyScrollCache) viewMap.get(key);
+        if (cache == null || cache.maxWindows != maxWindows) {
+            cache = new LazyScrollCache(maxWindows);
+            viewMap.put(key, cache);
+        }
+
+        return cache;
+    }
+
+    /**
+     * Removes the cache of the given table, e.g. after rows have been added, updated or removed.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link DataTable}
+     */
+    public static void reset(FacesContext context, DataTable table) {
+        UIViewRoot viewRoot = context.getViewRoot();
+        if (viewRoot != null) {
+            Map<String, Object> viewMap = viewRoot.getViewMap(false);
+            if (viewMap != null) {
+                viewMap.remove(KEY_PREFIX + table.getClientId(context));
+            }
+        }
+    }
+
+    /**
+     * Removes all windows and the row count, if they have been loaded for other sort or filter criteria.
+     *
+     * @param sortBy the active sort criteria
+     * @param filterBy the active filter criteria
+     */
+    public synchronized void validate(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        Object[] newSignature = signature(sortBy, filterBy);
+        if (!Arrays.deepEquals(signature, newSignature)) {
+            clear();
+            signature = newSignature;
+        }
+    }
+
+    /**
+     * Removes all windows and the row count.
+     */
+    public synchronized void clear() {
+        rowCount = null;
+        if (windows != null) {
+            windows.clear();
+        }
+    }
+
+    public synchronized int count(LazyDataModel<?> model, Map<String, FilterMeta> filterBy) {
+        if (rowCount == null) {
+            rowCount = model.count(filterBy);
+        }
+        return rowCount;
+    }
+
+    /**
+     * Updates the cached row count, as models may also set it in {@link LazyDataModel#load}.
+     *
+     * @param rowCount the row count
+     */
+    public synchronized void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Returns the cached window or waits for its running prefetch; loads it from the model if it is neither cached nor prefetched,
+     * if its prefetch has not started yet or doesn't complete within {@value #PREFETCH_TIMEOUT_MILLIS} ms.
+     *
+     * @param model the {@link LazyDataModel}
+     * @param first the first row of the window
+     * @param pageSize the size of the window
+     * @param sortBy the active sort criteria
+     * @param filterBy the active filter criteria
+     * @param <T> the model class
+     * @return the rows of the window
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> load(LazyDataModel<T> model, int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        String key = first + ":" + pageSize;
+        Window window;
+        synchronized (this) {
+            window = getWindows().get(key);
+        }
+
+        if (window != null) {
+            if (window.claim()) {
+                // not started yet, loading it here is faster than waiting for a free prefetch thread
+                window.rows.cancel(false);
+            }
+            else {
+                try {
+                    return (List<T>) window.rows.get(PREFETCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                catch (ExecutionException | CancellationException | TimeoutException e) {
+                    LOGGER.log(Level.FINE, e, () -> "Prefetching rows " + key + " failed, loading them again");
+                }
+            }
+        }
+
+        List<T> data = model.load(first, pageSize, sortBy, filterBy);
+        synchronized (this) {
+            getWindows().put(key, Window.completed(data));
+        }
+        return data;
+    }
+
+    /**
+     * Loads the given window in the background, unless it is already cached or the model doesn't declare
+     * {@link LazyDataModel#isLoadThreadSafe()}, as {@link FacesContext} is not available in the background.
+     *
+     * @param executor the {@link Executor} to load the window with
+     * @param model the {@link LazyDataModel}
+     * @param first the first row of the window
+     * @param pageSize the size of the window
+     * @param sortBy the active sort criteria
+     * @param filterBy the active filter criteria
+     */
+    public void prefetch(Executor executor, LazyDataModel<?> model, int first, int pageSize,
+            Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        if (!model.isLoadThreadSafe()) {
+            return;
+        }
+
+        String key = first + ":" + pageSize;
+        Map<String, SortMeta> sortByCopy = new LinkedHashMap<>(sortBy);
+        Map<String, FilterMeta> filterByCopy = new LinkedHashMap<>(filterBy);
+
+        synchronized (this) {
+            if (getWindows().containsKey(key)) {
+                return;
+            }
+
+            Window window = new Window();
+            try {
+                executor.execute(() -> window.run(() -> model.load(first, pageSize, sortByCopy, filterByCopy)));
+                getWindows().put(key, window);
+            }
+            catch (RejectedExecutionException e) {
+                LOGGER.log(Level.FINE, e, () -> "Prefetching rows " + key + " rejected");
+            }
+        }
+    }
+
+    protected Map<String, Window> getWindows() {
+        if (windows == null) {
+            windows = new LinkedHashMap<String, Window>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxWindows;
+                }
+            };
+        }
+        return windows;
+    }
+
+    /**
+     * @return the sort and filter criteria, compared with {@link Arrays#deepEquals(Object[], Object[])}
+     */
+    protected static Object[] signature(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        List<Object> signature = new ArrayList<>((sortBy.size() + filterBy.size()) * 3 + 1);
+        for (SortMeta sort : sortBy.values()) {
+            signature.add(sort.getColumnKey());
+            signature.add(sort.getOrder());
+            signature.add(sort.getPriority());
+        }
+        signature.add(null);
+        for (FilterMeta filter : filterBy.values()) {
+            signature.add(filter.getColumnKey());
+            signature.add(filter.getMatchMode());
+            signature.add(copy(filter.getFilterValue()));
+        }
+        return signature.toArray();
+    }
+
+    /**
+     * Copies mutable filter values, so changing them in place invalidates the cache.
+     */
+    private static Object copy(Object filterValue) {
+        if (filterValue instanceof Object[]) {
+            Object[] values = ((Object[]) filterValue).clone();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = copy(values[i]);
+            }
+            return values;
+        }
+        if (filterValue instanceof Collection) {
+            return new ArrayList<>((Collection<?>) filterValue);
+        }
+        return filterValue;
+    }
+
+    /**
+     * A loaded or prefetched window. It is loaded either by its prefetch task or by the request, whichever claims it first.
+     */
+    protected static class Window {
+
+        private final CompletableFuture<List<?>> rows = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        static Window completed(List<?> rows) {
+            Window window = new Window();
+            window.claimed.set(true);
+            window.rows.complete(rows);
+            return window;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void run(Supplier<List<?>> loader) {
+            if (claim()) {
+                try {
+                    rows.complete(loader.get());
+                }
+                catch (RuntimeException e) {
+                    rows.completeExceptionally(e);
+                }
+            }
+        }
+    }
+}
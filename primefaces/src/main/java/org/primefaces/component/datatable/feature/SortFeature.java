@@ -141,7 +141,7 @@ public class SortFeature implements DataTableFeature {
         String var = table.getVar();
         Object varBackup = context.getExternalContext().getRequestMap().get(var);
 
-        list.sort(SortTableComparator.comparingSortByVE(context, table));
+        SortTableComparator.sort(context, table, list, SortTableComparator.SORT_BY_VE_MAPPER);
 
         if (varBackup == null) {
             context.getExternalContext().getRequestMap().remove(var);
@@ -24,6 +24,7 @@
 package org.primefaces.component.export;
 
 import org.primefaces.PrimeFaces;
+import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.expression.SearchExpressionUtils;
 import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.LangUtils;
@@ -67,6 +68,8 @@ public class DataExporter implements ActionListener, StateHolder {
     private MethodExpression onTableRender;
     private MethodExpression onRowExport;
     private ValueExpression bufferSize;
+    private ValueExpression streaming;
+    private ValueExpression async;
 
     public DataExporter() {
         ResourceUtils.addJavascriptResource(FacesContext.getCurrentInstance(), "filedownload/filedownload.js");
@@ -121,6 +124,27 @@ public class DataExporter implements ActionListener, StateHolder {
                     : (Boolean) exportFooter.getValue(context.getELContext());
         }
 
+        boolean isStreaming = false;
+        if (streaming != null) {
+            isStreaming = streaming.isLiteralText()
+                    ? Boolean.parseBoolean(streaming.getValue(context.getELContext()).toString())
+                    : (Boolean) streaming.getValue(context.getELContext());
+        }
+
+        boolean isAsync = false;
+        if (async != null) {
+            isAsync = async.isLiteralText()
+                    ? Boolean.parseBoolean(async.getValue(context.getELContext()).toString())
+                    : (Boolean) async.getValue(context.getELContext());
+        }
+        // async exports are always written page by page into a file
+        isStreaming = isStreaming || isAsync;
+
+        // SXSSF only keeps a window of rows in memory
+        if (isStreaming && "xlsx".equalsIgnoreCase(exportAs)) {
+            exportAs = "xlsxstream";
+        }
+
         ExporterOptions exporterOptions = null;
         if (options != null) {
             exporterOptions = options.getValue(elContext);
@@ -145,17 +169,7 @@ public class DataExporter implements ActionListener, StateHolder {
                 contentType += "; charset=" + encodingType;
             }
 
-            if (PrimeFaces.current().isAjaxRequest()) {
-                outputStream = new ByteArrayOutputStream();
-            }
-            else {
-                outputStream = context.getExternalContext().getResponseOutputStream();
-                externalContext.setResponseContentType(contentType);
-                setResponseHeader(externalContext, ComponentUtils.createContentDisposition("attachment", filenameWithExtension));
-                addResponseCookie(context);
-            }
-
-            ExportConfiguration config = ExportConfiguration.builder()
+            ExportConfiguration.Builder config = ExportConfiguration.builder()
                     .encodingType(encodingType)
                     .pageOnly(isPageOnly)
                     .selectionOnly(isSelectionOnly)
@@ -167,11 +181,25 @@ public class DataExporter implements ActionListener, StateHolder {
                     .postProcessor(postProcessor)
                     .onTableRender(onTableRender)
                     .onRowExport(onRowExport)
-                    .outputStream(outputStream)
                     .bufferSize(bufferSizeTmp)
-                    .build();
+                    .streaming(isStreaming);
+
+            if (isAsync) {
+                exportAsync(context, exporterInstance, components, config, filenameWithExtension, contentType);
+                return;
+            }
+
+            if (PrimeFaces.current().isAjaxRequest()) {
+                outputStream = new ByteArrayOutputStream();
+            }
+            else {
+                outputStream = context.getExternalContext().getResponseOutputStream();
+                externalContext.setResponseContentType(contentType);
+                setResponseHeader(externalContext, ComponentUtils.createContentDisposition("attachment", filenameWithExtension));
+                addResponseCookie(context);
+            }
 
-            exporterInstance.export(context, components, config);
+            exporterInstance.export(context, components, config.outputStream(outputStream).build());
 
             if (PrimeFaces.current().isAjaxRequest()) {
                 ajaxDownload(filenameWithExtension, ((ByteArrayOutputStream) outputStream).toByteArray(), contentType, context);
@@ -185,6 +213,31 @@ public class DataExporter implements ActionListener, StateHolder {
         }
     }
 
+    /**
+     * Loads the rows and evaluates the values of the export on the request thread, see {@link TableExporter#snapshot}; only writing
+     * them into a temporary file runs in the background, limited by <code>primefaces.EXPORT_MAX_CONCURRENT</code>.
+     * The client polls the download URL until the file is ready.
+     */
+    protected void exportAsync(FacesContext context, Exporter exporter, List<UIComponent> components, ExportConfiguration.Builder config,
+            String filenameWithExtension, String contentType) throws IOException {
+        if (!(exporter instanceof TableExporter)) {
+            throw new FacesException(exporter.getClass().getName() + " does not support async exports");
+        }
+
+        TableExporter tableExporter = (TableExporter) exporter;
+        ExportSnapshot snapshot = tableExporter.snapshot(context, components, config.build());
+
+        ExportJobManager manager = PrimeApplicationContext.getCurrentInstance(context).getExportJobManager();
+        ExportJob job = manager.create(context, filenameWithExtension, contentType, snapshot.getRowCount());
+        manager.submit(job, os -> tableExporter.export(snapshot, config.outputStream(os).exportJob(job).build()));
+
+        String url = manager.getDownloadURL(context, job);
+        String monitorKeyCookieName = ResourceUtils.getMonitorKeyCookieName(context, null);
+        PrimeFaces.current().ajax().addCallbackParam("exportJob", job.getId());
+        PrimeFaces.current().executeScript(String.format("PrimeFaces.download('%s', '%s', '%s', '%s')",
+                url, contentType, filenameWithExtension, monitorKeyCookieName));
+    }
+
     protected Class<? extends UIComponent> guessTargetClass(List<UIComponent> targets) {
         Objects.requireNonNull(targets, DataExporter.class.getSimpleName() + " expects at least one target");
         Set<Class<? extends UIComponent>> classes = targets.stream().map(UIComponent::getClass).collect(Collectors.toSet());
@@ -244,11 +297,13 @@ public class DataExporter implements ActionListener, StateHolder {
         onTableRender = (MethodExpression) values[12];
         onRowExport = (MethodExpression) values[13];
         bufferSize = (ValueExpression) values[14];
+        streaming = (ValueExpression) values[15];
+        async = (ValueExpression) values[16];
     }
 
     @Override
     public Object saveState(FacesContext context) {
-        Object[] values = new Object[16];
+        Object[] values = new Object[17];
 
         values[0] = target;
         values[1] = type;
@@ -265,6 +320,8 @@ public class DataExporter implements ActionListener, StateHolder {
         values[12] = onTableRender;
         values[13] = onRowExport;
         values[14] = bufferSize;
+        values[15] = streaming;
+        values[16] = async;
 
         return (values);
     }
@@ -356,6 +413,16 @@ public class DataExporter implements ActionListener, StateHolder {
             return this;
         }
 
+        public Builder streaming(ValueExpression streaming) {
+            exporter.streaming = streaming;
+            return this;
+        }
+
+        public Builder async(ValueExpression async) {
+            exporter.async = async;
+            return this;
+        }
+
         public DataExporter build() {
             return exporter;
         }
@@ -51,6 +51,8 @@ public class DataExporterTagHandler extends TagHandler {
     private final TagAttribute onTableRender;
     private final TagAttribute onRowExport;
     private final TagAttribute bufferSize;
+    private final TagAttribute streaming;
+    private final TagAttribute async;
 
     public DataExporterTagHandler(TagConfig tagConfig) {
         super(tagConfig);
@@ -69,6 +71,8 @@ public class DataExporterTagHandler extends TagHandler {
         onTableRender = getAttribute("onTableRender");
         onRowExport = getAttribute("onRowExport");
         bufferSize = getAttribute("bufferSize");
+        streaming = getAttribute("streaming");
+        async = getAttribute("async");
     }
 
     @Override
@@ -93,6 +97,8 @@ public class DataExporterTagHandler extends TagHandler {
         ValueExpression exporterVE = null;
         MethodExpression onRowExportME = null;
         ValueExpression bufferSizeVE = null;
+        ValueExpression streamingVE = null;
+        ValueExpression asyncVE = null;
 
         if (encoding != null) {
             encodingVE = encoding.getValueExpression(faceletContext, Object.class);
@@ -130,6 +136,12 @@ public class DataExporterTagHandler extends TagHandler {
         if (bufferSize != null) {
             bufferSizeVE = bufferSize.getValueExpression(faceletContext, Integer.class);
         }
+        if (streaming != null) {
+            streamingVE = streaming.getValueExpression(faceletContext, Object.class);
+        }
+        if (async != null) {
+            asyncVE = async.getValueExpression(faceletContext, Object.class);
+        }
         ActionSource actionSource = (ActionSource) parent;
         DataExporter dataExporter = DataExporter.builder()
                     .target(targetVE)
@@ -147,6 +159,8 @@ public class DataExporterTagHandler extends TagHandler {
                     .visibleOnly(visibleOnlyVE)
                     .onRowExport(onRowExportME)
                     .bufferSize(bufferSizeVE)
+                    .streaming(streamingVE)
+                    .async(asyncVE)
                     .build();
         actionSource.addActionListener(dataExporter);
     }
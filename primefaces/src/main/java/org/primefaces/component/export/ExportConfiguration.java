@@ -29,6 +29,11 @@ import jakarta.el.MethodExpression;
 
 public class ExportConfiguration {
 
+    /**
+     * Number of rows fetched from a lazy model at a time in streaming mode, if no bufferSize is set.
+     */
+    public static final int DEFAULT_STREAMING_BUFFER_SIZE = 1000;
+
     private boolean pageOnly;
     private boolean selectionOnly;
     private boolean visibleOnly;
@@ -42,6 +47,8 @@ public class ExportConfiguration {
     private MethodExpression onRowExport;
     private OutputStream outputStream;
     private Integer bufferSize;
+    private boolean streaming;
+    private ExportJob exportJob;
 
     public ExportConfiguration() {
         // NOOP
@@ -124,6 +131,16 @@ public class ExportConfiguration {
             return this;
         }
 
+        public Builder streaming(boolean streaming) {
+            this.config.streaming = streaming;
+            return this;
+        }
+
+        public Builder exportJob(ExportJob exportJob) {
+            this.config.exportJob = exportJob;
+            return this;
+        }
+
         public ExportConfiguration build() {
             return config;
         }
@@ -145,6 +162,8 @@ public class ExportConfiguration {
                 ", onRowExport=" + onRowExport +
                 ", outputStream=" + outputStream +
                 ", bufferSize=" + bufferSize +
+                ", streaming=" + streaming +
+                ", exportJob=" + exportJob +
                 '}';
     }
 
@@ -199,4 +218,12 @@ public class ExportConfiguration {
     public Integer getBufferSize() {
         return bufferSize;
     }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public ExportJob getExportJob() {
+        return exportJob;
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import org.primefaces.model.DefaultStreamedContent;
+import org.primefaces.model.StreamedContent;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of an export started with <code>async="true"</code>, which can be polled via {@link ExportJobManager} while running
+ * and is downloaded via the dynamic content URL once {@link Status#DONE}.
+ */
+public class ExportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    private final String id;
+    private final String sessionId;
+    private final String fileName;
+    private final String contentType;
+    private final long totalRows;
+    private final long createdAt = System.currentTimeMillis();
+    private final AtomicLong exportedRows = new AtomicLong();
+    private volatile Status status = Status.QUEUED;
+    private volatile Path file;
+    private volatile Throwable error;
+    private volatile long submittedAt;
+    private volatile long finishedAt;
+
+    public ExportJob(String id, String sessionId, String fileName, String contentType, long totalRows) {
+        this.id = id;
+        this.sessionId = sessionId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.totalRows = totalRows;
+    }
+
+    public void rowExported() {
+        exportedRows.incrementAndGet();
+    }
+
+    protected void submitted() {
+        submittedAt = System.currentTimeMillis();
+    }
+
+    protected void start() {
+        status = Status.RUNNING;
+    }
+
+    protected void complete(Path file) {
+        this.file = file;
+        this.finishedAt = System.currentTimeMillis();
+        this.status = Status.DONE;
+    }
+
+    protected void fail(Throwable error) {
+        this.error = error;
+        this.finishedAt = System.currentTimeMillis();
+        this.status = Status.FAILED;
+    }
+
+    /**
+     * @return the exported content, if {@link Status#DONE}
+     */
+    public StreamedContent getContent() {
+        if (file == null) {
+            return null;
+        }
+        return DefaultStreamedContent.builder()
+                .name(fileName)
+                .contentType(contentType)
+                .path(file)
+                .build();
+    }
+
+    /**
+     * @return the progress in percent, -1 if the number of rows is unknown
+     */
+    public int getProgress() {
+        if (status == Status.DONE) {
+            return 100;
+        }
+        if (totalRows <= 0) {
+            return -1;
+        }
+        return (int) Math.min(99, exportedRows.get() * 100 / totalRows);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getExportedRows() {
+        return exportedRows.get();
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+}
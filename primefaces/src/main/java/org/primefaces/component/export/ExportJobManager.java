@@ -0,0 +1,236 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import org.primefaces.application.resource.DynamicContentType;
+import org.primefaces.util.Constants;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import jakarta.faces.application.Resource;
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Runs exports with <code>async="true"</code> in the background: at most <code>primefaces.EXPORT_MAX_CONCURRENT</code> exports run
+ * at the same time on a bounded executor, further ones are queued up to {@link #MAX_QUEUED_PER_SLOT} per slot and rejected beyond.
+ * The request evaluates the rows and submits the job, the client polls the download URL until the export is finished.
+ * The result is written to a temporary file, which is served by the
+ * {@link org.primefaces.application.resource.StreamedContentHandler} and deleted after {@link #EXPIRATION}.
+ */
+public class ExportJobManager {
+
+    public static final long EXPIRATION = TimeUnit.MINUTES.toMillis(10);
+    public static final int MAX_QUEUED_PER_SLOT = 10;
+
+    private static final Logger LOGGER = Logger.getLogger(ExportJobManager.class.getName());
+
+    private final Semaphore permits;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService cleaner;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobManager(int maxConcurrent) {
+        this(maxConcurrent, Math.max(1, maxConcurrent) * MAX_QUEUED_PER_SLOT);
+    }
+
+    /**
+     * @param maxConcurrent the maximum number of exports running at the same time
+     * @param maxQueued the maximum number of exports waiting for a free slot
+     */
+    public ExportJobManager(int maxConcurrent, int maxQueued) {
+        int threads = Math.max(1, maxConcurrent);
+        this.permits = new Semaphore(threads + Math.max(0, maxQueued));
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, maxQueued)), threadFactory("primefaces-export-"), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(threadFactory("primefaces-export-cleaner-"));
+        this.cleaner.scheduleWithFixedDelay(this::removeExpired, 1L, 1L, TimeUnit.MINUTES);
+    }
+
+    @FunctionalInterface
+    public interface Task {
+
+        void export(OutputStream outputStream) throws IOException;
+    }
+
+    public ExportJob create(FacesContext context, String fileName, String contentType, long totalRows) {
+        String sessionId = context.getExternalContext().getSessionId(true);
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), sessionId, fileName, contentType, totalRows);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * Queues the export and returns immediately, without waiting for a free place in the queue; the export is written into a
+     * temporary file in the background.
+     *
+     * @param job the job
+     * @param task the export writing into the given stream, it runs without the {@link FacesContext} of the request
+     * @return the running export
+     * @throws IOException if the queue is full; the job is failed then
+     */
+    public Future<?> submit(ExportJob job, Task task) throws IOException {
+        if (!permits.tryAcquire()) {
+            IOException e = new IOException("Too many exports queued, export " + job.getId() + " rejected");
+            job.fail(e);
+            throw e;
+        }
+
+        try {
+            job.submitted();
+            return executor.submit(() -> run(job, task));
+        }
+        catch (RejectedExecutionException e) {
+            permits.release();
+            job.fail(e);
+            throw new IOException("Export " + job.getId() + " rejected", e);
+        }
+    }
+
+    protected void run(ExportJob job, Task task) {
+        Path file = null;
+        try {
+            job.start();
+            file = Files.createTempFile("primefaces-export-", null);
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(file))) {
+                task.export(os);
+            }
+            job.complete(file);
+        }
+        catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Export " + job.getId() + " failed");
+            job.fail(e);
+            delete(file);
+        }
+        finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @param context the {@link FacesContext}
+     * @param id the job id
+     * @return the job, if it belongs to the current session and is not expired
+     */
+    public ExportJob get(FacesContext context, String id) {
+        ExportJob job = id == null ? null : jobs.get(id);
+        if (job == null || !Objects.equals(job.getSessionId(), context.getExternalContext().getSessionId(false))) {
+            return null;
+        }
+        return job;
+    }
+
+    /**
+     * @param context the {@link FacesContext}
+     * @return the jobs of the current session
+     */
+    public List<ExportJob> getJobs(FacesContext context) {
+        String sessionId = context.getExternalContext().getSessionId(false);
+        return jobs.values().stream()
+                .filter(job -> Objects.equals(job.getSessionId(), sessionId))
+                .collect(Collectors.toList());
+    }
+
+    public String getDownloadURL(FacesContext context, ExportJob job) {
+        Resource resource = context.getApplication().getResourceHandler().createResource(
+                "dynamiccontent.properties", Constants.LIBRARY, "text/plain");
+
+        String url = resource.getRequestPath()
+                + "&" + Constants.DYNAMIC_CONTENT_PARAM + "=" + URLEncoder.encode(job.getId(), StandardCharsets.UTF_8)
+                + "&" + Constants.DYNAMIC_CONTENT_TYPE_PARAM + "=" + DynamicContentType.STREAMED_CONTENT
+                + "&" + Constants.DYNAMIC_CONTENT_EXPORT_PARAM + "=true";
+        return context.getExternalContext().encodeResourceURL(url);
+    }
+
+    /**
+     * Removes the jobs and their files, which finished more than {@link #EXPIRATION} ago, or which have never been submitted,
+     * e.g. as the request failed. Runs every minute.
+     */
+    protected void removeExpired() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> {
+            boolean expired = job.getFinishedAt() > 0
+                    ? now - job.getFinishedAt() > EXPIRATION
+                    : job.getStatus() == ExportJob.Status.QUEUED && job.getSubmittedAt() == 0 && now - job.getCreatedAt() > EXPIRATION;
+            if (expired) {
+                delete(job.getFile());
+            }
+            return expired;
+        });
+    }
+
+    /**
+     * Stops the running exports and deletes all files.
+     */
+    public void close() {
+        cleaner.shutdownNow();
+        executor.shutdownNow();
+        jobs.values().forEach(job -> delete(job.getFile()));
+        jobs.clear();
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    protected void delete(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            }
+            catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not delete export file " + file, e);
+            }
+        }
+    }
+}
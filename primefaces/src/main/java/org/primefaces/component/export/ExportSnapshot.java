@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import org.primefaces.component.api.UIColumn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.faces.component.UIComponent;
+
+/**
+ * Values of an export with <code>async="true"</code>, which are evaluated on the request thread by
+ * {@link TableExporter#snapshot(jakarta.faces.context.FacesContext, List, ExportConfiguration)}: the facets, the header and footer
+ * of the columns and the cells of all exported rows. The export in the background only writes them into the file via
+ * {@link TableExporter#export(ExportSnapshot, ExportConfiguration)}, without loading data or evaluating the view.
+ */
+public class ExportSnapshot {
+
+    private final Locale locale;
+    private final List<TableValues> tables = new ArrayList<>();
+    private long rowCount;
+
+    ExportSnapshot(Locale locale) {
+        this.locale = locale;
+    }
+
+    TableValues addTable(UIComponent table) {
+        TableValues values = new TableValues(table);
+        tables.add(values);
+        return values;
+    }
+
+    void addRow(ColumnValue[] row) {
+        tables.get(tables.size() - 1).rows.add(row);
+        rowCount++;
+    }
+
+    void endPage() {
+        tables.get(tables.size() - 1).rows.add(null);
+    }
+
+    List<TableValues> getTables() {
+        return Collections.unmodifiableList(tables);
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * @return the number of exported rows of all tables
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    static final class TableValues {
+
+        final UIComponent table;
+        final Map<String, String> facetValues = new HashMap<>(2);
+        // header and footer value, by the ordinal of TableExporter.ColumnType
+        final Map<UIColumn, ColumnValue[]> columnFacetValues = new IdentityHashMap<>();
+        final Map<UIColumn, String> columnExportTags = new IdentityHashMap<>();
+        List<UIColumn> columns;
+        // the exportable columns of each row of the header column group, null without column group
+        List<List<UIColumn>> headerColumnGroup;
+        // the cells of each row, null where a page ends
+        final List<ColumnValue[]> rows = new ArrayList<>();
+
+        TableValues(UIComponent table) {
+            this.table = table;
+        }
+    }
+}
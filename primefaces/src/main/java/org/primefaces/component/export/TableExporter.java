@@ -37,15 +37,18 @@ import org.primefaces.util.EscapeUtils;
 import org.primefaces.util.FacetUtils;
 import org.primefaces.util.IOUtils;
 import org.primefaces.util.LangUtils;
+import org.primefaces.util.LocaleUtils;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -89,6 +92,12 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
 
     private final Set<FacetType> supportedFacetTypes;
 
+    // set while an async export is evaluated on the request thread (capturing) or written in the background
+    private ExportSnapshot snapshot;
+    private boolean capturing;
+    private ExportSnapshot.TableValues tableValues;
+    private ColumnValue[] rowValues;
+
     protected enum ColumnType {
         HEADER("header"),
         FOOTER("footer");
@@ -132,8 +141,17 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
         try {
             preExport(context);
 
-            ExportVisitCallback exportCallback = new ExportVisitCallback(tables);
-            exportCallback.export(context);
+            if (isReplaying()) {
+                int index = 0;
+                for (ExportSnapshot.TableValues values : snapshot.getTables()) {
+                    tableValues = values;
+                    exportTable(context, (T) values.table, index++);
+                }
+            }
+            else {
+                ExportVisitCallback exportCallback = new ExportVisitCallback(tables);
+                exportCallback.export(context);
+            }
 
             postExport(context);
         }
@@ -144,6 +162,105 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
         }
     }
 
+    /**
+     * Evaluates the tables of an async export on the request thread: loads the rows and evaluates the values of all cells,
+     * facets, headers and footers, without creating the document. Processors and listeners, which get the document, are not
+     * supported then.
+     *
+     * @param context the {@link FacesContext}
+     * @param tables the exported tables
+     * @param exportConfiguration the {@link ExportConfiguration}
+     * @return the snapshot to write via {@link #export(ExportSnapshot, ExportConfiguration)}
+     */
+    public ExportSnapshot snapshot(FacesContext context, List<T> tables, ExportConfiguration exportConfiguration) {
+        if (exportConfiguration.getPreProcessor() != null || exportConfiguration.getPostProcessor() != null
+                || exportConfiguration.getOnTableRender() != null || exportConfiguration.getOnRowExport() != null) {
+            throw new FacesException("preProcessor, postProcessor, onTableRender and onRowExport are not supported by async exports");
+        }
+
+        this.exportConfiguration = exportConfiguration;
+        this.snapshot = new ExportSnapshot(LocaleUtils.getCurrentLocale(context));
+        this.capturing = true;
+        try {
+            new ExportVisitCallback(tables).export(context);
+            return snapshot;
+        }
+        finally {
+            snapshot = null;
+            capturing = false;
+            tableValues = null;
+        }
+    }
+
+    /**
+     * Writes an async export from its snapshot, in the background. Neither data is loaded nor the view is evaluated then, the
+     * <code>context</code> passed to the callbacks is <code>null</code>; only attributes of the tables and columns, which
+     * control the layout of the document (e.g. <code>style</code> or <code>exportRowspan</code>), are read.
+     *
+     * @param snapshot the snapshot of {@link #snapshot(FacesContext, List, ExportConfiguration)}
+     * @param exportConfiguration the {@link ExportConfiguration}
+     * @throws IOException if the document can't be written
+     */
+    public void export(ExportSnapshot snapshot, ExportConfiguration exportConfiguration) throws IOException {
+        this.snapshot = snapshot;
+        try {
+            export(null, Collections.emptyList(), exportConfiguration);
+        }
+        finally {
+            this.snapshot = null;
+            tableValues = null;
+            rowValues = null;
+        }
+    }
+
+    private boolean isReplaying() {
+        return snapshot != null && !capturing;
+    }
+
+    private void captureTable(FacesContext context, T table) {
+        tableValues = snapshot.addTable(table);
+        for (ColumnType columnType : ColumnType.values()) {
+            tableValues.facetValues.put(columnType.facet(), getComponentFacetValue(context, table, columnType.facet()));
+        }
+
+        tableValues.columns = getExportableColumns(table);
+        for (UIColumn column : tableValues.columns) {
+            if (column instanceof DynamicColumn) {
+                ((DynamicColumn) column).applyStatelessModel();
+            }
+            captureColumn(context, column);
+        }
+
+        ColumnGroup cg = table.getColumnGroup(ColumnType.HEADER.facet());
+        if (exportConfiguration.isExportHeader() && supportedFacetTypes.contains(FacetType.COLUMN_GROUP) && cg != null && cg.getChildCount() > 0) {
+            List<List<UIColumn>> rows = new ArrayList<>();
+            table.forEachColumnGroupRow(context, cg, true, row -> {
+                List<UIColumn> columns = new ArrayList<>();
+                table.forEachColumn(context, row, true, true, false, column -> {
+                    if (column.isExportable()) {
+                        captureColumn(context, column);
+                        columns.add(column);
+                    }
+                    return true;
+                });
+                rows.add(columns);
+                return true;
+            });
+            tableValues.headerColumnGroup = rows;
+        }
+
+        exportRows(context, table);
+    }
+
+    private void captureColumn(FacesContext context, UIColumn column) {
+        ColumnValue[] values = new ColumnValue[ColumnType.values().length];
+        for (ColumnType columnType : ColumnType.values()) {
+            values[columnType.ordinal()] = getColumnFacetValue(context, column, columnType);
+        }
+        tableValues.columnFacetValues.put(column, values);
+        tableValues.columnExportTags.put(column, getColumnExportTag(context, column));
+    }
+
     protected void exportTable(FacesContext context, T table, int index) throws IOException {
         if (exportConfiguration.getOnTableRender() != null) {
             exportConfiguration.getOnTableRender().invoke(context.getELContext(), getOnTableRenderArgs());
@@ -157,15 +274,7 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
             }
         }
 
-        if (exportConfiguration.isPageOnly()) {
-            exportPageOnly(context, table);
-        }
-        else if (exportConfiguration.isSelectionOnly()) {
-            exportSelectionOnly(context, table);
-        }
-        else {
-            exportAll(context, table);
-        }
+        exportRows(context, table);
 
         if (exportConfiguration.isExportFooter()) {
             if (table.hasFooterColumn()) {
@@ -176,6 +285,30 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
         }
     }
 
+    private void exportRows(FacesContext context, T table) {
+        if (isReplaying()) {
+            for (ColumnValue[] row : tableValues.rows) {
+                if (row == null) {
+                    flushPage(context, table);
+                }
+                else {
+                    rowValues = row;
+                    addCells(context, table);
+                }
+            }
+            rowValues = null;
+        }
+        else if (exportConfiguration.isPageOnly()) {
+            exportPageOnly(context, table);
+        }
+        else if (exportConfiguration.isSelectionOnly()) {
+            exportSelectionOnly(context, table);
+        }
+        else {
+            exportAll(context, table);
+        }
+    }
+
     protected void addTableFacets(FacesContext context, T table, ColumnType columnType) {
         if (!supportedFacetTypes.contains(FacetType.TABLE)) {
             return;
@@ -207,26 +340,33 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
             return false;
         }
 
+        int total = getExportableColumns(table).size();
+        if (isReplaying()) {
+            List<List<UIColumn>> rows = columnType == ColumnType.HEADER ? tableValues.headerColumnGroup : null;
+            if (rows == null) {
+                return false;
+            }
+
+            for (List<UIColumn> row : rows) {
+                final AtomicInteger colIndex = new AtomicInteger(0);
+                for (UIColumn column : row) {
+                    addColumnGroupFacetValue(context, table, column, colIndex, total, columnType);
+                }
+            }
+            return true;
+        }
+
         ColumnGroup cg = table.getColumnGroup(columnType.facet());
         if (cg == null || cg.getChildCount() == 0) {
             return false;
         }
 
-        int total = getExportableColumns(table).size();
         table.forEachColumnGroupRow(context, cg, true, row -> {
             final AtomicInteger colIndex = new AtomicInteger(0);
 
             table.forEachColumn(context, row, true, true, false, column -> {
                 if (column.isExportable()) {
-                    ColumnValue columnValue = getColumnFacetValue(context, column, columnType);
-
-                    proxifyWithRowExport(context,
-                            table,
-                            colIndex.get(),
-                            total,
-                            () -> exportColumnGroupFacetValue(context, table, column, colIndex, columnValue));
-
-                    colIndex.incrementAndGet();
+                    addColumnGroupFacetValue(context, table, column, colIndex, total, columnType);
                 }
                 return true;
             });
@@ -235,10 +375,42 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
         return true;
     }
 
+    private void addColumnGroupFacetValue(FacesContext context, T table, UIColumn column, AtomicInteger colIndex, int total,
+            ColumnType columnType) {
+        ColumnValue columnValue = getColumnFacetValue(context, column, columnType);
+
+        proxifyWithRowExport(context,
+                table,
+                colIndex.get(),
+                total,
+                () -> exportColumnGroupFacetValue(context, table, column, colIndex, columnValue));
+
+        colIndex.incrementAndGet();
+    }
+
     protected void addCells(FacesContext context, T table) {
+        if (capturing) {
+            List<UIColumn> columns = getExportableColumns(table);
+            ColumnValue[] row = new ColumnValue[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                UIColumn col = columns.get(i);
+                if (col instanceof DynamicColumn) {
+                    ((DynamicColumn) col).applyStatelessModel();
+                }
+                row[i] = getColumnValue(context, table, col, cellJoinComponents);
+            }
+            snapshot.addRow(row);
+            return;
+        }
+
+        ColumnValue[] row = rowValues;
         addRow(context, table, (col, i) ->
-                exportCellValue(context, table, col, getColumnValue(context, table, col, cellJoinComponents), i)
+                exportCellValue(context, table, col, row != null ? row[i] : getColumnValue(context, table, col, cellJoinComponents), i)
         );
+
+        if (exportConfiguration.getExportJob() != null) {
+            exportConfiguration.getExportJob().rowExported();
+        }
     }
 
     protected void exportTabletFacetValue(FacesContext context, T table, String textValue) {
@@ -292,11 +464,49 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
 
     protected abstract D createDocument(FacesContext context) throws IOException;
 
+    /**
+     * @param context the {@link FacesContext}, <code>null</code> while writing an async export
+     * @return the locale of the view
+     */
+    protected Locale getLocale(FacesContext context) {
+        return isReplaying() ? snapshot.getLocale() : LocaleUtils.getCurrentLocale(context);
+    }
+
+    /**
+     * Called by the row iteration in streaming mode after each page of rows, see {@link #flushPage(FacesContext, UIComponent)}.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the exported table
+     */
+    protected void endPage(FacesContext context, T table) {
+        if (capturing) {
+            snapshot.endPage();
+        }
+        else {
+            flushPage(context, table);
+        }
+    }
+
+    /**
+     * Called in streaming mode after each page of rows, to write everything buffered so far to the output stream.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the exported table
+     */
+    protected void flushPage(FacesContext context, T table) {
+        try {
+            os().flush();
+        }
+        catch (IOException e) {
+            throw new FacesException(e);
+        }
+    }
+
     private void addRow(FacesContext context, T table, ObjIntConsumer<UIColumn> callback) {
         List<UIColumn> columns = getExportableColumns(table);
         for (int i = 0; i < columns.size(); i++) {
             UIColumn col = columns.get(i);
-            if (col instanceof DynamicColumn) {
+            if (col instanceof DynamicColumn && !isReplaying()) {
                 ((DynamicColumn) col).applyStatelessModel();
             }
 
@@ -334,7 +544,12 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
         @Override
         public VisitResult visit(VisitContext context, UIComponent component) {
             try {
-                exportTable(context.getFacesContext(), (T) component, index);
+                if (capturing) {
+                    captureTable(context.getFacesContext(), (T) component);
+                }
+                else {
+                    exportTable(context.getFacesContext(), (T) component, index);
+                }
                 index++;
             }
             catch (IOException e) {
@@ -362,6 +577,10 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
      * @return the List<UIColumn> that are exportable
      */
     protected List<UIColumn> getExportableColumns(T table) {
+        if (isReplaying() && tableValues != null && tableValues.table == table) {
+            return tableValues.columns;
+        }
+
         if (exportableColumnsCache.containsKey(table)) {
             return exportableColumnsCache.get(table);
         }
@@ -545,6 +764,10 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
     }
 
     public String getComponentFacetValue(FacesContext context, UIComponent parent, String facetname) {
+        if (isReplaying()) {
+            return parent == tableValues.table ? tableValues.facetValues.get(facetname) : null;
+        }
+
         UIComponent facet = parent.getFacet(facetname);
         if (FacetUtils.shouldRenderFacet(facet)) {
             if (facet instanceof UIPanel) {
@@ -567,6 +790,11 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
     }
 
     public ColumnValue getColumnFacetValue(FacesContext context, UIColumn column, TableExporter.ColumnType columnType) {
+        if (isReplaying()) {
+            ColumnValue[] values = tableValues.columnFacetValues.get(column);
+            return values != null ? values[columnType.ordinal()] : ColumnValue.EMPTY_VALUE;
+        }
+
         ColumnValue columnValue = ColumnValue.EMPTY_VALUE;
         if (columnType == TableExporter.ColumnType.HEADER) {
             columnValue = ColumnValue.of(Optional.ofNullable(column.getExportHeaderValue()).orElseGet(column::getHeaderText));
@@ -584,6 +812,10 @@ public abstract class TableExporter<T extends UIComponent & UITable, D, O extend
     }
 
     public String getColumnExportTag(FacesContext context, UIColumn column) {
+        if (isReplaying()) {
+            return tableValues.columnExportTags.getOrDefault(column, Constants.EMPTY_STRING);
+        }
+
         // lowerCase really? camelCase at best
         String columnTag = column.getExportTag();
         if (LangUtils.isBlank(columnTag)) {
@@ -29,10 +29,19 @@ import org.primefaces.model.file.UploadedFileWrapper;
 import org.primefaces.model.file.UploadedFiles;
 import org.primefaces.model.file.UploadedFilesWrapper;
 import org.primefaces.util.FileUploadUtils;
+import org.primefaces.validate.FileValidator;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
@@ -48,8 +57,25 @@ import jakarta.servlet.http.HttpServletRequest;
 
 public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> implements FileUploadDecoder, FileUploadChunkDecoder<T> {
 
+    /**
+     * Name of the preallocated file within the chunk directory, which the chunks are written to with <code>chunkAssembly="positional"</code>.
+     * The chunks itself are only recorded by marker files named by their begin offset and containing their end offset (exclusive).
+     */
+    protected static final String ASSEMBLY_FILE = "assembly";
+
     private static final Logger LOGGER = Logger.getLogger(AbstractFileUploadDecoder.class.getName());
 
+    private static final int LOCK_STRIPES = 64;
+
+    // guard creating, opening and completing the assembly file of a chunk directory
+    private final Object[] assemblyLocks = new Object[LOCK_STRIPES];
+
+    protected AbstractFileUploadDecoder() {
+        for (int i = 0; i < assemblyLocks.length; i++) {
+            assemblyLocks[i] = new Object();
+        }
+    }
+
     @Override
     public void decode(FacesContext context, FileUpload fileUpload) {
         T request = getRequest(context);
@@ -73,6 +99,7 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
             List<UploadedFile> files = createUploadedFiles(request, fileUpload, inputToDecodeId);
 
             if (!files.isEmpty()) {
+                files.forEach(file -> startVirusScan(fileUpload, file));
                 UploadedFiles uploadedFiles = new UploadedFiles(files);
                 fileUpload.setSubmittedValue(new UploadedFilesWrapper(uploadedFiles));
             }
@@ -83,6 +110,7 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
         else {
             UploadedFile uploadedFile = createUploadedFile(request, fileUpload, inputToDecodeId);
             if (uploadedFile != null) {
+                startVirusScan(fileUpload, uploadedFile);
                 fileUpload.setSubmittedValue(new UploadedFileWrapper(uploadedFile));
             }
             else {
@@ -98,11 +126,26 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
                 decodeContentRange(fileUpload, request, uploadedFile);
             }
             else {
+                startVirusScan(fileUpload, uploadedFile);
                 fileUpload.setSubmittedValue(new UploadedFileWrapper(uploadedFile));
             }
         }
     }
 
+    /**
+     * Starts the virus scan of the uploaded file, if enabled by the {@link FileValidator}, so it runs while the request is decoded
+     * and validated further; the validator only waits for its result then.
+     *
+     * @param fileUpload the {@link FileUpload}
+     * @param uploadedFile the complete file
+     */
+    protected void startVirusScan(FileUpload fileUpload, UploadedFile uploadedFile) {
+        FileValidator validator = fileUpload.getFileValidator();
+        if (validator != null && Boolean.TRUE.equals(validator.getVirusScan())) {
+            FileUploadUtils.startVirusScan(FacesContext.getCurrentInstance(), uploadedFile);
+        }
+    }
+
     protected String resolveInputToDecodeId(FacesContext context, FileUpload fileUpload) {
         String clientId = fileUpload.getClientId(context);
         String mode = fileUpload.getMode();
@@ -126,17 +169,33 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
 
         Path chunksDir = FileUploadUtils.getChunkDir(request);
 
+        if ("positional".equals(fileUpload.getChunkAssembly())) {
+            UploadedFile uploadedFile = writeChunkAtPosition(request, chunk, chunksDir, contentRange, fileUpload.getSizeLimit());
+            if (uploadedFile != null) {
+                request.setAttribute(MULTIPARTS, uploadedFile);
+                startVirusScan(fileUpload, uploadedFile);
+                fileUpload.setSubmittedValue(new UploadedFileWrapper(uploadedFile));
+            }
+            return;
+        }
+
         writeChunk(chunk, chunksDir, contentRange);
 
         if (contentRange.isLastChunk()) {
             UploadedFile uploadedFile = processLastChunk(request, chunk, chunksDir, contentRange, fileUpload.getSizeLimit());
             request.setAttribute(MULTIPARTS, uploadedFile);
+            startVirusScan(fileUpload, uploadedFile);
             fileUpload.setSubmittedValue(new UploadedFileWrapper(uploadedFile));
         }
     }
 
     @Override
     public long decodeUploadedBytes(T request) {
+        Path chunkDir = FileUploadUtils.getChunkDir(request);
+        if (Files.exists(chunkDir.resolve(ASSEMBLY_FILE))) {
+            return Math.max(getAssembledBytes(chunkDir), 0);
+        }
+
         long uploadedBytes = 0;
         for (Path chunk : FileUploadUtils.listChunks(request)) {
             try {
@@ -154,8 +213,10 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
     @Override
     public void deleteChunks(T request) throws IOException {
         Path chunkDir = FileUploadUtils.getChunkDir(request);
-        List<Path> chunks = FileUploadUtils.listChunks(chunkDir);
-        deleteChunkFolder(chunkDir, chunks);
+        synchronized (getAssemblyLock(chunkDir)) {
+            List<Path> chunks = FileUploadUtils.listChunks(chunkDir);
+            deleteChunkFolder(chunkDir, chunks);
+        }
     }
 
     protected void writeChunk(UploadedFile uploadedFile, Path path, ContentRange contentRange) throws IOException {
@@ -170,6 +231,124 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
         }
     }
 
+    /**
+     * Writes the chunk at its offset into the preallocated assembly file and records it with a marker file.
+     * The first chunk, which begins at offset 0, starts the upload; further chunks may arrive in any order and in parallel, and the
+     * request which completes the file moves it to its final location. Chunks for an upload which hasn't been started or has already
+     * been completed, e.g. retried ones, are rejected, so they never leave a partially filled assembly file behind.
+     *
+     * @return the uploaded file if this chunk completed the upload, otherwise <code>null</code>
+     */
+    protected UploadedFile writeChunkAtPosition(T request, UploadedFile chunk, Path chunksDir, ContentRange contentRange, Long sizeLimit)
+            throws IOException {
+        long begin = contentRange.getChunkRangeBegin();
+        long end = contentRange.getChunkRangeEnd() + 1;
+        long total = contentRange.getChunkTotalFileSize();
+        if (begin >= end || end > total) {
+            throw new IOException("Invalid Content-Range: " + getContentRange(request));
+        }
+        // checked before the declared size is preallocated on disk
+        if (sizeLimit != null && total > sizeLimit) {
+            throw new IOException("File size " + total + " exceeds the size limit of " + sizeLimit + " bytes");
+        }
+
+        Path assembly = chunksDir.resolve(ASSEMBLY_FILE);
+        Object lock = getAssemblyLock(chunksDir);
+
+        try (RandomAccessFile file = openAssembly(lock, chunksDir, assembly, begin == 0);
+                InputStream is = chunk.getInputStream()) {
+            // only grows the file, so data of chunks written in parallel is never truncated
+            if (file.length() < total) {
+                file.setLength(total);
+            }
+
+            // file to file transfers, e.g. from the temporary file of a multipart, don't pass the data through the heap
+            ReadableByteChannel source = is instanceof FileInputStream ? ((FileInputStream) is).getChannel() : Channels.newChannel(is);
+            FileChannel target = file.getChannel();
+            long position = begin;
+            while (position < end) {
+                long transferred = target.transferFrom(source, position, end - position);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            if (position != end || is.read() != -1) {
+                throw new IOException("Chunk does not match Content-Range: " + getContentRange(request));
+            }
+        }
+
+        synchronized (lock) {
+            if (!Files.exists(assembly)) {
+                // completed by a parallel request, while this one wrote the same range again
+                return null;
+            }
+
+            // write the marker atomically, so a concurrent request never reads a partially written marker
+            Path marker = chunksDir.resolve(String.valueOf(begin));
+            Path tmpMarker = chunksDir.resolve(begin + ".tmp");
+            Files.write(tmpMarker, String.valueOf(end).getBytes(StandardCharsets.US_ASCII));
+            Files.move(tmpMarker, marker, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            if (getAssembledBytes(chunksDir) != total) {
+                return null;
+            }
+
+            String fileKey = generateFileInfoKey(request);
+            Path whole = Paths.get(getUploadDirectory(request), "[" + fileKey +  "]" + chunk.getFileName());
+            Files.move(assembly, whole, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            deleteChunkFolder(chunksDir, FileUploadUtils.listChunks(chunksDir));
+
+            return new NIOUploadedFile(whole, chunk.getFileName(), chunk.getContentType(), sizeLimit, FileUploadUtils.getWebkitRelativePath(request));
+        }
+    }
+
+    /**
+     * Opens the assembly file, which only the first chunk may create.
+     */
+    private RandomAccessFile openAssembly(Object lock, Path chunksDir, Path assembly, boolean first) throws IOException {
+        synchronized (lock) {
+            if (first) {
+                Files.createDirectories(chunksDir);
+            }
+            else if (!Files.exists(assembly)) {
+                throw new IOException("Chunked upload not started or already completed: " + chunksDir.getFileName());
+            }
+            return new RandomAccessFile(assembly.toFile(), "rw");
+        }
+    }
+
+    private Object getAssemblyLock(Path chunksDir) {
+        return assemblyLocks[Math.floorMod(chunksDir.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * Returns the number of bytes which have been assembled without gaps from the beginning of the file.
+     *
+     * @return the contiguous bytes or <code>-1</code> if the chunk directory has been removed in the meantime
+     */
+    protected long getAssembledBytes(Path chunksDir) {
+        try {
+            long assembled = 0;
+            for (Path marker : FileUploadUtils.listChunks(chunksDir)) {
+                long begin = Long.parseLong(marker.getFileName().toString());
+                if (begin > assembled) {
+                    break;
+                }
+                long end = Long.parseLong(new String(Files.readAllBytes(marker), StandardCharsets.US_ASCII));
+                assembled = Math.max(assembled, end);
+            }
+            return assembled;
+        }
+        catch (NoSuchFileException | UncheckedIOException | FacesException e) {
+            // removed by the parallel request which completed the upload
+            return -1;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     protected UploadedFile processLastChunk(T request, UploadedFile chunk, Path chunksDir, ContentRange contentRange, Long sizeLimit) throws IOException {
         String fileKey = generateFileInfoKey(request);
         Path whole = Paths.get(getUploadDirectory(request), "[" + fileKey +  "]" + chunk.getFileName());
@@ -200,6 +379,7 @@ public abstract class AbstractFileUploadDecoder<T extends HttpServletRequest> im
             Files.delete(p);
         }
 
+        Files.deleteIfExists(chunksDir.resolve(ASSEMBLY_FILE));
         Files.delete(chunksDir);
     }
 
@@ -44,6 +44,7 @@ public abstract class FileUploadBase extends UIInput implements Widget {
         chooseButtonStyleClass,
         chooseButtonTitle,
         chooseIcon,
+        chunkAssembly,
         disabled,
         displayFilename,
         dragDrop,
@@ -347,6 +348,14 @@ public abstract class FileUploadBase extends UIInput implements Widget {
         getStateHelper().put(PropertyKeys.maxChunkSize, maxChunkSize);
     }
 
+    public String getChunkAssembly() {
+        return (String) getStateHelper().eval(PropertyKeys.chunkAssembly, "merge");
+    }
+
+    public void setChunkAssembly(String chunkAssembly) {
+        getStateHelper().put(PropertyKeys.chunkAssembly, chunkAssembly);
+    }
+
     public int getMaxRetries() {
         return (Integer) getStateHelper().eval(PropertyKeys.maxRetries, 30);
     }
@@ -83,6 +83,7 @@ public class Tree extends TreeBase {
     public static final String LEAF_ICON_CLASS = "ui-treenode-leaf-icon";
     public static final String NODE_ICON_CLASS = "ui-treenode-icon ui-icon";
     public static final String NODE_LABEL_CLASS = "ui-treenode-label";
+    public static final String LOAD_MORE_LINK_CLASS = "ui-treenode-loadmore-link";
 
     private static final Map<String, Class<? extends BehaviorEvent>> BEHAVIOR_EVENT_MAPPING = MapBuilder.<String, Class<? extends BehaviorEvent>>builder()
             .put("select", NodeSelectEvent.class)
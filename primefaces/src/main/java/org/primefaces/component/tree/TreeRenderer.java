@@ -33,6 +33,7 @@ import org.primefaces.model.filter.FunctionFilterConstraint;
 import org.primefaces.renderkit.CoreRenderer;
 import org.primefaces.renderkit.RendererUtils;
 import org.primefaces.util.ComponentUtils;
+import org.primefaces.util.FacetUtils;
 import org.primefaces.util.HTML;
 import org.primefaces.util.LangUtils;
 import org.primefaces.util.LocaleUtils;
@@ -49,6 +50,7 @@ import java.util.Map;
 
 import jakarta.el.ValueExpression;
 import jakarta.faces.FacesException;
+import jakarta.faces.component.UIComponent;
 import jakarta.faces.component.UINamingContainer;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.context.ResponseWriter;
@@ -253,6 +255,20 @@ public class TreeRenderer extends CoreRenderer<Tree> {
                 component.setRowKey(root, null);
             }
         }
+        else if (component.isLoadMoreRequest(context)) {
+            String clientId = component.getClientId(context);
+            Map<String, String> params = context.getExternalContext().getRequestParameterMap();
+
+            component.setRowKey(root, params.get(clientId + "_loadMore"));
+            TreeNode<?> node = component.getRowNode();
+            int first = component.loadMoreChildren(context, node);
+            if (first >= 0) {
+                encodeTreeNodeChildren(context, component, root, node, clientId, component.isDynamic(), component.isCheckboxSelectionMode(),
+                        component.isDroppable(), first);
+            }
+
+            component.setRowKey(root, null);
+        }
         else if (component.isFilterRequest(context)) {
             String clientId = component.getClientId();
             Map<String, String> params = context.getExternalContext().getRequestParameterMap();
@@ -812,22 +828,55 @@ public class TreeRenderer extends CoreRenderer<Tree> {
     public void encodeTreeNodeChildren(FacesContext context, Tree component, TreeNode<?> root, TreeNode<?> node, String clientId,
                                        boolean dynamic, boolean checkbox, boolean droppable)
             throws IOException {
+        encodeTreeNodeChildren(context, component, root, node, clientId, dynamic, checkbox, droppable, 0);
+    }
+
+    public void encodeTreeNodeChildren(FacesContext context, Tree component, TreeNode<?> root, TreeNode<?> node, String clientId,
+                                       boolean dynamic, boolean checkbox, boolean droppable, int first)
+            throws IOException {
 
         int childCount = node.getChildCount();
         if (childCount > 0) {
-            for (int i = 0; i < childCount; i++) {
+            for (int i = first; i < childCount; i++) {
                 if (i == 0 && droppable) {
                     encodeDropTarget(context, component);
                 }
 
                 encodeTreeNode(context, component, root, node.getChildren().get(i), clientId, dynamic, checkbox, droppable);
             }
+
+            if (UITree.hasMoreChildren(node)) {
+                encodeLoadMore(context, component, node);
+            }
         }
         else if (droppable && UITree.ROOT_ROW_KEY.equals(node.getRowKey())) {
             encodeDropTarget(context, component);
         }
     }
 
+    protected void encodeLoadMore(FacesContext context, Tree component, TreeNode<?> node) throws IOException {
+        ResponseWriter writer = context.getResponseWriter();
+        UIComponent facet = component.getFacet("loadMore");
+
+        writer.startElement("li", null);
+        writer.writeAttribute("class", Tree.LOAD_MORE_CLASS, null);
+        writer.writeAttribute("data-rowkey", node.getRowKey(), null);
+        writer.writeAttribute("role", "none", null);
+
+        writer.startElement("a", null);
+        writer.writeAttribute("href", "#", null);
+        writer.writeAttribute("class", Tree.LOAD_MORE_LINK_CLASS, null);
+        if (FacetUtils.shouldRenderFacet(facet)) {
+            facet.encodeAll(context);
+        }
+        else {
+            writer.writeText(component.getLoadMoreLabel(context, node), null);
+        }
+        writer.endElement("a");
+
+        writer.endElement("li");
+    }
+
     protected void encodeDropTarget(FacesContext context, Tree component) throws IOException {
         ResponseWriter writer = context.getResponseWriter();
 
@@ -100,6 +100,8 @@ public class TreeTable extends TreeTableBase {
     public static final String RESIZABLE_COLUMN_CLASS = "ui-resizable-column";
     public static final String INDENT_CLASS = "ui-treetable-indent";
     public static final String EMPTY_MESSAGE_ROW_CLASS = "ui-widget-content ui-treetable-empty-message";
+    public static final String LOAD_MORE_ROW_CLASS = "ui-widget-content ui-treetable-loadmore";
+    public static final String LOAD_MORE_LINK_CLASS = "ui-treetable-loadmore-link";
     public static final String PARTIAL_SELECTED_CLASS = "ui-treetable-partialselected";
     public static final String SORTABLE_COLUMN_ICON_CLASS = "ui-sortable-column-icon ui-icon ui-icon-carat-2-n-s";
     public static final String SORTABLE_COLUMN_ASCENDING_ICON_CLASS = "ui-sortable-column-icon ui-icon ui-icon ui-icon-carat-2-n-s ui-icon-triangle-1-n";
@@ -821,9 +821,49 @@ public class TreeTableRenderer extends DataRenderer<TreeTable> {
             for (int i = first; i < last; i++) {
                 encodeNode(context, component, root, children.get(i));
             }
+
+            if (last == childCount && UITree.hasMoreChildren(treeNode)) {
+                encodeLoadMore(context, component, treeNode);
+            }
         }
     }
 
+    protected void encodeLoadMore(FacesContext context, TreeTable component, TreeNode treeNode) throws IOException {
+        ResponseWriter writer = context.getResponseWriter();
+        String rowKey = treeNode.getRowKey();
+        UIComponent facet = component.getFacet("loadMore");
+
+        writer.startElement("tr", null);
+        writer.writeAttribute("class", TreeTable.LOAD_MORE_ROW_CLASS, null);
+        // not a node, but the suffix keeps it within the rowKey range of its parent e.g. for collapsing
+        writer.writeAttribute("data-rk", rowKey + UITree.SEPARATOR + "more", null);
+        writer.writeAttribute("data-lmk", rowKey, null);
+
+        writer.startElement("td", null);
+        writer.writeAttribute("colspan", component.getColumnsCount(), null);
+
+        int depth = UITree.ROOT_ROW_KEY.equals(rowKey) ? 0 : rowKey.split(UITree.SEPARATOR).length;
+        for (int j = 0; j < depth; j++) {
+            writer.startElement("span", null);
+            writer.writeAttribute("class", TreeTable.INDENT_CLASS, null);
+            writer.endElement("span");
+        }
+
+        writer.startElement("a", null);
+        writer.writeAttribute("href", "#", null);
+        writer.writeAttribute("class", TreeTable.LOAD_MORE_LINK_CLASS, null);
+        if (FacetUtils.shouldRenderFacet(facet)) {
+            facet.encodeAll(context);
+        }
+        else {
+            writer.writeText(component.getLoadMoreLabel(context, treeNode), null);
+        }
+        writer.endElement("a");
+
+        writer.endElement("td");
+        writer.endElement("tr");
+    }
+
     protected void encodeFacet(FacesContext context, TreeTable component, UIComponent facet, String styleClass) throws IOException {
         if (!FacetUtils.shouldRenderFacet(facet)) {
             return;
@@ -39,6 +39,7 @@ public final class TreeTableFeatures {
                     new CollapseFeature(),
                     new ExpandFeature(),
                     new FilterFeature(),
+                    new LoadMoreFeature(),
                     new PageFeature(),
                     new ResizableColumnsFeature(),
                     new RowEditFeature(),
@@ -23,8 +23,10 @@
  */
 package org.primefaces.config;
 
+import org.primefaces.application.resource.DynamicContentRegistry;
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
+import org.primefaces.virusscan.VirusScannerService;
 
 import java.util.Map;
 import java.util.Objects;
@@ -53,14 +55,26 @@ public class PrimeConfiguration {
     private final boolean earlyPostParamEvaluation;
     private final boolean moveScriptsToBottom;
     private final boolean moveScriptsToBottomDeferred;
+    private final boolean moveScriptsToBottomBatchWidgets;
+    private final boolean resourceContentHash;
+    private final boolean resourceCache;
     private boolean csp;
     private boolean policyProvided;
     private String cspPolicy;
     private String cspReportOnlyPolicy;
     private String[] exceptionTypesToIgnoreInLogging;
     private final String multiViewStateStore;
+    private final int multiViewStateMaxEntries;
+    private final boolean multiViewStateCompact;
+    private final String multiViewStateSecret;
+    private final String multiViewStateAllowedClasses;
     private final boolean markInputAsInvalidOnErrorMsg;
     private int dynamicContentLimit;
+    private final boolean dynamicContentApplicationScoped;
+    private final String dynamicContentSecret;
+    private final int parallelTableThreshold;
+    private final int exportMaxConcurrent;
+    private final int virusScanMaxConcurrent;
 
     // internal config
     private final boolean stringConverterAvailable;
@@ -116,8 +130,24 @@ public class PrimeConfiguration {
         value = externalContext.getInitParameter(Constants.ContextParams.CLIENT_SIDE_LOCALISATION);
         clientSideLocalizationEnabled = Boolean.parseBoolean(Objects.toString(value, "true"));
 
+        value = externalContext.getInitParameter(Constants.ContextParams.DYNAMIC_CONTENT_SCOPE);
+        dynamicContentApplicationScoped = "application".equalsIgnoreCase(value);
+
+        // per session by default, for the whole application if application scoped
         value = externalContext.getInitParameter(Constants.ContextParams.DYNAMIC_CONTENT_LIMIT);
-        dynamicContentLimit = Integer.parseInt(Objects.toString(value, "200"));
+        dynamicContentLimit = Integer.parseInt(Objects.toString(value,
+                dynamicContentApplicationScoped ? String.valueOf(DynamicContentRegistry.DEFAULT_CAPACITY) : "200"));
+
+        dynamicContentSecret = externalContext.getInitParameter(Constants.ContextParams.DYNAMIC_CONTENT_SECRET);
+
+        value = externalContext.getInitParameter(Constants.ContextParams.PARALLEL_TABLE_THRESHOLD);
+        parallelTableThreshold = Integer.parseInt(Objects.toString(value, "0"));
+
+        value = externalContext.getInitParameter(Constants.ContextParams.EXPORT_MAX_CONCURRENT);
+        exportMaxConcurrent = value == null ? Runtime.getRuntime().availableProcessors() : Integer.parseInt(value);
+
+        value = externalContext.getInitParameter(Constants.ContextParams.VIRUSSCAN_MAX_CONCURRENT);
+        virusScanMaxConcurrent = value == null ? VirusScannerService.DEFAULT_MAX_CONCURRENT : Integer.parseInt(value);
 
         value = Objects.toString(externalContext.getInitParameter(Constants.ContextParams.MOVE_SCRIPTS_TO_BOTTOM));
         switch (value) {
@@ -135,6 +165,15 @@ public class PrimeConfiguration {
                 break;
         }
 
+        value = externalContext.getInitParameter(Constants.ContextParams.MOVE_SCRIPTS_TO_BOTTOM_BATCH_WIDGETS);
+        moveScriptsToBottomBatchWidgets = Boolean.parseBoolean(value);
+
+        value = externalContext.getInitParameter(Constants.ContextParams.RESOURCE_CONTENT_HASH);
+        resourceContentHash = Boolean.parseBoolean(value);
+
+        value = externalContext.getInitParameter(Constants.ContextParams.RESOURCE_CACHE);
+        resourceCache = Boolean.parseBoolean(value);
+
         value = Objects.toString(externalContext.getInitParameter(Constants.ContextParams.CSP));
         switch (value) {
             case "true":
@@ -164,6 +203,16 @@ public class PrimeConfiguration {
 
         multiViewStateStore = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_STORE);
 
+        value = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_MAX_ENTRIES);
+        multiViewStateMaxEntries = Integer.parseInt(Objects.toString(value, "100"));
+
+        value = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_COMPACT);
+        multiViewStateCompact = Boolean.parseBoolean(value);
+
+        multiViewStateSecret = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_SECRET);
+
+        multiViewStateAllowedClasses = externalContext.getInitParameter(Constants.ContextParams.MULTI_VIEW_STATE_ALLOWED_CLASSES);
+
         value = externalContext.getInitParameter(Constants.ContextParams.MARK_INPUT_AS_INVALID_ON_ERROR_MSG);
         markInputAsInvalidOnErrorMsg = Boolean.parseBoolean(value);
 
@@ -258,6 +307,18 @@ public class PrimeConfiguration {
         return moveScriptsToBottomDeferred;
     }
 
+    public boolean isMoveScriptsToBottomBatchWidgets() {
+        return moveScriptsToBottomBatchWidgets;
+    }
+
+    public boolean isResourceContentHash() {
+        return resourceContentHash;
+    }
+
+    public boolean isResourceCache() {
+        return resourceCache;
+    }
+
     public boolean isStringConverterAvailable() {
         return stringConverterAvailable;
     }
@@ -294,6 +355,22 @@ public class PrimeConfiguration {
         return multiViewStateStore;
     }
 
+    public int getMultiViewStateMaxEntries() {
+        return multiViewStateMaxEntries;
+    }
+
+    public boolean isMultiViewStateCompact() {
+        return multiViewStateCompact;
+    }
+
+    public String getMultiViewStateSecret() {
+        return multiViewStateSecret;
+    }
+
+    public String getMultiViewStateAllowedClasses() {
+        return multiViewStateAllowedClasses;
+    }
+
     public boolean isMarkInputAsInvalidOnErrorMsg() {
         return markInputAsInvalidOnErrorMsg;
     }
@@ -309,4 +386,24 @@ public class PrimeConfiguration {
     public int getDynamicContentLimit() {
         return dynamicContentLimit;
     }
+
+    public boolean isDynamicContentApplicationScoped() {
+        return dynamicContentApplicationScoped;
+    }
+
+    public String getDynamicContentSecret() {
+        return dynamicContentSecret;
+    }
+
+    public int getParallelTableThreshold() {
+        return parallelTableThreshold;
+    }
+
+    public int getExportMaxConcurrent() {
+        return exportMaxConcurrent;
+    }
+
+    public int getVirusScanMaxConcurrent() {
+        return virusScanMaxConcurrent;
+    }
 }
@@ -23,6 +23,7 @@
  */
 package org.primefaces.context;
 
+import org.primefaces.application.resource.DynamicContentRegistry;
 import org.primefaces.cache.CacheProvider;
 import org.primefaces.cache.DefaultCacheProvider;
 import org.primefaces.component.datatable.DataTable;
@@ -32,6 +33,7 @@ import org.primefaces.component.datatable.export.DataTableExcelXExporter;
 import org.primefaces.component.datatable.export.DataTableExcelXStreamExporter;
 import org.primefaces.component.datatable.export.DataTablePDFExporter;
 import org.primefaces.component.datatable.export.DataTableXMLExporter;
+import org.primefaces.component.export.ExportJobManager;
 import org.primefaces.component.export.Exporter;
 import org.primefaces.component.fileupload.FileUploadDecoder;
 import org.primefaces.component.treetable.TreeTable;
@@ -44,6 +46,12 @@ import org.primefaces.component.treetable.export.TreeTableXMLExporter;
 import org.primefaces.config.PrimeConfiguration;
 import org.primefaces.config.PrimeEnvironment;
 import org.primefaces.metadata.transformer.MetadataTransformer;
+import org.primefaces.multiviewstate.CacheMultiViewStateStore;
+import org.primefaces.multiviewstate.CompactSessionMultiViewStateStore;
+import org.primefaces.multiviewstate.CookieMultiViewStateStore;
+import org.primefaces.multiviewstate.MultiViewStateStore;
+import org.primefaces.multiviewstate.SerializedMultiViewStateStore;
+import org.primefaces.multiviewstate.SessionMultiViewStateStore;
 import org.primefaces.util.Constants;
 import org.primefaces.util.LangUtils;
 import org.primefaces.util.Lazy;
@@ -62,8 +70,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -93,6 +107,8 @@ public class PrimeApplicationContext {
 
     private static final Logger LOGGER = Logger.getLogger(PrimeApplicationContext.class.getName());
 
+    private static final int PREFETCH_QUEUE_PER_THREAD = 16;
+
     private final PrimeEnvironment environment;
     private final PrimeConfiguration config;
     private final ClassLoader applicationClassLoader;
@@ -105,7 +121,11 @@ public class PrimeApplicationContext {
     private final Lazy<ValidatorFactory> validatorFactory;
     private final Lazy<Validator> validator;
     private final Lazy<CacheProvider> cacheProvider;
+    private final Lazy<MultiViewStateStore> multiViewStateStore;
     private final Lazy<VirusScannerService> virusScannerService;
+    private final Lazy<DynamicContentRegistry> dynamicContentRegistry;
+    private final Lazy<ExportJobManager> exportJobManager;
+    private final Lazy<ExecutorService> prefetchExecutor;
     private FileTypeDetector fileTypeDetector;
     private FileUploadDecoder fileUploadDecoder;
     private String fileUploadResumeUrl;
@@ -159,7 +179,26 @@ public class PrimeApplicationContext {
             validator = null;
         }
 
-        virusScannerService = new Lazy<>(() -> new VirusScannerService(applicationClassLoader));
+        virusScannerService = new Lazy<>(() -> new VirusScannerService(applicationClassLoader, config.getVirusScanMaxConcurrent()));
+
+        dynamicContentRegistry = new Lazy<>(() -> new DynamicContentRegistry(config.getDynamicContentSecret(),
+                config.getDynamicContentLimit()));
+
+        exportJobManager = new Lazy<>(() -> new ExportJobManager(config.getExportMaxConcurrent()));
+
+        prefetchExecutor = new Lazy<>(() -> {
+            // prefetching is optional, so tasks beyond the bounded queue are rejected instead of piling up
+            int threads = Runtime.getRuntime().availableProcessors();
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(threads * PREFETCH_QUEUE_PER_THREAD), r -> {
+                        Thread thread = new Thread(r, "primefaces-prefetch-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        });
 
         cacheProvider = new Lazy<>(() -> {
             String cacheProviderConfigValue = FacesContext.getCurrentInstance().getExternalContext()
@@ -178,6 +217,8 @@ public class PrimeApplicationContext {
             }
         });
 
+        multiViewStateStore = new Lazy<>(this::createMultiViewStateStore);
+
         resolveFileUploadDecoder();
 
         resolveFileUploadResumeUrl(facesContext);
@@ -209,6 +250,37 @@ public class PrimeApplicationContext {
                         .build());
     }
 
+    private MultiViewStateStore createMultiViewStateStore() {
+        MultiViewStateStore store = createMultiViewStateStore(config.getMultiViewStateStore(), config.getMultiViewStateMaxEntries());
+        if (store instanceof SerializedMultiViewStateStore) {
+            ((SerializedMultiViewStateStore) store).setAllowedClasses(config.getMultiViewStateAllowedClasses());
+        }
+        return store;
+    }
+
+    private MultiViewStateStore createMultiViewStateStore(String store, int maxEntries) {
+        if (LangUtils.isBlank(store) || "session".equals(store) || "client-window".equals(store)) {
+            boolean perClientWindow = "client-window".equals(store);
+            return config.isMultiViewStateCompact()
+                    ? new CompactSessionMultiViewStateStore(perClientWindow, maxEntries)
+                    : new SessionMultiViewStateStore(perClientWindow, maxEntries);
+        }
+        if ("cache".equals(store)) {
+            return new CacheMultiViewStateStore(maxEntries);
+        }
+        if ("cookie".equals(store)) {
+            return new CookieMultiViewStateStore(config.getMultiViewStateSecret(), maxEntries);
+        }
+
+        try {
+            Class<? extends MultiViewStateStore> storeClazz = LangUtils.loadClassForName(store);
+            return storeClazz.getConstructor().newInstance();
+        }
+        catch (ReflectiveOperationException | IllegalArgumentException ex) {
+            throw new FacesException(ex);
+        }
+    }
+
     private void resolveFileTypeDetector() {
         // collect all first to avoid concurrency issues #8797
         List<FileTypeDetector> detectors = ServiceLoader.load(FileTypeDetector.class, applicationClassLoader).stream()
@@ -319,6 +391,18 @@ public class PrimeApplicationContext {
         return cacheProvider.get();
     }
 
+    public MultiViewStateStore getMultiViewStateStore() {
+        return multiViewStateStore.get();
+    }
+
+    public DynamicContentRegistry getDynamicContentRegistry() {
+        return dynamicContentRegistry.get();
+    }
+
+    public ExportJobManager getExportJobManager() {
+        return exportJobManager.get();
+    }
+
     public Map<Class<?>, Map<String, Object>> getEnumCacheMap() {
         return enumCacheMap;
     }
@@ -335,6 +419,13 @@ public class PrimeApplicationContext {
         return virusScannerService.get();
     }
 
+    /**
+     * @return the {@link Executor} to load data in the background, e.g. the next window of a lazy scrolling DataTable.
+     */
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor.get();
+    }
+
     public FileTypeDetector getFileTypeDetector() {
         return fileTypeDetector;
     }
@@ -345,6 +436,18 @@ public class PrimeApplicationContext {
                 validatorFactory.get().close();
             }
         }
+
+        if (virusScannerService.isInitialized()) {
+            virusScannerService.get().close();
+        }
+
+        if (exportJobManager.isInitialized()) {
+            exportJobManager.get().close();
+        }
+
+        if (prefetchExecutor.isInitialized()) {
+            prefetchExecutor.get().shutdownNow();
+        }
     }
 
     public FileUploadDecoder getFileUploadDecoder() {
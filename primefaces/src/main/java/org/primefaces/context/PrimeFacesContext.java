@@ -60,7 +60,8 @@ public class PrimeFacesContext extends FacesContextWrapper {
 
         moveScriptsToBottom = config.isMoveScriptsToBottom();
         if (moveScriptsToBottom) {
-            moveScriptsToBottomState = new MoveScriptsToBottomState(config.isMoveScriptsToBottomDeferred());
+            moveScriptsToBottomState = new MoveScriptsToBottomState(config.isMoveScriptsToBottomDeferred(),
+                    config.isMoveScriptsToBottomBatchWidgets());
         }
 
         csp = config.isCsp();
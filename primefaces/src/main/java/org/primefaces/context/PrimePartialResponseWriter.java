@@ -23,22 +23,31 @@
  */
 package org.primefaces.context;
 
-import org.primefaces.util.BeanUtils;
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.component.datatable.DataTableRenderer;
+import org.primefaces.util.ComponentUtils;
 import org.primefaces.util.EscapeUtils;
+import org.primefaces.util.JsonWriter;
 import org.primefaces.util.LangUtils;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import jakarta.faces.FacesException;
 import jakarta.faces.component.NamingContainer;
 import jakarta.faces.component.UINamingContainer;
 import jakarta.faces.component.UIViewRoot;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.context.PartialResponseWriter;
+import jakarta.faces.context.PartialViewContext;
+import jakarta.faces.context.ResponseWriter;
 import jakarta.faces.event.AbortProcessingException;
 
 import org.json.JSONArray;
@@ -74,6 +83,7 @@ public class PrimePartialResponseWriter extends PartialResponseWriter {
                     requestContext.getCallbackParams().put("validationFailed", true);
                 }
 
+                encodeRowUpdates(context, requestContext.getRowUpdates());
                 encodeCallbackParams(requestContext.getCallbackParams());
                 encodeScripts(requestContext);
             }
@@ -168,6 +178,14 @@ public class PrimePartialResponseWriter extends PartialResponseWriter {
         getWrapped().write(json.substring(1, json.length() - 1));
     }
 
+    /**
+     * Writes the callback params as JSON object into an extension element. The values are streamed by a {@link JsonWriter},
+     * without building <code>org.json</code> trees for them first.
+     *
+     * @param params the callback params
+     * @throws IOException if the response cannot be written
+     * @throws JSONException never thrown anymore, kept for compatibility
+     */
     public void encodeCallbackParams(Map<String, Object> params) throws IOException, JSONException {
 
         if (params != null && !params.isEmpty()) {
@@ -175,28 +193,11 @@ public class PrimePartialResponseWriter extends PartialResponseWriter {
             startExtension(CALLBACK_EXTENSION_PARAMS);
             getWrapped().write("{");
 
+            JsonWriter json = new JsonWriter(getWrapped(), true);
             for (Iterator<Map.Entry<String, Object>> it = params.entrySet().iterator(); it.hasNext();) {
                 Map.Entry<String, Object> entry = it.next();
-                String paramName = entry.getKey();
-                Object paramValue = entry.getValue();
-
-                if (paramValue == null) {
-                    encodeJSONValue(paramName, null);
-                }
-                else {
-                    if (paramValue instanceof JSONObject) {
-                        encodeJSONObject(paramName, (JSONObject) paramValue);
-                    }
-                    else if (paramValue instanceof JSONArray) {
-                        encodeJSONArray(paramName, (JSONArray) paramValue);
-                    }
-                    else if (BeanUtils.isBean(paramValue)) {
-                        encodeJSONObject(paramName, new JSONObject(paramValue));
-                    }
-                    else {
-                        encodeJSONValue(paramName, paramValue);
-                    }
-                }
+                json.writeName(entry.getKey());
+                json.writeValue(entry.getValue());
 
                 if (it.hasNext()) {
                     getWrapped().write(",");
@@ -208,6 +209,49 @@ public class PrimePartialResponseWriter extends PartialResponseWriter {
         }
     }
 
+    protected void encodeRowUpdates(FacesContext context, Map<String, Set<String>> rowUpdates) throws IOException {
+        if (rowUpdates.isEmpty()) {
+            return;
+        }
+
+        PartialViewContext partialViewContext = context.getPartialViewContext();
+        if (partialViewContext.isRenderAll()) {
+            return;
+        }
+
+        Collection<String> renderIds = partialViewContext.getRenderIds();
+        ResponseWriter writer = context.getResponseWriter();
+        context.setResponseWriter(this);
+
+        try {
+            for (Map.Entry<String, Set<String>> entry : rowUpdates.entrySet()) {
+                if (renderIds.contains(entry.getKey())) {
+                    continue;
+                }
+
+                context.getViewRoot().invokeOnComponent(context, entry.getKey(), (fc, component) -> {
+                    if (!(component instanceof DataTable)) {
+                        throw new FacesException("Row updates not supported for: " + component.getClass().getSimpleName());
+                    }
+                    if (!component.isRendered()) {
+                        return;
+                    }
+
+                    try {
+                        DataTableRenderer renderer = ComponentUtils.getUnwrappedRenderer(fc, DataTable.COMPONENT_FAMILY, DataTable.DEFAULT_RENDERER);
+                        renderer.encodeRowUpdates(fc, (DataTable) component, this, entry.getValue());
+                    }
+                    catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        }
+        finally {
+            context.setResponseWriter(writer);
+        }
+    }
+
     protected void encodeScripts(PrimeRequestContext requestContext) throws IOException {
         List<String> initScripts = requestContext.getInitScriptsToExecute();
         List<String> scripts = requestContext.getScriptsToExecute();
@@ -33,8 +33,10 @@ import org.primefaces.util.WidgetBuilder;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import jakarta.el.ELContext;
 import jakarta.el.ExpressionFactory;
@@ -57,6 +59,7 @@ public class PrimeRequestContext {
     private static final String CALLBACK_PARAMS_KEY = "CALLBACK_PARAMS";
     private static final String EXECUTE_INIT_SCRIPTS_KEY = "EXECUTE_INIT_SCRIPTS";
     private static final String EXECUTE_SCRIPTS_KEY = "EXECUTE_SCRIPTS";
+    private static final String ROW_UPDATES_KEY = "ROW_UPDATES";
     private static final Class<?>[] EMPTY_PARAMS = new Class<?>[0];
 
     private WidgetBuilder widgetBuilder;
@@ -123,6 +126,22 @@ public class PrimeRequestContext {
         return callbackParams;
     }
 
+    /**
+     * @return the row keys, by clientId of their component, whose rows should be rendered in the current request.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Set<String>> getRowUpdates() {
+        Map<String, Set<String>> rowUpdates =
+            (Map<String, Set<String>>) context.getAttributes().get(ROW_UPDATES_KEY);
+
+        if (rowUpdates == null) {
+            rowUpdates = new LinkedHashMap<>();
+            context.getAttributes().put(ROW_UPDATES_KEY, rowUpdates);
+        }
+
+        return rowUpdates;
+    }
+
     /**
      * @return all scripts added in the current request and called first before other scripts are executed.
      */
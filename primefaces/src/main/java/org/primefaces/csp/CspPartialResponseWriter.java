@@ -25,7 +25,6 @@ package org.primefaces.csp;
 
 import org.primefaces.context.PrimePartialResponseWriter;
 import org.primefaces.context.PrimeRequestContext;
-import org.primefaces.util.EscapeUtils;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -178,38 +177,21 @@ public class CspPartialResponseWriter extends PrimePartialResponseWriter {
     }
 
     void writeJavascriptHandlers() throws IOException {
-        if (cspState.getEventHandlers() == null || cspState.getEventHandlers().isEmpty()) {
+        if (!cspState.hasEventHandlers()) {
             return;
         }
 
         if (sb == null) {
-            sb = new StringBuilder(cspState.getEventHandlers().size() * 25);
+            sb = new StringBuilder(256);
         }
         else {
             sb.setLength(0);
         }
 
-        for (Map.Entry<String, Map<String, String>> elements : cspState.getEventHandlers().entrySet()) {
-            String id = elements.getKey();
-
-            for (Map.Entry<String, String> events : elements.getValue().entrySet()) {
-                String event = events.getKey();
-                String javascript = events.getValue();
-
-                sb.append("PrimeFaces.csp.register('");
-                sb.append(EscapeUtils.forJavaScript(id));
-                sb.append("','");
-                sb.append(event);
-                sb.append("',function(event){");
-                sb.append(javascript);
-                sb.append("});");
-            }
-        }
+        cspState.appendEventHandlers(sb);
 
         // GitHub #9368 all register calls must be before ajax.executeScript calls
         ArrayList<String> scripts = (ArrayList<String>) requestContext.getScriptsToExecute();
         scripts.add(0, sb.toString());
-
-        cspState.getEventHandlers().clear();
     }
 }
\ No newline at end of file
@@ -24,18 +24,16 @@
 package org.primefaces.csp;
 
 import org.primefaces.context.PrimeApplicationContext;
-import org.primefaces.util.EscapeUtils;
 import org.primefaces.util.LangUtils;
 import org.primefaces.util.Lazy;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
-import java.util.UUID;
 
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
@@ -64,7 +62,10 @@ public class CspResponseWriter extends ResponseWriterWrapper {
     private String lastElement;
     private String lastId;
     private String lastNonce;
-    private Map<String, String> lastEvents;
+    /**
+     * Alternating event names and scripts of the current element, reused for all elements.
+     */
+    private final List<String> lastEvents = new ArrayList<>(4);
 
     private Lazy<Boolean> policyProvided;
 
@@ -95,13 +96,9 @@ public class CspResponseWriter extends ResponseWriterWrapper {
             lastId = (String) value;
         }
 
-        String lowerCaseName = name.toLowerCase();
-        if (lowerCaseName.startsWith("on") && DOM_EVENTS.contains(lowerCaseName)) {
+        if (isEvent(name)) {
             if (value != null) {
-                if (lastEvents == null) {
-                    lastEvents = new HashMap<>(1);
-                }
-                lastEvents.put(name, (String) value);
+                addLastEvent(name, (String) value);
             }
             return;
         }
@@ -176,6 +173,27 @@ public class CspResponseWriter extends ResponseWriterWrapper {
         getWrapped().write(cbuf, off, len);
     }
 
+    /**
+     * Checks the cheap prefix before lower casing, as most attributes are no events.
+     */
+    private static boolean isEvent(String name) {
+        return name.length() > 2
+                && (name.charAt(0) == 'o' || name.charAt(0) == 'O')
+                && (name.charAt(1) == 'n' || name.charAt(1) == 'N')
+                && DOM_EVENTS.contains(name.toLowerCase());
+    }
+
+    private void addLastEvent(String name, String javascript) {
+        for (int i = 0; i < lastEvents.size(); i += 2) {
+            if (lastEvents.get(i).equals(name)) {
+                lastEvents.set(i + 1, javascript);
+                return;
+            }
+        }
+        lastEvents.add(name);
+        lastEvents.add(javascript);
+    }
+
     /**
      * Write needed attributes before the starting element will be closed by adding a trailing '>' character when calling e.g.
      * {@link ResponseWriter#writeText}.
@@ -194,18 +212,18 @@ public class CspResponseWriter extends ResponseWriterWrapper {
             }
         }
 
-        if (lastEvents != null && !lastEvents.isEmpty()) {
+        if (!lastEvents.isEmpty()) {
             String id = lastId;
 
             // no id written -> generate a new one and write it
             // otherwise we can't identify the element for our scripts
             if (LangUtils.isBlank(id)) {
-                id = lastElement.toLowerCase() + "-" + UUID.randomUUID();
+                id = cspState.generateElementId(lastElement);
                 getWrapped().writeAttribute("id", id, null);
             }
 
             // add current collected events to our state
-            cspState.getEventHandlers().put(id, lastEvents);
+            cspState.registerEventHandlers(id, lastEvents.toArray(new String[lastEvents.size()]));
         }
 
         reset();
@@ -215,44 +233,25 @@ public class CspResponseWriter extends ResponseWriterWrapper {
         lastElement = null;
         lastId = null;
         lastNonce = null;
-        lastEvents = null;
+        lastEvents.clear();
     }
 
     /**
      * Write javascript collected from event/URI handlers to a separate <code>script</code> block.
+     * The script is streamed to the wrapped writer instead of being built in memory first.
      */
     void writeJavascriptHandlers() throws IOException {
         reset();
 
-        if (cspState.getEventHandlers() == null || cspState.getEventHandlers().isEmpty()) {
+        if (!cspState.hasEventHandlers()) {
             return;
         }
 
         startElement("script", null);
-        StringBuilder javascriptBuilder = new StringBuilder(cspState.getEventHandlers().size() * 25);
-
-        for (Map.Entry<String, Map<String, String>> elements : cspState.getEventHandlers().entrySet()) {
-            String id = elements.getKey();
-
-            for (Map.Entry<String, String> events : elements.getValue().entrySet()) {
-                String event = events.getKey();
-                String javascript = events.getValue();
-
-                javascriptBuilder.append("PrimeFaces.csp.register('");
-                javascriptBuilder.append(EscapeUtils.forJavaScript(id));
-                javascriptBuilder.append("','");
-                javascriptBuilder.append(event);
-                javascriptBuilder.append("',function(event){");
-                javascriptBuilder.append(javascript);
-                javascriptBuilder.append("});");
-            }
-        }
-
-        String javascript = javascriptBuilder.toString();
-        writeText(javascript, null);
+        // writes the nonce, the start tag is closed by the first write
+        listenOnEndAttribute();
+        cspState.appendEventHandlers(getWrapped());
         endElement("script");
-
-        cspState.getEventHandlers().clear();
     }
 
     @Override
@@ -267,17 +266,16 @@ public class CspResponseWriter extends ResponseWriterWrapper {
      * @param newId the new id
      */
     public void updateId(String oldId, String newId) {
-        Map<String, String> events = cspState.getEventHandlers().remove(oldId);
-        if (events != null && !events.isEmpty()) {
-            for (Map.Entry<String, String> entry : events.entrySet()) {
-                String oldValue = entry.getValue();
+        String[] events = cspState.removeEventHandlers(oldId);
+        if (events != null && events.length > 0) {
+            for (int i = 1; i < events.length; i += 2) {
+                String oldValue = events[i];
                 // replace 'id=' and 'source:' values
                 String newValue = oldValue.replaceAll("\\sid=\"" + oldId + "\"", " id=\"" + newId + "\"");
                 newValue = newValue.replaceAll("source:\"" + oldId + "\"", " source:\"" + newId + "\"");
-                entry.setValue(newValue);
+                events[i] = newValue;
             }
-            CspState cspState = this.cspState;
-            cspState.getEventHandlers().put(newId, events);
+            cspState.registerEventHandlers(newId, events);
         }
     }
 }
@@ -24,11 +24,15 @@
 package org.primefaces.csp;
 
 import org.primefaces.util.Constants;
+import org.primefaces.util.EscapeUtils;
 import org.primefaces.util.LangUtils;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
@@ -47,14 +51,24 @@ import jakarta.servlet.http.HttpServletRequest;
  */
 public class CspState {
 
+    private static final int NONCE_BYTES = 16;
+
+    /**
+     * {@link SecureRandom} is thread safe, but its default implementations synchronize on a shared instance.
+     */
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
     private FacesContext context;
     private Map<String, Map<String, String>> eventHandlers;
+    private final Map<String, String[]> elementEventHandlers;
     private String nonce;
+    private String elementIdPrefix;
+    private int elementIdCounter;
     private boolean initialized = false;
 
     public CspState(FacesContext context) {
         this.context = context;
-        this.eventHandlers = new HashMap<>(10);
+        this.elementEventHandlers = new LinkedHashMap<>(16);
     }
 
     /**
@@ -116,13 +130,28 @@ public class CspState {
 
     /**
      * Generates a random nonce value for Content Security Policy.
-     * Creates a UUID, converts it to a string, gets its bytes in UTF-8 encoding,
-     * and encodes those bytes as a Base64 string.
+     * Takes {@value #NONCE_BYTES} bytes from a per thread {@link SecureRandom} and encodes them as a Base64 string.
      *
      * @return Base64 encoded nonce string
      */
     public String generateNonce() {
-        return Base64.getEncoder().encodeToString(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = new byte[NONCE_BYTES];
+        RANDOM.get().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    /**
+     * Generates an id for an element which has event handlers but no id.
+     * The ids are unique within the request and, by a random prefix, across requests of the same view.
+     *
+     * @param elementName the name of the element
+     * @return the id
+     */
+    public String generateElementId(String elementName) {
+        if (elementIdPrefix == null) {
+            elementIdPrefix = Long.toString(RANDOM.get().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX) + "-";
+        }
+        return elementName.toLowerCase() + "-" + elementIdPrefix + elementIdCounter++;
     }
 
     /**
@@ -150,18 +179,90 @@ public class CspState {
             throw new CspException("Missing CSP nonce");
         }
         try {
-            String decodedNonce = new String(Base64.getDecoder().decode(nonce), StandardCharsets.UTF_8);
-            UUID.fromString(decodedNonce);
+            byte[] decodedNonce = Base64.getDecoder().decode(nonce);
+            // nonces generated before 16.0 are encoded UUIDs
+            if (decodedNonce.length != NONCE_BYTES) {
+                UUID.fromString(new String(decodedNonce, StandardCharsets.UTF_8));
+            }
         }
         catch (Exception e) {
             throw new CspException("Invalid CSP nonce", e);
         }
     }
 
+    /**
+     * @return the event handlers by element id and event name
+     * @deprecated use {@link #registerEventHandlers(String, String[])} instead, which avoids a map per element
+     */
+    @Deprecated
     public Map<String, Map<String, String>> getEventHandlers() {
+        if (eventHandlers == null) {
+            eventHandlers = new HashMap<>(10);
+        }
         return eventHandlers;
     }
 
+    /**
+     * Registers the event handlers of an element, replacing the ones previously registered for the same id.
+     *
+     * @param id the id of the element
+     * @param events alternating event names and scripts, e.g. <code>{"onclick", "alert(1)", "onchange", "alert(2)"}</code>
+     */
+    public void registerEventHandlers(String id, String[] events) {
+        elementEventHandlers.put(id, events);
+    }
+
+    /**
+     * Removes the event handlers of an element.
+     *
+     * @param id the id of the element
+     * @return alternating event names and scripts or <code>null</code> if none were registered
+     */
+    public String[] removeEventHandlers(String id) {
+        return elementEventHandlers.remove(id);
+    }
+
+    public boolean hasEventHandlers() {
+        return !elementEventHandlers.isEmpty() || (eventHandlers != null && !eventHandlers.isEmpty());
+    }
+
+    /**
+     * Appends a <code>PrimeFaces.csp.register</code> call for each registered event handler and clears them afterwards.
+     *
+     * @param out the target, e.g. the {@link jakarta.faces.context.ResponseWriter} inside of a <code>script</code> element
+     * @throws IOException if the target cannot be written
+     */
+    public void appendEventHandlers(Appendable out) throws IOException {
+        for (Map.Entry<String, String[]> element : elementEventHandlers.entrySet()) {
+            String id = EscapeUtils.forJavaScript(element.getKey());
+            String[] events = element.getValue();
+            for (int i = 0; i < events.length; i += 2) {
+                appendEventHandler(out, id, events[i], events[i + 1]);
+            }
+        }
+        elementEventHandlers.clear();
+
+        if (eventHandlers != null) {
+            for (Map.Entry<String, Map<String, String>> element : eventHandlers.entrySet()) {
+                String id = EscapeUtils.forJavaScript(element.getKey());
+                for (Map.Entry<String, String> event : element.getValue().entrySet()) {
+                    appendEventHandler(out, id, event.getKey(), event.getValue());
+                }
+            }
+            eventHandlers.clear();
+        }
+    }
+
+    private static void appendEventHandler(Appendable out, String escapedId, String event, String javascript) throws IOException {
+        out.append("PrimeFaces.csp.register('");
+        out.append(escapedId);
+        out.append("','");
+        out.append(event);
+        out.append("',function(event){");
+        out.append(javascript);
+        out.append("});");
+    }
+
     /**
      * To prevent CSP from being initialized twice for any reason check if we already have run once when calling initialize.
      *
@@ -106,7 +106,7 @@ public class DefaultLazyDataModel<T> extends LazyDataModel<T> {
         FacesContext context = FacesContext.getCurrentInstance();
         UIComponent source = UIComponent.getCurrentComponent(context);
         if (source instanceof UITable) {
-            values.sort(SortTableComparator.comparingField(context, (UITable<?>) source));
+            SortTableComparator.sort(context, (UITable<?>) source, values, SortTableComparator.FIELD_MAPPER);
         }
 
         if (sorter != null) {
@@ -25,9 +25,13 @@ package org.primefaces.model;
 
 import org.primefaces.util.Callbacks;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -47,6 +51,10 @@ public class DefaultStreamedContent implements StreamedContent, Serializable {
     private String contentEncoding;
     private Long contentLength;
     private Callbacks.SerializableConsumer<OutputStream> writer;
+    private String eTag;
+    private Long lastModified;
+    // Path is not serializable
+    private String path;
 
     public DefaultStreamedContent() {
         // NOOP
@@ -82,6 +90,21 @@ public class DefaultStreamedContent implements StreamedContent, Serializable {
         return writer;
     }
 
+    @Override
+    public String getETag() {
+        return eTag;
+    }
+
+    @Override
+    public Long getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public Path getPath() {
+        return path == null ? null : Paths.get(path);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -124,9 +147,54 @@ public class DefaultStreamedContent implements StreamedContent, Serializable {
             return this;
         }
 
+        public Builder eTag(String eTag) {
+            streamedContent.eTag = eTag;
+            return this;
+        }
+
+        public Builder lastModified(Long lastModified) {
+            streamedContent.lastModified = lastModified;
+            return this;
+        }
+
+        /**
+         * Streams the given file, which also provides the content length and last modification time, if not set explicitly.
+         *
+         * @param path the file
+         * @return the builder
+         */
+        public Builder path(Path path) {
+            String pathname = path.toString();
+            streamedContent.path = pathname;
+            streamedContent.stream = () -> {
+                try {
+                    return Files.newInputStream(Paths.get(pathname));
+                }
+                catch (IOException e) {
+                    throw new FacesException(e);
+                }
+            };
+            return this;
+        }
+
         public DefaultStreamedContent build() {
             if (streamedContent.writer == null && streamedContent.stream == null) {
-                throw new FacesException("Either provide a 'stream' or 'writer'!");
+                throw new FacesException("Either provide a 'stream', 'path' or 'writer'!");
+            }
+
+            if (streamedContent.path != null && (streamedContent.contentLength == null || streamedContent.lastModified == null)) {
+                try {
+                    Path file = Paths.get(streamedContent.path);
+                    if (streamedContent.contentLength == null) {
+                        streamedContent.contentLength = Files.size(file);
+                    }
+                    if (streamedContent.lastModified == null) {
+                        streamedContent.lastModified = Files.getLastModifiedTime(file).toMillis();
+                    }
+                }
+                catch (IOException e) {
+                    throw new FacesException(e);
+                }
             }
 
             return streamedContent;
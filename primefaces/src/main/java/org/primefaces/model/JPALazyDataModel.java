@@ -36,6 +36,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -86,6 +87,13 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
     protected Callbacks.SerializableSupplier<EntityManager> entityManager;
     protected Callbacks.SerializableFunction<T, Object> rowKeyProvider;
     protected Callbacks.SerializableConsumer<List<T>> resultEnricher;
+    protected boolean keysetPagination = false;
+    protected boolean countCache = false;
+    protected Callbacks.SerializableFunction<Map<String, FilterMeta>, Integer> countEstimator;
+
+    protected transient Keyset keyset;
+    protected transient List<Object> countSignature;
+    protected transient int cachedCount;
 
     /**
      * For serialization only
@@ -96,6 +104,18 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
 
     @Override
     public int count(Map<String, FilterMeta> filterBy) {
+        if (countEstimator != null) {
+            return countEstimator.apply(filterBy);
+        }
+
+        List<Object> signature = null;
+        if (countCache) {
+            signature = createSignature(null, filterBy);
+            if (signature.equals(countSignature)) {
+                return cachedCount;
+            }
+        }
+
         EntityManager em = entityManager.get();
 
         CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -106,11 +126,22 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
         applyFilters(cb, cq, root, filterBy);
 
         TypedQuery<Long> query = em.createQuery(cq);
-        return query.getSingleResult().intValue();
+        int count = query.getSingleResult().intValue();
+
+        if (countCache) {
+            countSignature = signature;
+            cachedCount = count;
+        }
+
+        return count;
     }
 
     @Override
     public List<T> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        if (keysetPagination && sortEnricher == null) {
+            return loadKeyset(first, pageSize, sortBy, filterBy);
+        }
+
         EntityManager em = entityManager.get();
 
         CriteriaBuilder cb = em.getCriteriaBuilder();
@@ -125,6 +156,192 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
         query.setFirstResult(first);
         query.setMaxResults(pageSize);
 
+        return executeQuery(query);
+    }
+
+    /**
+     * Loads a page by seeking from the boundary rows of the previously loaded page instead of skipping {@code first} rows.
+     * Navigating to the next, previous or same page with unchanged sorting and filtering results in a
+     * {@code WHERE (sortField, rowKeyField) > (?, ?)} query which costs the same for every page, as long as the database
+     * has an index matching the sort fields. All other navigation falls back to offset paging.
+     */
+    protected List<T> loadKeyset(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        List<SortMeta> sortFields = getKeysetSortFields(sortBy);
+        List<Object> signature = createSignature(sortBy, filterBy);
+
+        Object[] boundary = null;
+        boolean forward = true;
+        boolean inclusive = false;
+        Keyset previous = keyset;
+        if (first > 0 && previous != null && previous.pageSize == pageSize && previous.signature.equals(signature)) {
+            if (first == previous.first + pageSize) {
+                boundary = previous.lastValues;
+            }
+            else if (first == previous.first - pageSize) {
+                boundary = previous.firstValues;
+                forward = false;
+            }
+            else if (first == previous.first) {
+                boundary = previous.firstValues;
+                inclusive = true;
+            }
+        }
+
+        EntityManager em = entityManager.get();
+
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<T> cq = cb.createQuery(entityClass);
+        Root<T> root = cq.from(entityClass);
+        cq = cq.select(root);
+
+        applyFilters(cb, cq, root, filterBy);
+
+        List<Expression<?>> expressions = new ArrayList<>(sortFields.size());
+        List<Order> orders = new ArrayList<>(sortFields.size());
+        for (SortMeta sort : sortFields) {
+            Expression<?> expression = resolveFieldExpression(cb, cq, root, sort.getField());
+            boolean ascending = (sort.getOrder() == SortOrder.ASCENDING) == forward;
+            expressions.add(expression);
+            orders.add(ascending ? cb.asc(expression) : cb.desc(expression));
+        }
+        cq.orderBy(orders);
+
+        if (boundary != null) {
+            Predicate seek = createKeysetPredicate(cb, sortFields, expressions, boundary, forward, inclusive);
+            Predicate restriction = cq.getRestriction();
+            cq.where(restriction == null ? seek : cb.and(restriction, seek));
+        }
+
+        TypedQuery<T> query = em.createQuery(cq);
+        if (boundary == null) {
+            query.setFirstResult(first);
+        }
+        query.setMaxResults(pageSize);
+
+        List<T> result = executeQuery(query);
+        if (!forward) {
+            result = new ArrayList<>(result);
+            Collections.reverse(result);
+        }
+
+        keyset = result.isEmpty()
+                ? null
+                : new Keyset(signature, first, pageSize,
+                        getKeysetValues(result.get(0), sortFields), getKeysetValues(result.get(result.size() - 1), sortFields));
+
+        return result;
+    }
+
+    /**
+     * Returns the effective sort fields for keyset pagination, which always end with the {@code rowKeyField} as tiebreaker.
+     */
+    protected List<SortMeta> getKeysetSortFields(Map<String, SortMeta> sortBy) {
+        List<SortMeta> sortFields = new ArrayList<>();
+        boolean sortedByRowKey = false;
+
+        if (sortBy != null) {
+            for (SortMeta sort : sortBy.values().stream().sorted().collect(Collectors.toList())) {
+                if (sort.getField() == null || sort.getOrder() == SortOrder.UNSORTED) {
+                    continue;
+                }
+                sortFields.add(sort);
+                if (sort.getField().equals(rowKeyField)) {
+                    sortedByRowKey = true;
+                    break;
+                }
+            }
+        }
+
+        if (!sortedByRowKey) {
+            sortFields.add(SortMeta.builder().field(rowKeyField).order(SortOrder.ASCENDING).build());
+        }
+
+        return sortFields;
+    }
+
+    /**
+     * Creates the row value comparison {@code (a, b, id) > (?, ?, ?)}, expanded to
+     * {@code a > ? OR (a = ? AND b > ?) OR (a = ? AND b = ? AND id > ?)} as the Criteria API does not support tuples.
+     */
+    protected Predicate createKeysetPredicate(CriteriaBuilder cb, List<SortMeta> sortFields, List<Expression<?>> expressions,
+                                              Object[] values, boolean forward, boolean inclusive) {
+        List<Predicate> disjunction = new ArrayList<>(expressions.size() + 1);
+        List<Predicate> equals = new ArrayList<>(expressions.size());
+
+        for (int i = 0; i < expressions.size(); i++) {
+            Expression expression = expressions.get(i);
+            Comparable value = (Comparable) values[i];
+            boolean greater = (sortFields.get(i).getOrder() == SortOrder.ASCENDING) == forward;
+
+            List<Predicate> conjunction = new ArrayList<>(equals);
+            conjunction.add(greater ? cb.greaterThan(expression, value) : cb.lessThan(expression, value));
+            disjunction.add(cb.and(conjunction.toArray(new Predicate[0])));
+
+            equals.add(cb.equal(expression, value));
+        }
+
+        if (inclusive) {
+            disjunction.add(cb.and(equals.toArray(new Predicate[0])));
+        }
+
+        return cb.or(disjunction.toArray(new Predicate[0]));
+    }
+
+    /**
+     * Reads the sort field values of a boundary row. Returns {@code null} if any of them is {@code null}, or not comparable,
+     * as such rows cannot be used to seek; the next navigation then falls back to offset paging.
+     */
+    protected Object[] getKeysetValues(T obj, List<SortMeta> sortFields) {
+        PropertyDescriptorResolver propResolver =
+                PrimeApplicationContext.getCurrentInstance(FacesContext.getCurrentInstance()).getPropertyDescriptorResolver();
+
+        Object[] values = new Object[sortFields.size()];
+        for (int i = 0; i < values.length; i++) {
+            String field = sortFields.get(i).getField();
+            Object value = field.equals(rowKeyField) && rowKeyConverter == null
+                    ? rowKeyProvider.apply(obj)
+                    : propResolver.getValue(obj, field);
+            if (!(value instanceof Comparable)) {
+                return null;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Creates a value based signature of the current sorting and filtering, which is used to detect
+     * if the keyset or the cached count is still valid.
+     */
+    protected List<Object> createSignature(Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+        List<Object> signature = new ArrayList<>();
+        if (sortBy != null) {
+            for (SortMeta sort : sortBy.values()) {
+                signature.add(sort.getField());
+                signature.add(sort.getOrder());
+            }
+        }
+        if (filterBy != null) {
+            for (FilterMeta filter : filterBy.values()) {
+                Object filterValue = filter.getFilterValue();
+                signature.add(filter.getField());
+                signature.add(filter.getMatchMode());
+                signature.add(filterValue instanceof Object[] ? Arrays.asList((Object[]) filterValue) : filterValue);
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Drops the cached count and the keyset of the last loaded page, e.g. after entities have been inserted or removed.
+     */
+    public void clearCache() {
+        keyset = null;
+        countSignature = null;
+        cachedCount = 0;
+    }
+
+    protected List<T> executeQuery(TypedQuery<T> query) {
         if (queryEnricher != null) {
             queryEnricher.enrich(query);
         }
@@ -431,6 +648,21 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
             return this;
         }
 
+        public Builder<T, TM> keysetPagination(boolean keysetPagination) {
+            model.keysetPagination = keysetPagination;
+            return this;
+        }
+
+        public Builder<T, TM> countCache(boolean countCache) {
+            model.countCache = countCache;
+            return this;
+        }
+
+        public Builder<T, TM> countEstimator(Callbacks.SerializableFunction<Map<String, FilterMeta>, Integer> countEstimator) {
+            model.countEstimator = countEstimator;
+            return this;
+        }
+
         public TM build() {
             Objects.requireNonNull(model.entityClass, "entityClass not set");
             Objects.requireNonNull(model.entityManager, "entityManager not set");
@@ -497,10 +729,31 @@ public class JPALazyDataModel<T> extends LazyDataModel<T> implements Serializabl
                 }
             }
 
+            if (model.keysetPagination && model.rowKeyField == null) {
+                throw new FacesException("keysetPagination requires a rowKeyField!");
+            }
+
             return model;
         }
     }
 
+    protected static class Keyset {
+
+        protected final List<Object> signature;
+        protected final int first;
+        protected final int pageSize;
+        protected final Object[] firstValues;
+        protected final Object[] lastValues;
+
+        protected Keyset(List<Object> signature, int first, int pageSize, Object[] firstValues, Object[] lastValues) {
+            this.signature = signature;
+            this.first = first;
+            this.pageSize = pageSize;
+            this.firstValues = firstValues;
+            this.lastValues = lastValues;
+        }
+    }
+
     @FunctionalInterface
     public interface QueryEnricher<T> extends Serializable {
 
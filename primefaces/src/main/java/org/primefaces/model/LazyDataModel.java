@@ -101,6 +101,18 @@ public abstract class LazyDataModel<T> extends DataModel<T> implements Selectabl
      */
     public abstract List<T> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy);
 
+    /**
+     * Whether {@link #load(int, int, java.util.Map, java.util.Map)} may be called from a background thread, concurrently with
+     * the request which uses this model, e.g. to prefetch the next window of a DataTable with <code>scrollPrefetch</code>.
+     * There is no {@link FacesContext} and no active request or session scope there, and the load must not share
+     * unsynchronized state, like an <code>EntityManager</code>, with the request.
+     *
+     * @return <code>true</code> if the load is thread-safe and independent of the request, <code>false</code> by default
+     */
+    public boolean isLoadThreadSafe() {
+        return false;
+    }
+
     @Override
     public T getRowData(String rowKey) {
         if (rowKeyConverter != null) {
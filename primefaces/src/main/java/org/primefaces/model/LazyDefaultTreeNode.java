@@ -25,12 +25,16 @@ package org.primefaces.model;
 
 import org.primefaces.util.Callbacks;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * Lazy version of the {@link DefaultTreeNode}.
  * A lazy version of the {@link CheckboxTreeNode} is still missing.
+ * <p>
+ * With a {@link PagedLoadFunction} the children are loaded in pages of {@code pageSize}, so expanding a node with a huge amount of
+ * children only loads and renders the first page. Further pages are loaded on demand via {@link #loadMoreChildren()}.
  *
  * @param <T> T the data type
  */
@@ -40,6 +44,11 @@ public class LazyDefaultTreeNode<T> extends DefaultTreeNode<T> implements LazyTr
 
     private Callbacks.SerializableFunction<T, List<T>> loadFunction;
     private Callbacks.SerializableFunction<T, Boolean> isLeafFunction;
+    private PagedLoadFunction<T> pagedLoadFunction;
+    private Callbacks.SerializableFunction<T, Integer> countFunction;
+    private int pageSize;
+    private int totalChildCount = -1;
+    private boolean moreChildren;
     private boolean loaded;
 
     // serialization
@@ -54,6 +63,29 @@ public class LazyDefaultTreeNode<T> extends DefaultTreeNode<T> implements LazyTr
         this.isLeafFunction = isLeafFunction;
     }
 
+    /**
+     * @param data the data of this node
+     * @param pagedLoadFunction loads a page of children for the given data, offset and limit
+     * @param countFunction optional, returns the total number of children; if {@code null}, further pages are expected
+     *                      as long as a full page has been returned
+     * @param isLeafFunction checks if the given data is a leaf
+     * @param pageSize the number of children to load at once
+     */
+    public LazyDefaultTreeNode(T data,
+            PagedLoadFunction<T> pagedLoadFunction,
+            Callbacks.SerializableFunction<T, Integer> countFunction,
+            Callbacks.SerializableFunction<T, Boolean> isLeafFunction,
+            int pageSize) {
+        super(data);
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        }
+        this.pagedLoadFunction = pagedLoadFunction;
+        this.countFunction = countFunction;
+        this.isLeafFunction = isLeafFunction;
+        this.pageSize = pageSize;
+    }
+
     @Override
     public TreeNodeChildren<T> getChildren() {
         if (isLeaf()) {
@@ -86,22 +118,87 @@ public class LazyDefaultTreeNode<T> extends DefaultTreeNode<T> implements LazyTr
         return loaded;
     }
 
+    @Override
+    public boolean hasMoreChildren() {
+        return loaded && moreChildren;
+    }
+
+    @Override
+    public int loadMoreChildren() {
+        if (!loaded) {
+            lazyLoad();
+            return super.getChildCount() > 0 ? 0 : -1;
+        }
+        if (!moreChildren) {
+            return -1;
+        }
+
+        int offset = super.getChildCount();
+        loadPage(offset);
+        return super.getChildCount() > offset ? offset : -1;
+    }
+
+    @Override
+    public int getTotalChildCount() {
+        if (pagedLoadFunction == null) {
+            return loaded ? super.getChildCount() : -1;
+        }
+        return totalChildCount;
+    }
+
     protected void lazyLoad() {
         if (!loaded) {
             loaded = true;
 
+            if (pagedLoadFunction != null) {
+                loadPage(0);
+                return;
+            }
+
             List<T> childData = loadFunction.apply(getData());
             List<LazyDefaultTreeNode<T>> childNodes = childData
                     .stream()
-                    .map(f -> new LazyDefaultTreeNode<>(f, loadFunction, isLeafFunction))
+                    .map(this::createChildNode)
                     .collect(Collectors.toList());
             super.getChildren().addAll(childNodes);
         }
     }
 
+    protected void loadPage(int offset) {
+        if (countFunction != null && totalChildCount < 0) {
+            totalChildCount = countFunction.apply(getData());
+        }
+
+        List<T> childData = pagedLoadFunction.load(getData(), offset, pageSize);
+        int loadedChildCount = offset + childData.size();
+        moreChildren = !childData.isEmpty() && (totalChildCount < 0 ? childData.size() >= pageSize : loadedChildCount < totalChildCount);
+
+        List<LazyDefaultTreeNode<T>> childNodes = childData
+                .stream()
+                .map(this::createChildNode)
+                .collect(Collectors.toList());
+        super.getChildren().addAll(childNodes);
+    }
+
+    protected LazyDefaultTreeNode<T> createChildNode(T childData) {
+        return pagedLoadFunction == null
+                ? new LazyDefaultTreeNode<>(childData, loadFunction, isLeafFunction)
+                : new LazyDefaultTreeNode<>(childData, pagedLoadFunction, countFunction, isLeafFunction, pageSize);
+    }
+
     @Override
     protected LazyDefaultTreeNodeChildren<T> initChildren() {
         return new LazyDefaultTreeNodeChildren<>(this);
     }
 
+    /**
+     * Loads a page of children.
+     *
+     * @param <T> the data type
+     */
+    @FunctionalInterface
+    public interface PagedLoadFunction<T> extends Serializable {
+
+        List<T> load(T data, int offset, int limit);
+    }
 }
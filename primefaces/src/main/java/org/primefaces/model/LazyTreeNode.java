@@ -30,4 +30,31 @@ package org.primefaces.model;
 public interface LazyTreeNode {
 
     boolean isLoaded();
+
+    /**
+     * Whether the loaded children are only a part of all children, e.g. if they are loaded in pages.
+     *
+     * @return {@code true} if {@link #loadMoreChildren()} would load further children.
+     */
+    default boolean hasMoreChildren() {
+        return false;
+    }
+
+    /**
+     * Loads the next page of children and appends them to the already loaded ones.
+     *
+     * @return the index of the first newly loaded child or {@code -1} if no children have been loaded.
+     */
+    default int loadMoreChildren() {
+        return -1;
+    }
+
+    /**
+     * Total number of children including the ones which are not loaded yet.
+     *
+     * @return the total number of children or {@code -1} if unknown.
+     */
+    default int getTotalChildCount() {
+        return -1;
+    }
 }
@@ -25,6 +25,7 @@ package org.primefaces.model;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -52,4 +53,31 @@ public interface StreamedContent {
      * @return The {@link Consumer}
      */
     Consumer<OutputStream> getWriter();
+
+    /**
+     * Entity tag of the content, used to answer conditional and range requests.
+     * If not set, a weak entity tag is derived from {@link #getContentLength()} and {@link #getLastModified()}.
+     *
+     * @return the entity tag including quotes, e.g. <code>"v1"</code> or <code>W/"v1"</code>
+     */
+    default String getETag() {
+        return null;
+    }
+
+    /**
+     * @return the time of the last modification in milliseconds since the epoch
+     */
+    default Long getLastModified() {
+        return null;
+    }
+
+    /**
+     * File backing the content, which allows to stream ranges of it directly from a {@link java.nio.channels.FileChannel}
+     * instead of reading {@link #getStream()}.
+     *
+     * @return the {@link Path} or <code>null</code>
+     */
+    default Path getPath() {
+        return null;
+    }
 }
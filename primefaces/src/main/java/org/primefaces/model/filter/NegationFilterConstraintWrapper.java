@@ -37,6 +37,10 @@ public class NegationFilterConstraintWrapper implements FilterConstraint {
         this.wrapped = wrapped;
     }
 
+    public FilterConstraint getWrapped() {
+        return wrapped;
+    }
+
     @Override
     public boolean isMatching(FacesContext ctxt, Object value, Object filter, Locale locale) {
         return !wrapped.isMatching(ctxt, value, filter, locale);
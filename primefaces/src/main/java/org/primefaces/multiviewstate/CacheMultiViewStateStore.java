@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.cache.CacheProvider;
+import org.primefaces.context.PrimeApplicationContext;
+import org.primefaces.util.LangUtils;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+import jakarta.servlet.http.HttpSessionBindingEvent;
+import jakarta.servlet.http.HttpSessionBindingListener;
+
+/**
+ * Keeps the serialized states of a session in the configured {@link CacheProvider}, region {@value #CACHE_REGION}, so they are neither
+ * part of the HTTP session nor of its replication. At most <code>maxEntries</code> states are kept per session, the least recently
+ * changed one is evicted first. The cache entry is moved when the session id changes, e.g. on login, and removed when the session
+ * ends.
+ * <p>
+ * The cached maps are never modified. Concurrent requests of the same session update the entry one after another, so neither loses
+ * the changes of the other, as long as they are processed by the same node.
+ */
+public class CacheMultiViewStateStore extends SerializedMultiViewStateStore {
+
+    public static final String CACHE_REGION = "primefaces.multiViewState";
+
+    private static final String SESSION_ATTRIBUTE = CacheMultiViewStateStore.class.getName();
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final int maxEntries;
+
+    public CacheMultiViewStateStore(int maxEntries) {
+        this.maxEntries = maxEntries;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    protected Map<MultiViewStateKey, byte[]> load(FacesContext context) {
+        ExternalContext externalContext = context.getExternalContext();
+        String sessionId = externalContext.getSessionId(false);
+        if (LangUtils.isBlank(sessionId)) {
+            return Collections.emptyMap();
+        }
+        CacheProvider cacheProvider = getCacheProvider(context);
+        synchronized (getLock(sessionId)) {
+            return getStates(cacheProvider, externalContext, sessionId);
+        }
+    }
+
+    @Override
+    protected void store(FacesContext context, Map<MultiViewStateKey, byte[]> written, Set<MultiViewStateKey> removed, boolean cleared) {
+        ExternalContext externalContext = context.getExternalContext();
+        String sessionId = externalContext.getSessionId(true);
+        CacheProvider cacheProvider = getCacheProvider(context);
+
+        synchronized (getLock(sessionId)) {
+            // merged with the current entry, it may have been changed by a concurrent request since this one was loaded
+            Map<MultiViewStateKey, byte[]> states = new LruMap<>(maxEntries, false);
+            if (!cleared) {
+                states.putAll(getStates(cacheProvider, externalContext, sessionId));
+            }
+            states.keySet().removeAll(removed);
+            written.forEach((key, bytes) -> {
+                states.remove(key);
+                states.put(key, bytes);
+            });
+
+            if (states.isEmpty()) {
+                cacheProvider.remove(CACHE_REGION, sessionId);
+                return;
+            }
+            cacheProvider.put(CACHE_REGION, sessionId, states);
+
+            Map<String, Object> sessionMap = externalContext.getSessionMap();
+            if (!sessionMap.containsKey(SESSION_ATTRIBUTE)) {
+                sessionMap.put(SESSION_ATTRIBUTE, new CacheEntryRemover(cacheProvider, sessionId));
+            }
+        }
+    }
+
+    /**
+     * Gets the cached states of the session, moves them first if the session id has changed since they have been stored.
+     */
+    private Map<MultiViewStateKey, byte[]> getStates(CacheProvider cacheProvider, ExternalContext externalContext, String sessionId) {
+        Map<String, Object> sessionMap = externalContext.getSessionMap();
+        CacheEntryRemover remover = (CacheEntryRemover) sessionMap.get(SESSION_ATTRIBUTE);
+        if (remover != null && !sessionId.equals(remover.sessionId)) {
+            // the previous session id isn't valid anymore, so no other request updates its entry
+            Object states = cacheProvider.get(CACHE_REGION, remover.sessionId);
+            if (states != null) {
+                cacheProvider.put(CACHE_REGION, sessionId, states);
+            }
+            // replacing it removes the entry of the previous session id
+            sessionMap.put(SESSION_ATTRIBUTE, new CacheEntryRemover(cacheProvider, sessionId));
+        }
+
+        Map<MultiViewStateKey, byte[]> states = (Map<MultiViewStateKey, byte[]>) cacheProvider.get(CACHE_REGION, sessionId);
+        return states == null ? Collections.emptyMap() : states;
+    }
+
+    private Object getLock(String sessionId) {
+        return locks[Math.floorMod(sessionId.hashCode(), LOCK_STRIPES)];
+    }
+
+    protected CacheProvider getCacheProvider(FacesContext context) {
+        return PrimeApplicationContext.getCurrentInstance(context).getCacheProvider();
+    }
+
+    /**
+     * Removes the cached states when the session ends.
+     */
+    private static class CacheEntryRemover implements HttpSessionBindingListener, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CacheProvider cacheProvider;
+        private final String sessionId;
+
+        CacheEntryRemover(CacheProvider cacheProvider, String sessionId) {
+            this.cacheProvider = cacheProvider;
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public void valueUnbound(HttpSessionBindingEvent event) {
+            // null after the session has been deserialized on another node, the cache has to expire the entry then
+            if (cacheProvider != null) {
+                cacheProvider.remove(CACHE_REGION, sessionId);
+            }
+        }
+    }
+}
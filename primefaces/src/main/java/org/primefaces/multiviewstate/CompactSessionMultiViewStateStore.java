@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.util.Constants;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Keeps the states serialized in the HTTP session, either per session or per {@link jakarta.faces.lifecycle.ClientWindow}, which keeps
+ * replicated sessions small. Each of them keeps at most <code>maxEntries</code> states and evicts the least recently changed one.
+ */
+public class CompactSessionMultiViewStateStore extends SerializedMultiViewStateStore {
+
+    private final boolean perClientWindow;
+    private final int maxEntries;
+
+    public CompactSessionMultiViewStateStore(boolean perClientWindow, int maxEntries) {
+        this.perClientWindow = perClientWindow;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected Map<MultiViewStateKey, byte[]> load(FacesContext context) {
+        Map<MultiViewStateKey, byte[]> states = SessionMultiViewStateStore.getWindowStates(context, perClientWindow, maxEntries, false, false);
+        if (states == null) {
+            return Collections.emptyMap();
+        }
+        synchronized (states) {
+            return new LinkedHashMap<>(states);
+        }
+    }
+
+    @Override
+    protected void store(FacesContext context, Map<MultiViewStateKey, byte[]> written, Set<MultiViewStateKey> removed, boolean cleared) {
+        Map<String, Object> sessionMap = context.getExternalContext().getSessionMap();
+        if (cleared) {
+            sessionMap.remove(Constants.MULTI_VIEW_STATES);
+        }
+        if (written.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        Map<MultiViewStateKey, byte[]> states = SessionMultiViewStateStore.getWindowStates(context, perClientWindow, maxEntries, false, true);
+        synchronized (states) {
+            states.keySet().removeAll(removed);
+            written.forEach((key, bytes) -> {
+                // re-insert to make it the most recently used one
+                states.remove(key);
+                states.put(key, bytes);
+            });
+        }
+
+        // marks the attribute as modified for session replication
+        sessionMap.put(Constants.MULTI_VIEW_STATES, sessionMap.get(Constants.MULTI_VIEW_STATES));
+    }
+}
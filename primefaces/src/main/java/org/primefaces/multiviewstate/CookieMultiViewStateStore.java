@@ -0,0 +1,241 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.util.LangUtils;
+import org.primefaces.util.ResourceUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.faces.FacesException;
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Keeps the serialized states on the client in the {@value #COOKIE_NAME} cookie, so the server doesn't keep them at all.
+ * <p>
+ * The cookie is signed with a HMAC, states of a cookie with an invalid signature are ignored. Set the same
+ * <code>primefaces.MULTI_VIEW_STATE_SECRET</code> of at least {@value #MIN_SECRET_LENGTH} characters on all cluster nodes, a random
+ * secret is generated if not set. The signing key is derived from the secret, so it differs from keys other features derive from
+ * the same secret. At most
+ * <code>maxEntries</code> states are kept and the least recently changed ones are evicted as long as the cookie value is longer than
+ * {@value #MAX_VALUE_LENGTH} characters.
+ * <p>
+ * Changes can only be written as long as the response is not committed, i.e. until the response starts rendering.
+ */
+public class CookieMultiViewStateStore extends SerializedMultiViewStateStore {
+
+    public static final String COOKIE_NAME = "primefaces.mvs";
+
+    /**
+     * Browsers accept at least 4096 bytes per cookie, including its name and attributes.
+     */
+    public static final int MAX_VALUE_LENGTH = 3800;
+
+    /**
+     * The minimum length of a configured secret, 32 characters.
+     */
+    public static final int MIN_SECRET_LENGTH = 32;
+
+    private static final Logger LOGGER = Logger.getLogger(CookieMultiViewStateStore.class.getName());
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final byte[] KEY_CONTEXT = "primefaces.multiViewState".getBytes(StandardCharsets.UTF_8);
+
+    private final SecretKeySpec secret;
+    private final int maxEntries;
+
+    public CookieMultiViewStateStore(String secret, int maxEntries) {
+        byte[] secretBytes;
+        if (LangUtils.isEmpty(secret)) {
+            secretBytes = new byte[32];
+            new SecureRandom().nextBytes(secretBytes);
+        }
+        else if (secret.length() < MIN_SECRET_LENGTH) {
+            throw new FacesException("primefaces.MULTI_VIEW_STATE_SECRET must have at least " + MIN_SECRET_LENGTH + " characters");
+        }
+        else {
+            secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.secret = new SecretKeySpec(deriveKey(secretBytes), ALGORITHM);
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    protected Map<MultiViewStateKey, byte[]> load(FacesContext context) {
+        Object cookie = context.getExternalContext().getRequestCookieMap().get(COOKIE_NAME);
+        if (cookie instanceof Cookie) {
+            return decode(((Cookie) cookie).getValue());
+        }
+        return Collections.emptyMap();
+    }
+
+    @Override
+    protected void store(FacesContext context, Map<MultiViewStateKey, byte[]> written, Set<MultiViewStateKey> removed, boolean cleared) {
+        ExternalContext externalContext = context.getExternalContext();
+        if (externalContext.isResponseCommitted()) {
+            LOGGER.fine("Response already committed, multiview state cookie can't be updated");
+            return;
+        }
+
+        Map<MultiViewStateKey, byte[]> states = new LruMap<>(maxEntries, false);
+        if (!cleared) {
+            states.putAll(load(context));
+        }
+        states.keySet().removeAll(removed);
+        written.forEach((key, bytes) -> {
+            states.remove(key);
+            states.put(key, bytes);
+        });
+
+        String value = encode(states);
+        Iterator<MultiViewStateKey> eldest = states.keySet().iterator();
+        while (value.length() > MAX_VALUE_LENGTH && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            value = encode(states);
+        }
+
+        Map<String, Object> properties = new HashMap<>(4);
+        String path = externalContext.getRequestContextPath();
+        properties.put("path", LangUtils.isEmpty(path) ? "/" : path);
+        properties.put("httpOnly", true);
+        if (states.isEmpty()) {
+            properties.put("maxAge", 0);
+        }
+        ResourceUtils.addResponseCookie(context, COOKIE_NAME, value, properties);
+    }
+
+    /**
+     * @param states the serialized states
+     * @return the signed cookie value, <code>payload.signature</code> both Base64 URL encoded
+     */
+    protected String encode(Map<MultiViewStateKey, byte[]> states) {
+        if (states.isEmpty()) {
+            return "";
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(states.size());
+            for (Map.Entry<MultiViewStateKey, byte[]> entry : states.entrySet()) {
+                out.writeUTF(entry.getKey().getViewId());
+                out.writeUTF(entry.getKey().getClientId());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+        }
+        catch (IOException e) {
+            throw new FacesException(e);
+        }
+
+        byte[] payload = bytes.toByteArray();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    /**
+     * @param value the cookie value
+     * @return the serialized states or an empty map if the value is invalid
+     */
+    protected Map<MultiViewStateKey, byte[]> decode(String value) {
+        int separator = value == null ? -1 : value.indexOf('.');
+        if (separator <= 0) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(value.substring(0, separator));
+            if (!MessageDigest.isEqual(sign(payload), decoder.decode(value.substring(separator + 1)))) {
+                LOGGER.fine("Ignoring multiview state cookie with invalid signature");
+                return Collections.emptyMap();
+            }
+
+            Map<MultiViewStateKey, byte[]> states = new LinkedHashMap<>();
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+                int size = in.readUnsignedShort();
+                for (int i = 0; i < size; i++) {
+                    MultiViewStateKey key = MultiViewStateKey.of(in.readUTF(), in.readUTF());
+                    int length = in.readInt();
+                    if (length < 0 || length > payload.length) {
+                        throw new IOException("Invalid length: " + length);
+                    }
+                    byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    states.put(key, bytes);
+                }
+            }
+            return states;
+        }
+        catch (IllegalArgumentException | IOException e) {
+            LOGGER.log(Level.FINE, "Ignoring invalid multiview state cookie", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private static byte[] deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac.doFinal(KEY_CONTEXT);
+        }
+        catch (GeneralSecurityException e) {
+            throw new FacesException(e);
+        }
+    }
+
+    protected byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secret);
+            return mac.doFinal(payload);
+        }
+        catch (GeneralSecurityException e) {
+            throw new FacesException(e);
+        }
+    }
+}
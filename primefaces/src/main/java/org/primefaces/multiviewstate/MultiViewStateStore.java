@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import java.util.Set;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Storage of the multiViewState of components, configured by <code>primefaces.MULTI_VIEW_STATE_STORE</code>.
+ * <p>
+ * Components modify the state objects returned by {@link #get(FacesContext, MultiViewStateKey)} in place, so stores which don't keep the
+ * objects themselves have to write them back in {@link #flush(FacesContext)}, which is called before the response is rendered and at
+ * the end of the request.
+ * <p>
+ * Custom implementations need a public no-arg constructor and must be thread-safe, one instance is shared by the whole application.
+ */
+public interface MultiViewStateStore {
+
+    /**
+     * @param context the {@link FacesContext}
+     * @param key the key of the state
+     * @return the state or <code>null</code> if none is stored
+     */
+    Object get(FacesContext context, MultiViewStateKey key);
+
+    /**
+     * @param context the {@link FacesContext}
+     * @param key the key of the state
+     * @param state the state, must be {@link java.io.Serializable} for stores which serialize it
+     */
+    void put(FacesContext context, MultiViewStateKey key, Object state);
+
+    /**
+     * @param context the {@link FacesContext}
+     * @param key the key of the state
+     * @return <code>true</code> if a state was removed
+     */
+    boolean remove(FacesContext context, MultiViewStateKey key);
+
+    /**
+     * @param context the {@link FacesContext}
+     * @return a snapshot of the keys of all stored states
+     */
+    Set<MultiViewStateKey> getKeys(FacesContext context);
+
+    /**
+     * Removes all stored states.
+     *
+     * @param context the {@link FacesContext}
+     */
+    void clear(FacesContext context);
+
+    /**
+     * Writes back the states used in the current request.
+     *
+     * @param context the {@link FacesContext}
+     */
+    default void flush(FacesContext context) {
+        // NOOP
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.util.LangUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import jakarta.faces.context.FacesContext;
+
+/**
+ * Base for stores which keep the states in a compact serialized form: Java serialization compressed with deflate.
+ * <p>
+ * States are deserialized on first access within a request and kept as objects until {@link #flush(FacesContext)}, which serializes
+ * them again and passes only the changed ones to {@link #store(FacesContext, Map, Set, boolean)}.
+ * <p>
+ * Only the classes matching {@link #ALLOWED_CLASSES} and the patterns passed to {@link #setAllowedClasses(String)} are deserialized,
+ * see {@link ObjectInputFilter.Config#createFilter(String)} for the pattern syntax.
+ */
+public abstract class SerializedMultiViewStateStore implements MultiViewStateStore {
+
+    /**
+     * The classes of the PrimeFaces states, including the EL expressions of their sort and filter metadata.
+     */
+    public static final String ALLOWED_CLASSES = "org.primefaces.**;java.lang.*;java.util.*;java.time.*;java.math.*;"
+            + "jakarta.el.*;org.apache.el.**;org.glassfish.expressly.**;com.sun.el.**;"
+            + "com.sun.faces.facelets.el.*;org.apache.myfaces.view.facelets.el.*";
+
+    private static final Logger LOGGER = Logger.getLogger(SerializedMultiViewStateStore.class.getName());
+
+    private static final String LIMITS = "maxdepth=32;maxrefs=65536;maxarray=65536";
+
+    private static final ObjectInputFilter INPUT_FILTER = createInputFilter(null);
+
+    private final String requestAttribute = getClass().getName();
+
+    private ObjectInputFilter inputFilter = INPUT_FILTER;
+
+    /**
+     * @param context the {@link FacesContext}
+     * @return the stored serialized states, never <code>null</code>
+     */
+    protected abstract Map<MultiViewStateKey, byte[]> load(FacesContext context);
+
+    /**
+     * Applies the changes of the current request, in this order.
+     *
+     * @param context the {@link FacesContext}
+     * @param written the new or changed serialized states, should become the most recently used ones
+     * @param removed the keys of the removed states
+     * @param cleared whether all states have been removed before
+     */
+    protected abstract void store(FacesContext context, Map<MultiViewStateKey, byte[]> written, Set<MultiViewStateKey> removed,
+            boolean cleared);
+
+    @Override
+    public Object get(FacesContext context, MultiViewStateKey key) {
+        RequestStates states = getRequestStates(context);
+        Object state = states.live.get(key);
+        if (state == null) {
+            byte[] bytes = states.stored.get(key);
+            if (bytes != null) {
+                state = deserialize(bytes, inputFilter);
+                if (state == null) {
+                    // unreadable, e.g. the state class has changed with a redeployment
+                    remove(context, key);
+                }
+                else {
+                    states.live.put(key, state);
+                }
+            }
+        }
+        return state;
+    }
+
+    @Override
+    public void put(FacesContext context, MultiViewStateKey key, Object state) {
+        getRequestStates(context).live.put(key, state);
+    }
+
+    @Override
+    public boolean remove(FacesContext context, MultiViewStateKey key) {
+        RequestStates states = getRequestStates(context);
+        boolean removed = states.live.remove(key) != null;
+        removed |= states.stored.remove(key) != null;
+        if (removed) {
+            states.removed.add(key);
+        }
+        return removed;
+    }
+
+    @Override
+    public Set<MultiViewStateKey> getKeys(FacesContext context) {
+        RequestStates states = getRequestStates(context);
+        Set<MultiViewStateKey> keys = new HashSet<>(states.stored.keySet());
+        keys.addAll(states.live.keySet());
+        return keys;
+    }
+
+    @Override
+    public void clear(FacesContext context) {
+        RequestStates states = getRequestStates(context);
+        states.live.clear();
+        states.stored.clear();
+        states.removed.clear();
+        states.cleared = true;
+    }
+
+    @Override
+    public void flush(FacesContext context) {
+        RequestStates states = (RequestStates) context.getAttributes().get(requestAttribute);
+        if (states == null) {
+            return;
+        }
+
+        Map<MultiViewStateKey, byte[]> written = new LinkedHashMap<>();
+        for (Map.Entry<MultiViewStateKey, Object> entry : states.live.entrySet()) {
+            byte[] bytes = serialize(entry.getKey(), entry.getValue());
+            if (bytes != null && !Arrays.equals(bytes, states.stored.get(entry.getKey()))) {
+                written.put(entry.getKey(), bytes);
+                states.stored.put(entry.getKey(), bytes);
+            }
+        }
+
+        if (!written.isEmpty() || !states.removed.isEmpty() || states.cleared) {
+            store(context, written, states.removed, states.cleared);
+            states.removed = new HashSet<>();
+            states.cleared = false;
+        }
+    }
+
+    /**
+     * Allows further classes to be deserialized, e.g. the classes of custom filter values.
+     *
+     * @param patterns the additional class patterns separated by <code>;</code>, may be <code>null</code>
+     */
+    public void setAllowedClasses(String patterns) {
+        inputFilter = createInputFilter(patterns);
+    }
+
+    protected static ObjectInputFilter createInputFilter(String patterns) {
+        StringBuilder filter = new StringBuilder(LIMITS).append(';').append(ALLOWED_CLASSES).append(';');
+        if (LangUtils.isNotBlank(patterns)) {
+            filter.append(patterns.trim());
+            if (filter.charAt(filter.length() - 1) != ';') {
+                filter.append(';');
+            }
+        }
+        return ObjectInputFilter.Config.createFilter(filter.append("!*").toString());
+    }
+
+    protected RequestStates getRequestStates(FacesContext context) {
+        RequestStates states = (RequestStates) context.getAttributes().get(requestAttribute);
+        if (states == null) {
+            states = new RequestStates(new HashMap<>(load(context)));
+            context.getAttributes().put(requestAttribute, states);
+        }
+        return states;
+    }
+
+    protected static byte[] serialize(MultiViewStateKey key, Object state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ObjectOutputStream out = new ObjectOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeObject(state);
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Multiview state for " + key + " could not be serialized and is discarded");
+            return null;
+        }
+        finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    protected static Object deserialize(byte[] bytes) {
+        return deserialize(bytes, INPUT_FILTER);
+    }
+
+    protected static Object deserialize(byte[] bytes, ObjectInputFilter filter) {
+        try (ObjectInputStream in = new StateInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes)))) {
+            in.setObjectInputFilter(filter);
+            return in.readObject();
+        }
+        catch (IOException | ClassNotFoundException e) {
+            LOGGER.log(Level.FINE, "Multiview state could not be deserialized", e);
+            return null;
+        }
+    }
+
+    /**
+     * The states of the current request.
+     */
+    protected static class RequestStates {
+
+        private final Map<MultiViewStateKey, byte[]> stored;
+        private final Map<MultiViewStateKey, Object> live = new HashMap<>();
+        private Set<MultiViewStateKey> removed = new HashSet<>();
+        private boolean cleared;
+
+        RequestStates(Map<MultiViewStateKey, byte[]> stored) {
+            this.stored = stored;
+        }
+    }
+
+    /**
+     * Resolves the state classes with the application class loader.
+     */
+    private static class StateInputStream extends ObjectInputStream {
+
+        StateInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, LangUtils.getContextClassLoader());
+            }
+            catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
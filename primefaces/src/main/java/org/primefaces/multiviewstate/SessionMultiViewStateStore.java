@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.util.Constants;
+import org.primefaces.util.LangUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.lifecycle.ClientWindow;
+
+/**
+ * Keeps the state objects in the HTTP session, either per session or per {@link ClientWindow}.
+ * Each of them keeps at most <code>maxEntries</code> states and evicts the least recently used one.
+ */
+public class SessionMultiViewStateStore implements MultiViewStateStore {
+
+    private final boolean perClientWindow;
+    private final int maxEntries;
+
+    public SessionMultiViewStateStore(boolean perClientWindow, int maxEntries) {
+        this.perClientWindow = perClientWindow;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public Object get(FacesContext context, MultiViewStateKey key) {
+        Map<MultiViewStateKey, Object> states = getStates(context, false);
+        if (states == null) {
+            return null;
+        }
+        synchronized (states) {
+            return states.get(key);
+        }
+    }
+
+    @Override
+    public void put(FacesContext context, MultiViewStateKey key, Object state) {
+        Map<MultiViewStateKey, Object> states = getStates(context, true);
+        synchronized (states) {
+            states.put(key, state);
+        }
+    }
+
+    @Override
+    public boolean remove(FacesContext context, MultiViewStateKey key) {
+        Map<MultiViewStateKey, Object> states = getStates(context, false);
+        if (states == null) {
+            return false;
+        }
+        synchronized (states) {
+            return states.remove(key) != null;
+        }
+    }
+
+    @Override
+    public Set<MultiViewStateKey> getKeys(FacesContext context) {
+        Map<MultiViewStateKey, Object> states = getStates(context, false);
+        if (states == null) {
+            return Collections.emptySet();
+        }
+        synchronized (states) {
+            return new HashSet<>(states.keySet());
+        }
+    }
+
+    @Override
+    public void clear(FacesContext context) {
+        context.getExternalContext().getSessionMap().remove(Constants.MULTI_VIEW_STATES);
+    }
+
+    protected Map<MultiViewStateKey, Object> getStates(FacesContext context, boolean create) {
+        return getWindowStates(context, perClientWindow, maxEntries, true, create);
+    }
+
+    /**
+     * @return the states of the current session or client window, kept in a map by window id in the session
+     */
+    static <V> Map<MultiViewStateKey, V> getWindowStates(FacesContext context, boolean perClientWindow, int maxEntries,
+            boolean accessOrder, boolean create) {
+        Map<String, Object> sessionMap = context.getExternalContext().getSessionMap();
+        Map<String, Map<MultiViewStateKey, V>> windows = (Map<String, Map<MultiViewStateKey, V>>) sessionMap.get(Constants.MULTI_VIEW_STATES);
+        if (windows == null) {
+            if (!create) {
+                return null;
+            }
+            windows = (Map<String, Map<MultiViewStateKey, V>>) sessionMap.computeIfAbsent(Constants.MULTI_VIEW_STATES,
+                    k -> new ConcurrentHashMap<>());
+        }
+
+        String windowId = getWindowId(context, perClientWindow);
+        return create
+                ? windows.computeIfAbsent(windowId, k -> new LruMap<>(maxEntries, accessOrder))
+                : windows.get(windowId);
+    }
+
+    static String getWindowId(FacesContext context, boolean perClientWindow) {
+        if (perClientWindow) {
+            ClientWindow clientWindow = context.getExternalContext().getClientWindow();
+            if (clientWindow != null && LangUtils.isNotBlank(clientWindow.getId())) {
+                return clientWindow.getId();
+            }
+        }
+        return "session";
+    }
+}
@@ -47,14 +47,26 @@ public class Constants {
         public static final String INTERPOLATE_CLIENT_SIDE_VALIDATION_MESSAGES = "primefaces.INTERPOLATE_CLIENT_SIDE_VALIDATION_MESSAGES";
         public static final String MARK_INPUT_AS_INVALID_ON_ERROR_MSG = "primefaces.MARK_INPUT_AS_INVALID_ON_ERROR_MSG";
         public static final String MOVE_SCRIPTS_TO_BOTTOM = "primefaces.MOVE_SCRIPTS_TO_BOTTOM";
+        public static final String MOVE_SCRIPTS_TO_BOTTOM_BATCH_WIDGETS = "primefaces.MOVE_SCRIPTS_TO_BOTTOM_BATCH_WIDGETS";
         public static final String MULTI_VIEW_STATE_STORE = "primefaces.MULTI_VIEW_STATE_STORE";
+        public static final String MULTI_VIEW_STATE_ALLOWED_CLASSES = "primefaces.MULTI_VIEW_STATE_ALLOWED_CLASSES";
+        public static final String MULTI_VIEW_STATE_MAX_ENTRIES = "primefaces.MULTI_VIEW_STATE_MAX_ENTRIES";
+        public static final String MULTI_VIEW_STATE_COMPACT = "primefaces.MULTI_VIEW_STATE_COMPACT";
+        public static final String MULTI_VIEW_STATE_SECRET = "primefaces.MULTI_VIEW_STATE_SECRET";
+        public static final String PARALLEL_TABLE_THRESHOLD = "primefaces.PARALLEL_TABLE_THRESHOLD";
         public static final String PRIME_ICONS = "primefaces.PRIME_ICONS";
         public static final String RESET_VALUES = "primefaces.RESET_VALUES";
+        public static final String RESOURCE_CACHE = "primefaces.RESOURCE_CACHE";
+        public static final String RESOURCE_CONTENT_HASH = "primefaces.RESOURCE_CONTENT_HASH";
         public static final String SUBMIT = "primefaces.SUBMIT";
         public static final String THEME = "primefaces.THEME";
         public static final String TOUCHABLE = "primefaces.TOUCHABLE";
         public static final String TRANSFORM_METADATA = "primefaces.TRANSFORM_METADATA";
         public static final String DYNAMIC_CONTENT_LIMIT = "primefaces.DYNAMIC_CONTENT_LIMIT";
+        public static final String DYNAMIC_CONTENT_SCOPE = "primefaces.DYNAMIC_CONTENT_SCOPE";
+        public static final String DYNAMIC_CONTENT_SECRET = "primefaces.DYNAMIC_CONTENT_SECRET";
+        public static final String EXPORT_MAX_CONCURRENT = "primefaces.EXPORT_MAX_CONCURRENT";
+        public static final String VIRUSSCAN_MAX_CONCURRENT = "primefaces.virusscan.MAX_CONCURRENT";
 
         private ContextParams() {
 
@@ -88,6 +100,7 @@ public class Constants {
     public static final String DYNAMIC_CONTENT_PARAM = "pfdrid";
     public static final String DYNAMIC_CONTENT_CACHE_PARAM = "pfdrid_c";
     public static final String DYNAMIC_CONTENT_TYPE_PARAM = "pfdrt";
+    public static final String DYNAMIC_CONTENT_EXPORT_PARAM = "pfdrid_e";
     public static final String DYNAMIC_RESOURCES_MAPPING = "primefaces.dynamicResourcesMapping";
 
     public static final String BARCODE_MAPPING = "primefaces.barcodeMapping";
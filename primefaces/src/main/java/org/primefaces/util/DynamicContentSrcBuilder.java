@@ -106,18 +106,25 @@ public class DynamicContentSrcBuilder {
                 "dynamiccontent.properties", "primefaces", "text/plain");
         String resourcePath = resource.getRequestPath();
 
-        Map<String, Object> session = context.getExternalContext().getSessionMap();
-        Map<String, String> dynamicResourcesMapping = (Map<String, String>) session.get(Constants.DYNAMIC_RESOURCES_MAPPING);
-        if (dynamicResourcesMapping == null) {
-            int limit = PrimeApplicationContext.getCurrentInstance(context).getConfig().getDynamicContentLimit();
-            dynamicResourcesMapping = new LimitedSizeHashMap<>(limit);
-            session.put(Constants.DYNAMIC_RESOURCES_MAPPING, dynamicResourcesMapping);
-        }
-
         String expressionString = valueExpression.getExpressionString();
-        String resourceKey = md5(expressionString);
+        String resourceKey;
+
+        PrimeApplicationContext applicationContext = PrimeApplicationContext.getCurrentInstance(context);
+        if (applicationContext.getConfig().isDynamicContentApplicationScoped()) {
+            resourceKey = applicationContext.getDynamicContentRegistry().register(expressionString);
+        }
+        else {
+            Map<String, Object> session = context.getExternalContext().getSessionMap();
+            Map<String, String> dynamicResourcesMapping = (Map<String, String>) session.get(Constants.DYNAMIC_RESOURCES_MAPPING);
+            if (dynamicResourcesMapping == null) {
+                int limit = applicationContext.getConfig().getDynamicContentLimit();
+                dynamicResourcesMapping = new LimitedSizeHashMap<>(limit);
+                session.put(Constants.DYNAMIC_RESOURCES_MAPPING, dynamicResourcesMapping);
+            }
 
-        dynamicResourcesMapping.put(resourceKey, expressionString);
+            resourceKey = md5(expressionString);
+            dynamicResourcesMapping.put(resourceKey, expressionString);
+        }
 
         StringBuilder builder = SharedStringBuilder.get(context, SB_BUILD_STREAMING);
         builder.append(resourcePath)
@@ -45,8 +45,12 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -70,6 +74,8 @@ public class FileUploadUtils {
     private static final Logger LOGGER = Logger.getLogger(FileUploadUtils.class.getName());
 
     // Message keys
+    private static final String VIRUS_SCANS = FileUploadUtils.class.getName() + ".VIRUS_SCANS";
+
     private static final String FILENAME_EMPTY = "primefaces.FileValidator.FILENAME_EMPTY";
     private static final String FILENAME_INVALID_CHAR = "primefaces.FileValidator.FILENAME_INVALID_CHAR";
     private static final String FILENAME_INVALID_WINDOWS = "primefaces.FileValidator.FILENAME_INVALID_WINDOWS";
@@ -367,8 +373,57 @@ public class FileUploadUtils {
         }
     }
 
+    /**
+     * Performs the virus scan of the file, or waits for the one started by {@link #startVirusScan(FacesContext, UploadedFile)}.
+     *
+     * @param facesContext the {@link FacesContext}
+     * @param file the file to scan
+     * @throws VirusException if a virus has been detected
+     */
     public static void performVirusScan(FacesContext facesContext, UploadedFile file) throws VirusException {
-        PrimeApplicationContext.getCurrentInstance(facesContext).getVirusScannerService().performVirusScan(file);
+        Map<UploadedFile, CompletableFuture<Void>> scans = (Map<UploadedFile, CompletableFuture<Void>>) facesContext.getAttributes().get(VIRUS_SCANS);
+        CompletableFuture<Void> scan = scans == null ? null : scans.remove(file);
+        if (scan == null) {
+            PrimeApplicationContext.getCurrentInstance(facesContext).getVirusScannerService().performVirusScan(file);
+            return;
+        }
+
+        try {
+            scan.join();
+        }
+        catch (CompletionException e) {
+            // as thrown by the synchronous scan
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new VirusException("Virus scan failed", e.getCause());
+        }
+    }
+
+    /**
+     * Starts the virus scan of an uploaded file in the background, while the request is decoded and validated further, e.g. while
+     * the remaining files of the request are read. {@link #performVirusScan(FacesContext, UploadedFile)} then only waits for it.
+     *
+     * @param facesContext the {@link FacesContext}
+     * @param file the file to scan
+     */
+    public static void startVirusScan(FacesContext facesContext, UploadedFile file) {
+        Map<UploadedFile, CompletableFuture<Void>> scans = (Map<UploadedFile, CompletableFuture<Void>>) facesContext.getAttributes()
+                .computeIfAbsent(VIRUS_SCANS, k -> new IdentityHashMap<>());
+        scans.put(file, performVirusScanAsync(facesContext, file));
+    }
+
+    /**
+     * Starts the virus scan in the background, so e.g. {@link UploadedFile#write(String)} can run in the meantime.
+     * Callers should {@link CompletableFuture#join() join} the result before handing the file over to the application;
+     * a detected virus surfaces as {@link java.util.concurrent.CompletionException} caused by a {@link VirusException}.
+     *
+     * @param facesContext the {@link FacesContext}
+     * @param file the file to scan
+     * @return the scan result
+     */
+    public static CompletableFuture<Void> performVirusScanAsync(FacesContext facesContext, UploadedFile file) {
+        return PrimeApplicationContext.getCurrentInstance(facesContext).getVirusScannerService().performVirusScanAsync(file);
     }
 
     public static List<Path> listChunks(Path path) {
@@ -0,0 +1,466 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.faces.FacesException;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONPropertyIgnore;
+import org.json.JSONPropertyName;
+import org.json.JSONString;
+
+/**
+ * Writes Java objects as JSON directly to a {@link Writer}, without building an intermediate <code>org.json</code> tree or string.
+ * <p>
+ * Maps, iterables, arrays, numbers, booleans, strings, enums and beans are supported. Beans are serialized from their public getters
+ * with the same naming rules as <code>new JSONObject(bean)</code>, including the <code>JSONPropertyName</code> and
+ * <code>JSONPropertyIgnore</code> annotations. Like <code>org.json</code>, <code>null</code> values of maps and beans are skipped,
+ * and other <code>java.*</code> types are written as string. <code>org.json</code> trees are supported, but not required.
+ * </p>
+ * <p>
+ * If XML escaping is enabled, <code>&amp;</code>, <code>&lt;</code> and <code>&gt;</code> are escaped as XML entities,
+ * so that the JSON can be written as text of an XML element, e.g. of a partial response.
+ * </p>
+ */
+public class JsonWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(JsonWriter.class.getName());
+
+    private static final boolean ORG_JSON_AVAILABLE = LangUtils.isClassAvailable("org.json.JSONObject");
+
+    private static final Map<Class<?>, BeanProperty[]> BEAN_PROPERTIES = new ConcurrentHashMap<>();
+
+    private static final String[] JSON_ESCAPES = new String[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            JSON_ESCAPES[i] = String.format("\\u%04x", i);
+        }
+        JSON_ESCAPES['"'] = "\\\"";
+        JSON_ESCAPES['\\'] = "\\\\";
+        JSON_ESCAPES['\b'] = "\\b";
+        JSON_ESCAPES['\t'] = "\\t";
+        JSON_ESCAPES['\n'] = "\\n";
+        JSON_ESCAPES['\f'] = "\\f";
+        JSON_ESCAPES['\r'] = "\\r";
+    }
+
+    private final Writer out;
+    private final boolean escapeXml;
+    private IdentityHashMap<Object, Object> path;
+
+    /**
+     * @param out the target
+     * @param escapeXml if XML special characters should be escaped as entities
+     */
+    public JsonWriter(Writer out, boolean escapeXml) {
+        this.out = out;
+        this.escapeXml = escapeXml;
+    }
+
+    /**
+     * Writes a quoted name followed by a colon, e.g. <code>"name":</code>.
+     *
+     * @param name the name
+     * @throws IOException if the target cannot be written
+     */
+    public void writeName(String name) throws IOException {
+        writeString(name);
+        out.write(":");
+    }
+
+    /**
+     * Writes any supported value.
+     *
+     * @param value the value, may be <code>null</code>
+     * @throws IOException if the target cannot be written
+     */
+    public void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write("null");
+        }
+        else if (value instanceof String) {
+            writeString((String) value);
+        }
+        else if (value instanceof Boolean) {
+            out.write(value.toString());
+        }
+        else if (value instanceof Number) {
+            writeNumber((Number) value);
+        }
+        else if (value instanceof Character || value instanceof Enum) {
+            writeString(value instanceof Enum ? ((Enum<?>) value).name() : value.toString());
+        }
+        else if (ORG_JSON_AVAILABLE && writeOrgJson(value)) {
+            // written
+        }
+        else if (value instanceof Map) {
+            enter(value);
+            writeMap((Map<?, ?>) value);
+            leave(value);
+        }
+        else if (value instanceof Iterable) {
+            enter(value);
+            writeIterator(((Iterable<?>) value).iterator());
+            leave(value);
+        }
+        else if (value.getClass().isArray()) {
+            enter(value);
+            writeArray(value);
+            leave(value);
+        }
+        else if (isJavaType(value.getClass())) {
+            writeString(value.toString());
+        }
+        else {
+            enter(value);
+            writeBean(value);
+            leave(value);
+        }
+    }
+
+    /**
+     * Writes a quoted and escaped string.
+     *
+     * @param value the string
+     * @throws IOException if the target cannot be written
+     */
+    public void writeString(String value) throws IOException {
+        out.write("\"");
+
+        int length = value.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String escaped = escape(c, i > 0 ? value.charAt(i - 1) : 0);
+            if (escaped != null) {
+                if (i > start) {
+                    out.write(value, start, i - start);
+                }
+                out.write(escaped);
+                start = i + 1;
+            }
+        }
+        if (start == 0) {
+            out.write(value);
+        }
+        else if (start < length) {
+            out.write(value, start, length - start);
+        }
+
+        out.write("\"");
+    }
+
+    protected String escape(char c, char previous) {
+        if (c < 128) {
+            if (escapeXml) {
+                switch (c) {
+                    case '&':
+                        return "&amp;";
+                    case '<':
+                        return "&lt;";
+                    case '>':
+                        return "&gt;";
+                    default:
+                        break;
+                }
+            }
+            // as org.json, to not close a surrounding script element
+            if (c == '/' && previous == '<') {
+                return "\\/";
+            }
+            return JSON_ESCAPES[c];
+        }
+        if ((c >= '\u0080' && c < '\u00a0') || (c >= '\u2000' && c < '\u2100')) {
+            return String.format("\\u%04x", (int) c);
+        }
+        return null;
+    }
+
+    protected void writeNumber(Number value) throws IOException {
+        if (value instanceof Double || value instanceof Float) {
+            double d = value.doubleValue();
+            if (!Double.isFinite(d)) {
+                out.write("null");
+                return;
+            }
+
+            // strip trailing zeros like org.json, e.g. 1.0 -> 1
+            String s = value.toString();
+            if (s.indexOf('.') > 0 && s.indexOf('e') < 0 && s.indexOf('E') < 0) {
+                int end = s.length();
+                while (s.charAt(end - 1) == '0') {
+                    end--;
+                }
+                if (s.charAt(end - 1) == '.') {
+                    end--;
+                }
+                out.write(s, 0, end);
+            }
+            else {
+                out.write(s);
+            }
+        }
+        else {
+            out.write(value.toString());
+        }
+    }
+
+    protected void writeMap(Map<?, ?> map) throws IOException {
+        out.write("{");
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            if (!first) {
+                out.write(",");
+            }
+            first = false;
+            writeName(String.valueOf(entry.getKey()));
+            writeValue(entry.getValue());
+        }
+        out.write("}");
+    }
+
+    protected void writeIterator(Iterator<?> iterator) throws IOException {
+        out.write("[");
+        boolean first = true;
+        while (iterator.hasNext()) {
+            if (!first) {
+                out.write(",");
+            }
+            first = false;
+            writeValue(iterator.next());
+        }
+        out.write("]");
+    }
+
+    protected void writeArray(Object array) throws IOException {
+        out.write("[");
+        int length = Array.getLength(array);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                out.write(",");
+            }
+            writeValue(Array.get(array, i));
+        }
+        out.write("]");
+    }
+
+    protected void writeBean(Object bean) throws IOException {
+        out.write("{");
+        boolean first = true;
+        for (BeanProperty property : getBeanProperties(bean.getClass())) {
+            Object value = property.get(bean);
+            if (value == null) {
+                continue;
+            }
+            if (!first) {
+                out.write(",");
+            }
+            first = false;
+            writeName(property.name);
+            writeValue(value);
+        }
+        out.write("}");
+    }
+
+    /**
+     * Kept apart, so that <code>org.json</code> is only loaded if available.
+     */
+    private boolean writeOrgJson(Object value) throws IOException {
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            out.write("{");
+            boolean first = true;
+            for (String key : object.keySet()) {
+                if (!first) {
+                    out.write(",");
+                }
+                first = false;
+                writeName(key);
+                Object member = object.opt(key);
+                writeValue(JSONObject.NULL.equals(member) ? null : member);
+            }
+            out.write("}");
+            return true;
+        }
+        if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            out.write("[");
+            for (int i = 0; i < array.length(); i++) {
+                if (i > 0) {
+                    out.write(",");
+                }
+                Object member = array.opt(i);
+                writeValue(JSONObject.NULL.equals(member) ? null : member);
+            }
+            out.write("]");
+            return true;
+        }
+        if (value instanceof JSONString) {
+            String json = ((JSONString) value).toJSONString();
+            out.write(escapeXml ? EscapeUtils.forXml(json) : json);
+            return true;
+        }
+        if (JSONObject.NULL.equals(value)) {
+            out.write("null");
+            return true;
+        }
+        return false;
+    }
+
+    private void enter(Object value) {
+        if (path == null) {
+            path = new IdentityHashMap<>();
+        }
+        if (path.put(value, value) != null) {
+            throw new FacesException("Cyclic reference while writing JSON of type: " + value.getClass().getName());
+        }
+    }
+
+    private void leave(Object value) {
+        path.remove(value);
+    }
+
+    private static boolean isJavaType(Class<?> type) {
+        String name = type.getName();
+        return type.getClassLoader() == null || name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    static BeanProperty[] getBeanProperties(Class<?> type) {
+        return BEAN_PROPERTIES.computeIfAbsent(type, JsonWriter::resolveBeanProperties);
+    }
+
+    private static BeanProperty[] resolveBeanProperties(Class<?> type) {
+        List<BeanProperty> properties = new ArrayList<>();
+        Method[] methods = type.getClassLoader() != null ? type.getMethods() : type.getDeclaredMethods();
+        for (Method method : methods) {
+            int modifiers = method.getModifiers();
+            if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || method.isBridge()
+                    || method.getParameterCount() != 0 || method.getReturnType() == Void.TYPE
+                    || "getClass".equals(method.getName()) || "getDeclaringClass".equals(method.getName())) {
+                continue;
+            }
+            if (ORG_JSON_AVAILABLE && OrgJsonAnnotations.isIgnored(method)) {
+                continue;
+            }
+
+            String name = ORG_JSON_AVAILABLE ? OrgJsonAnnotations.getName(method) : null;
+            if (name == null) {
+                name = getPropertyName(method.getName());
+            }
+            if (name != null) {
+                properties.add(new BeanProperty(name, method));
+            }
+        }
+        return properties.toArray(new BeanProperty[0]);
+    }
+
+    /**
+     * Same rules as <code>org.json</code>: <code>getURL()</code> is <code>URL</code>, <code>getName()</code> is <code>name</code>,
+     * <code>isActive()</code> is <code>active</code>.
+     */
+    static String getPropertyName(String methodName) {
+        String key;
+        if (methodName.startsWith("get") && methodName.length() > 3) {
+            key = methodName.substring(3);
+        }
+        else if (methodName.startsWith("is") && methodName.length() > 2) {
+            key = methodName.substring(2);
+        }
+        else {
+            return null;
+        }
+
+        if (Character.isLowerCase(key.charAt(0))) {
+            return null;
+        }
+        if (key.length() == 1) {
+            return key.toLowerCase(Locale.ROOT);
+        }
+        if (!Character.isUpperCase(key.charAt(1))) {
+            return key.substring(0, 1).toLowerCase(Locale.ROOT) + key.substring(1);
+        }
+        return key;
+    }
+
+    static class BeanProperty {
+
+        private final String name;
+        private final Method getter;
+
+        BeanProperty(String name, Method getter) {
+            this.name = name;
+            this.getter = getter;
+        }
+
+        Object get(Object bean) {
+            try {
+                return getter.invoke(bean);
+            }
+            catch (IllegalAccessException | InvocationTargetException e) {
+                // skipped as by org.json
+                LOGGER.log(Level.FINE, e, () -> "Could not read property " + name + " of " + bean.getClass().getName());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Kept apart, so that <code>org.json</code> is only loaded if available.
+     */
+    private static final class OrgJsonAnnotations {
+
+        private OrgJsonAnnotations() {
+        }
+
+        static boolean isIgnored(Method method) {
+            return method.isAnnotationPresent(JSONPropertyIgnore.class);
+        }
+
+        static String getName(Method method) {
+            JSONPropertyName annotation = method.getAnnotation(JSONPropertyName.class);
+            return annotation == null || LangUtils.isEmpty(annotation.value()) ? null : annotation.value();
+        }
+    }
+}
@@ -28,9 +28,12 @@ import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.model.SortMeta;
 import org.primefaces.model.TreeNode;
 
+import java.text.CollationKey;
 import java.text.Collator;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -134,6 +137,153 @@ public class SortTableComparator implements Comparator<Object> {
         }
     }
 
+    /**
+     * Sorts the given list by the active {@link SortMeta}s of the table.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link UITable}
+     * @param list the rows to sort
+     * @param mapper the {@link BeanPropertyMapper} to extract the sort values
+     * @see #sort(FacesContext, UITable, Object[], BeanPropertyMapper)
+     */
+    public static <T> void sort(FacesContext context, UITable<?> table, List<T> list, BeanPropertyMapper mapper) {
+        if (list.size() < 2) {
+            return;
+        }
+
+        Object[] rows = list.toArray();
+        sort(context, table, rows, mapper);
+        AtomicInteger index = new AtomicInteger();
+        list.replaceAll(row -> (T) rows[index.getAndIncrement()]);
+    }
+
+    /**
+     * Sorts the given rows by the active {@link SortMeta}s of the table, with the same order as a {@link SortTableComparator}.
+     * <p>
+     * Instead of evaluating the sort values of both operands on every comparison, the sort key of each row and {@link SortMeta}
+     * is extracted once; Strings are converted into {@link CollationKey}s, so they are not collated again on every comparison.
+     * Then the row indexes are sorted over the extracted keys and the rows are permuted accordingly.
+     * <p>
+     * If the number of rows reaches {@link UITable#isParallelThresholdReached(FacesContext, int)}, the indexes are sorted in parallel.
+     * As the keys are extracted on the current thread, the EL evaluation never leaves the {@link FacesContext}. Sorting stays sequential
+     * if any {@link SortMeta#getFunction()} is defined, which must be invoked on the current thread.
+     *
+     * @param context the {@link FacesContext}
+     * @param table the {@link UITable}
+     * @param rows the rows to sort
+     * @param mapper the {@link BeanPropertyMapper} to extract the sort values
+     */
+    public static void sort(FacesContext context, UITable<?> table, Object[] rows, BeanPropertyMapper mapper) {
+        SortMeta[] sortMetas = table.getActiveSortMeta().values().toArray(new SortMeta[0]);
+        if (rows.length < 2 || sortMetas.length == 0) {
+            return;
+        }
+
+        Object[][] keys = extractSortKeys(context, table, rows, mapper, sortMetas);
+
+        Integer[] indexes = new Integer[rows.length];
+        Arrays.setAll(indexes, i -> i);
+        Comparator<Integer> comparator = (i1, i2) -> {
+            for (int j = 0; j < sortMetas.length; j++) {
+                int result = compareSortKeys(context, sortMetas[j], keys[j][i1], keys[j][i2]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+
+        boolean parallel = table.isParallelThresholdReached(context, rows.length)
+                && Arrays.stream(sortMetas).allMatch(sortMeta -> sortMeta.getFunction() == null);
+        if (parallel) {
+            Arrays.parallelSort(indexes, comparator);
+        }
+        else {
+            Arrays.sort(indexes, comparator);
+        }
+
+        Object[] sorted = new Object[rows.length];
+        for (int i = 0; i < indexes.length; i++) {
+            sorted[i] = rows[indexes[i]];
+        }
+        System.arraycopy(sorted, 0, rows, 0, rows.length);
+    }
+
+    /**
+     * Extracts the sort key of each row, per {@link SortMeta}.
+     *
+     * @return the keys, indexed by {@link SortMeta} and then by row
+     */
+    protected static Object[][] extractSortKeys(FacesContext context, UITable<?> table, Object[] rows, BeanPropertyMapper mapper,
+                                                SortMeta[] sortMetas) {
+        String var = table.getVar();
+        Locale locale = table.resolveDataLocale(context);
+        Collator collator = Collator.getInstance(locale);
+        Object[][] keys = new Object[sortMetas.length][rows.length];
+
+        for (int j = 0; j < sortMetas.length; j++) {
+            SortMeta sortMeta = sortMetas[j];
+            Object[] sortKeys = keys[j];
+            Runnable extractor = () -> {
+                for (int i = 0; i < rows.length; i++) {
+                    sortKeys[i] = toSortKey(sortMeta, mapper.map(context, var, sortMeta, rows[i]), collator, locale);
+                }
+            };
+
+            if (mapper.isValueExprBased() && sortMeta.isDynamic()) {
+                table.invokeOnColumn(sortMeta.getColumnKey(), column -> extractor.run());
+            }
+            else {
+                extractor.run();
+            }
+        }
+
+        return keys;
+    }
+
+    protected static Object toSortKey(SortMeta sortMeta, Object value, Collator collator, Locale locale) {
+        if (sortMeta.getFunction() != null || !(value instanceof String)) {
+            return value;
+        }
+
+        String str = (String) value;
+        return collator.getCollationKey(sortMeta.isCaseSensitiveSort() ? str : str.toLowerCase(locale));
+    }
+
+    /**
+     * Compares two keys created by {@link #toSortKey(SortMeta, Object, Collator, Locale)},
+     * equivalent to {@link #compare(FacesContext, SortMeta, Object, Object, Collator, Locale)} on the original values.
+     */
+    protected static int compareSortKeys(FacesContext context, SortMeta sortMeta, Object key1, Object key2) {
+        try {
+            int result;
+
+            if (sortMeta.getFunction() == null) {
+                //Empty check
+                if (key1 == null && key2 == null) {
+                    result = 0;
+                }
+                else if (key1 == null) {
+                    result = sortMeta.getNullSortOrder();
+                }
+                else if (key2 == null) {
+                    result = -1 * sortMeta.getNullSortOrder();
+                }
+                else {
+                    result = ((Comparable<Object>) key1).compareTo(key2);
+                }
+            }
+            else {
+                result = (Integer) sortMeta.getFunction().invoke(context.getELContext(), new Object[]{key1, key2, sortMeta});
+            }
+
+            return sortMeta.getOrder().isAscending() ? result : -1 * result;
+        }
+        catch (Exception e) {
+            throw new FacesException(e);
+        }
+    }
+
     public static Comparator<Object> comparingSortByVE(FacesContext context, UITable<?> table) {
         return new SortTableComparator(context, table, SORT_BY_VE_MAPPER);
     }
@@ -29,6 +29,7 @@ import org.primefaces.renderkit.RendererUtils;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
@@ -36,9 +37,36 @@ import jakarta.faces.context.ResponseWriter;
 
 /**
  * Helper to generate scripts for widgets.
+ * <p>
+ * As it is used by every widget on every render, constant fragments like <code>,name:"</code> are precomputed as <code>char[]</code>
+ * and values which need no escaping are written as they are.
  */
 public class WidgetBuilder {
 
+    private static final char[] CW_START = "PrimeFaces.cw(\"".toCharArray();
+    private static final char[] CW_SEPARATOR = "\",\"".toCharArray();
+    private static final char[] CW_CONFIG = "\",{id:\"".toCharArray();
+    private static final char[] QUOTE = {'"'};
+    private static final char[] BLOCK_START = {'{'};
+    private static final char[] RETURN_START = "{return ".toCharArray();
+    private static final char[] BLOCK_END = {'}'};
+    private static final char[] FINISH = "});".toCharArray();
+
+    private static final int MAX_CACHED_NAMES = 1024;
+    private static final Map<String, NameFragments> NAME_FRAGMENTS = new ConcurrentHashMap<>();
+
+    /**
+     * ASCII characters which {@link EscapeUtils#forJavaScript(String)} keeps as they are.
+     */
+    private static final boolean[] JAVASCRIPT_SAFE = new boolean[128];
+
+    static {
+        for (char c = 0; c < JAVASCRIPT_SAFE.length; c++) {
+            String value = String.valueOf(c);
+            JAVASCRIPT_SAFE[c] = value.equals(EscapeUtils.forJavaScript(value));
+        }
+    }
+
     protected boolean endFunction;
     protected FacesContext context;
     protected PrimeConfiguration configuration;
@@ -61,13 +89,13 @@ public class WidgetBuilder {
         this.endFunction = endFunction;
 
         ResponseWriter rw = context.getResponseWriter();
-        rw.write("PrimeFaces.cw(\"");
+        write(rw, CW_START);
         rw.write(widgetClass);
-        rw.write("\",\"");
+        write(rw, CW_SEPARATOR);
         rw.write(widgetVar);
-        rw.write("\",{id:\"");
+        write(rw, CW_CONFIG);
         rw.write(id);
-        rw.write("\"");
+        write(rw, QUOTE);
 
         return this;
     }
@@ -177,11 +205,9 @@ public class WidgetBuilder {
     public WidgetBuilder selectorAttr(String name, String value) throws IOException {
         if (value != null) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":\"");
+            write(rw, quotedName(name));
             rw.write(ComponentUtils.escapeSelector(value));
-            rw.write("\"");
+            write(rw, QUOTE);
         }
 
         return this;
@@ -190,11 +216,9 @@ public class WidgetBuilder {
     public WidgetBuilder attr(String name, String value) throws IOException {
         if (value != null) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":\"");
-            rw.write(EscapeUtils.forJavaScript(value));
-            rw.write("\"");
+            write(rw, quotedName(name));
+            writeJavaScript(rw, value);
+            write(rw, QUOTE);
         }
 
         return this;
@@ -203,9 +227,7 @@ public class WidgetBuilder {
     public WidgetBuilder nativeAttr(String name, String value) throws IOException {
         if (value != null) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(value);
         }
 
@@ -215,9 +237,7 @@ public class WidgetBuilder {
     public WidgetBuilder nativeAttr(String name, String value, String defaultValue) throws IOException {
         if (value != null && !value.equals(defaultValue)) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(value);
         }
 
@@ -227,9 +247,7 @@ public class WidgetBuilder {
     public WidgetBuilder attr(String name, Boolean value) throws IOException {
         if (value != null) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(Boolean.toString(value));
         }
 
@@ -239,9 +257,7 @@ public class WidgetBuilder {
     public WidgetBuilder attr(String name, Number value) throws IOException {
         if (value != null) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(value.toString());
         }
 
@@ -251,11 +267,9 @@ public class WidgetBuilder {
     public WidgetBuilder attr(String name, String value, String defaultValue) throws IOException {
         if (value != null && !value.equals(defaultValue)) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":\"");
-            rw.write(EscapeUtils.forJavaScript(value));
-            rw.write("\"");
+            write(rw, quotedName(name));
+            writeJavaScript(rw, value);
+            write(rw, QUOTE);
         }
 
         return this;
@@ -264,9 +278,7 @@ public class WidgetBuilder {
     public WidgetBuilder attr(String name, double value, double defaultValue) throws IOException {
         if (value != defaultValue) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(Double.toString(value));
         }
 
@@ -276,9 +288,7 @@ public class WidgetBuilder {
     public WidgetBuilder attr(String name, int value, int defaultValue) throws IOException {
         if (value != defaultValue) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(Integer.toString(value));
         }
 
@@ -288,9 +298,7 @@ public class WidgetBuilder {
     public WidgetBuilder attr(String name, boolean value, boolean defaultValue) throws IOException {
         if (value != defaultValue) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(Boolean.toString(value));
         }
 
@@ -300,13 +308,11 @@ public class WidgetBuilder {
     public WidgetBuilder callback(String name, String signature, String callback) throws IOException {
         if (callback != null) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(signature);
-            rw.write("{");
+            write(rw, BLOCK_START);
             rw.write(callback);
-            rw.write("}");
+            write(rw, BLOCK_END);
         }
 
         return this;
@@ -315,13 +321,11 @@ public class WidgetBuilder {
     public WidgetBuilder returnCallback(String name, String signature, String callback) throws IOException {
         if (callback != null) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(signature);
-            rw.write("{return ");
+            write(rw, RETURN_START);
             rw.write(callback);
-            rw.write("}");
+            write(rw, BLOCK_END);
         }
 
         return this;
@@ -330,9 +334,7 @@ public class WidgetBuilder {
     public WidgetBuilder callback(String name, String callback) throws IOException {
         if (callback != null) {
             ResponseWriter rw = context.getResponseWriter();
-            rw.write(",");
-            rw.write(name);
-            rw.write(":");
+            write(rw, name(name));
             rw.write(callback);
         }
 
@@ -359,12 +361,81 @@ public class WidgetBuilder {
 
     public void finish() throws IOException {
         ResponseWriter rw = context.getResponseWriter();
-        rw.write("});");
+        write(rw, FINISH);
 
         if (endFunction) {
-            rw.write("});");
+            write(rw, FINISH);
         }
 
         rw.endElement("script");
     }
+
+    protected static void write(ResponseWriter rw, char[] fragment) throws IOException {
+        rw.write(fragment, 0, fragment.length);
+    }
+
+    /**
+     * Writes the value escaped by {@link EscapeUtils#forJavaScript(String)}, without escaping values which only consist of safe ASCII characters.
+     */
+    protected static void writeJavaScript(ResponseWriter rw, String value) throws IOException {
+        if (isJavaScriptSafe(value)) {
+            rw.write(value);
+        }
+        else {
+            rw.write(EscapeUtils.forJavaScript(value));
+        }
+    }
+
+    protected static boolean isJavaScriptSafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= JAVASCRIPT_SAFE.length || !JAVASCRIPT_SAFE[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the fragment <code>,name:</code>
+     */
+    protected static char[] name(String name) {
+        return getNameFragments(name).plain;
+    }
+
+    /**
+     * @return the fragment <code>,name:"</code>
+     */
+    protected static char[] quotedName(String name) {
+        return getNameFragments(name).quoted;
+    }
+
+    private static NameFragments getNameFragments(String name) {
+        NameFragments fragments = NAME_FRAGMENTS.get(name);
+        if (fragments == null) {
+            fragments = new NameFragments(name);
+            // attribute names are literals, but guard against dynamic names anyway
+            if (NAME_FRAGMENTS.size() < MAX_CACHED_NAMES) {
+                NAME_FRAGMENTS.putIfAbsent(name, fragments);
+            }
+        }
+        return fragments;
+    }
+
+    private static final class NameFragments {
+
+        private final char[] plain;
+        private final char[] quoted;
+
+        NameFragments(String name) {
+            plain = new char[name.length() + 2];
+            plain[0] = ',';
+            name.getChars(0, name.length(), plain, 1);
+            plain[plain.length - 1] = ':';
+
+            quoted = new char[plain.length + 1];
+            System.arraycopy(plain, 0, quoted, 0, plain.length);
+            quoted[quoted.length - 1] = '"';
+        }
+    }
 }
\ No newline at end of file
@@ -144,7 +144,7 @@ public class FileValidator extends AbstractPrimeValidator implements ClientValid
 
         if (Boolean.TRUE.equals(getVirusScan())) {
             try {
-                PrimeApplicationContext.getCurrentInstance(context).getVirusScannerService().performVirusScan(uploadedFile);
+                FileUploadUtils.performVirusScan(context, uploadedFile);
             }
             catch (VirusException e) {
                 throw new ValidatorException(new FacesMessage(FacesMessage.SEVERITY_ERROR, e.getMessage(), ""), e);
@@ -25,6 +25,9 @@ package org.primefaces.virusscan;
 
 import org.primefaces.model.file.UploadedFile;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 /**
  * Service provider interface for virus scanning that might be used in file upload component for example when dealing with untrusted files.
  * @see <a href="https://github.com/primefaces/primefaces/issues/4256">fileUpload: virus scan</a>
@@ -43,4 +46,21 @@ public interface VirusScanner {
      */
     void scan(UploadedFile file);
 
+    /**
+     * Perform virus scan in the background. The returned future completes exceptionally with a {@link VirusException}
+     * if a virus has been detected.
+     * <p>
+     * This method is called on the request thread, so everything which requires the {@link jakarta.faces.context.FacesContext}
+     * has to be resolved before the scan is handed over to the executor.
+     * The default implementation calls {@link #scan(UploadedFile)} on the executor, so scanners whose {@link #scan(UploadedFile)}
+     * requires the {@link jakarta.faces.context.FacesContext} have to override it.
+     *
+     * @param file file to perform virus scan on
+     * @param executor executor to run the scan on, which limits the number of concurrent scans
+     * @return the scan result
+     */
+    default CompletableFuture<Void> scanAsync(UploadedFile file, Executor executor) {
+        return CompletableFuture.runAsync(() -> scan(file), executor);
+    }
+
 }
@@ -24,23 +24,74 @@
 package org.primefaces.virusscan;
 
 import org.primefaces.model.file.UploadedFile;
+import org.primefaces.util.Lazy;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * This service may be used to load registered {@link VirusScanner} providers and perform virus scan.
+ * <p>
+ * The number of concurrently running scans, synchronous and asynchronous ones, is limited by {@code maxConcurrent},
+ * so upload bursts queue up instead of flooding the scanner backends with connections.
  */
 public class VirusScannerService {
 
+    public static final int DEFAULT_MAX_CONCURRENT = 10;
+
     private static final Logger LOGGER = Logger.getLogger(VirusScannerService.class.getName());
 
-    private final ClassLoader classLoader;
+    private final Lazy<List<VirusScanner>> scanners;
+    private final Semaphore permits;
+    private final Lazy<ExecutorService> executor;
+    private final Executor limitedExecutor;
 
     public VirusScannerService(ClassLoader classLoader) {
-        this.classLoader = classLoader;
+        this(classLoader, DEFAULT_MAX_CONCURRENT);
+    }
+
+    /**
+     * @param classLoader the class loader to load the {@link VirusScanner} providers with
+     * @param maxConcurrent the maximum number of concurrent scans, {@code 0} for no limit
+     */
+    public VirusScannerService(ClassLoader classLoader, int maxConcurrent) {
+        // ServiceLoader is not thread-safe, so the providers are loaded once and reused, which also allows
+        // them to keep connections open between scans
+        this.scanners = new Lazy<>(() -> {
+            List<VirusScanner> result = new ArrayList<>();
+            ServiceLoader.load(VirusScanner.class, classLoader).forEach(result::add);
+            return Collections.unmodifiableList(result);
+        });
+        this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+        this.executor = new Lazy<>(() -> {
+            int threads = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(threads, r -> {
+                Thread thread = new Thread(r, "primefaces-virusscan-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        });
+        this.limitedExecutor = command -> executor.get().execute(() -> {
+            acquirePermit();
+            try {
+                command.run();
+            }
+            finally {
+                releasePermit();
+            }
+        });
     }
 
     /**
@@ -53,19 +104,24 @@ public class VirusScannerService {
             LOGGER.fine("Performing virus scan...");
         }
 
-        // ServiceLoader is not thread-safe so it cannot be cached:
-        // https://docs.oracle.com/javase/7/docs/api/java/util/ServiceLoader.html
-        Iterator<VirusScanner> scanners = ServiceLoader.load(VirusScanner.class, classLoader).iterator();
-        while (scanners.hasNext()) {
-            try {
-                VirusScanner scanner = scanners.next();
+        List<VirusScanner> enabledScanners = getEnabledScanners();
+        if (enabledScanners.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (permits != null) {
+                permits.acquire();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VirusException("Interrupted while waiting for virus scan", e);
+        }
+
+        try {
+            for (VirusScanner scanner : enabledScanners) {
                 String clazz = scanner.getClass().getName();
-                if (!scanner.isEnabled()) {
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.fine(String.format("Skipping virus scan with %s provider since it is disabled", clazz));
-                    }
-                    continue;
-                }
                 if (LOGGER.isLoggable(Level.FINE)) {
                     LOGGER.fine(String.format("Performing virus scan with %s provider", clazz));
                 }
@@ -74,16 +130,104 @@ public class VirusScannerService {
                     LOGGER.fine(String.format("No virus detected with %s provider", clazz));
                 }
             }
-            catch (VirusException ex) {
-                if (LOGGER.isLoggable(Level.SEVERE)) {
-                    LOGGER.severe("Detected a virus");
-                }
-                throw ex;
+        }
+        catch (VirusException ex) {
+            if (LOGGER.isLoggable(Level.SEVERE)) {
+                LOGGER.severe("Detected a virus");
             }
+            throw ex;
+        }
+        catch (RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Virus scan failed", ex);
+            throw ex;
+        }
+        finally {
+            releasePermit();
         }
+
         if (LOGGER.isLoggable(Level.FINE)) {
             LOGGER.fine("No virus detected");
         }
     }
 
+    /**
+     * Perform virus scan in the background, so it can overlap with e.g. writing the file to its destination.
+     * The returned future completes exceptionally with a {@link java.util.concurrent.CompletionException} caused by a
+     * {@link VirusException} if at least one registered {@link VirusScanner} provider has detected a virus.
+     * <p>
+     * Must be called on the request thread.
+     *
+     * @param file file to perform virus scan on
+     * @return the scan result of all enabled providers
+     */
+    public CompletableFuture<Void> performVirusScanAsync(UploadedFile file) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Performing asynchronous virus scan...");
+        }
+
+        List<VirusScanner> enabledScanners = getEnabledScanners();
+        CompletableFuture<?>[] scans = new CompletableFuture<?>[enabledScanners.size()];
+        for (int i = 0; i < scans.length; i++) {
+            VirusScanner scanner = enabledScanners.get(i);
+            scans[i] = scanner.scanAsync(file, limitedExecutor).whenComplete((result, ex) -> {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (cause instanceof VirusException) {
+                    if (LOGGER.isLoggable(Level.SEVERE)) {
+                        LOGGER.severe(String.format("Detected a virus with %s provider", scanner.getClass().getName()));
+                    }
+                }
+                else if (cause != null) {
+                    LOGGER.log(Level.WARNING, cause, () -> String.format("Virus scan with %s provider failed", scanner.getClass().getName()));
+                }
+            });
+        }
+
+        return CompletableFuture.allOf(scans);
+    }
+
+    protected List<VirusScanner> getEnabledScanners() {
+        List<VirusScanner> enabledScanners = new ArrayList<>(1);
+        for (VirusScanner scanner : scanners.get()) {
+            if (scanner.isEnabled()) {
+                enabledScanners.add(scanner);
+            }
+            else if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine(String.format("Skipping virus scan with %s provider since it is disabled", scanner.getClass().getName()));
+            }
+        }
+        return enabledScanners;
+    }
+
+    /**
+     * Stops the background scans and releases the resources of the providers, like pooled connections.
+     */
+    public void close() {
+        if (executor.isInitialized()) {
+            executor.get().shutdownNow();
+        }
+        if (scanners.isInitialized()) {
+            for (VirusScanner scanner : scanners.get()) {
+                if (scanner instanceof AutoCloseable) {
+                    try {
+                        ((AutoCloseable) scanner).close();
+                    }
+                    catch (Exception e) {
+                        LOGGER.log(Level.WARNING, "Could not close " + scanner.getClass().getName(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void acquirePermit() {
+        if (permits != null) {
+            permits.acquireUninterruptibly();
+        }
+    }
+
+    private void releasePermit() {
+        if (permits != null) {
+            permits.release();
+        }
+    }
 }
@@ -31,7 +31,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
@@ -136,25 +135,8 @@ public class ClamDaemonClient {
             // handshake
             outs.write(asBytes("zINSTREAM\0"));
             outs.flush();
-            final byte[] chunk = new byte[this.bufferSize];
-
-            // send data
-            int readLen = is.read(chunk);
-            while (readLen >= 0) {
-                // The format of the chunk is: '<length><data>' where <length> is
-                // the size of the following data in bytes expressed as a 4 byte
-                // unsigned
-                // integer in network byte order and <data> is the actual chunk.
-                // Streaming is terminated by sending a zero-length chunk.
-                final byte[] length = ByteBuffer.allocate(4).putInt(readLen).array();
-                outs.write(length);
-                outs.write(chunk, 0, readLen);
-                readLen = is.read(chunk);
-            }
 
-            // terminate scan
-            outs.write(new byte[] {0, 0, 0, 0});
-            outs.flush();
+            writeStream(outs, is);
 
             // read reply
             try (InputStream clamIs = s.getInputStream()) {
@@ -163,6 +145,54 @@ public class ClamDaemonClient {
         }
     }
 
+    /**
+     * Sends the data of an INSTREAM command in chunks, including the terminating zero-length chunk.
+     *
+     * @param outs the output stream of the clamd connection
+     * @param is data to scan. Not closed by this method!
+     * @throws IOException if there is an I/O problem
+     */
+    protected void writeStream(final OutputStream outs, final InputStream is) throws IOException {
+        final byte[] chunk = new byte[this.bufferSize];
+        final byte[] length = new byte[4];
+
+        int readLen = is.read(chunk);
+        while (readLen >= 0) {
+            // The format of the chunk is: '<length><data>' where <length> is
+            // the size of the following data in bytes expressed as a 4 byte
+            // unsigned
+            // integer in network byte order and <data> is the actual chunk.
+            // Streaming is terminated by sending a zero-length chunk.
+            if (readLen > 0) {
+                length[0] = (byte) (readLen >>> 24);
+                length[1] = (byte) (readLen >>> 16);
+                length[2] = (byte) (readLen >>> 8);
+                length[3] = (byte) readLen;
+                outs.write(length);
+                outs.write(chunk, 0, readLen);
+            }
+            readLen = is.read(chunk);
+        }
+
+        // terminate scan
+        outs.write(new byte[] {0, 0, 0, 0});
+        outs.flush();
+    }
+
+    /**
+     * Scans the data of the given supplier and closes the stream afterwards. The supplier might be called again if the scan
+     * has to be retried, e.g. on another connection.
+     *
+     * @param data supplier of the data to scan
+     * @return server reply
+     * @throws IOException if there is an I/O problem
+     */
+    public byte[] scan(final InputStreamSupplier data) throws IOException {
+        try (InputStream is = data.get()) {
+            return scan(is);
+        }
+    }
+
     /**
      * Scans bytes for virus by passing the bytes to clamav
      *
@@ -205,7 +235,7 @@ public class ClamDaemonClient {
      * @param s the string to get as bytes
      * @return a byte[] array in ASCII charset
      */
-    private static byte[] asBytes(final String s) {
+    protected static byte[] asBytes(final String s) {
         return s.getBytes(StandardCharsets.US_ASCII);
     }
 
@@ -227,4 +257,13 @@ public class ClamDaemonClient {
         }
         return tmp.toByteArray();
     }
+
+    /**
+     * Supplier of the data to scan.
+     */
+    @FunctionalInterface
+    public interface InputStreamSupplier {
+
+        InputStream get() throws IOException;
+    }
 }
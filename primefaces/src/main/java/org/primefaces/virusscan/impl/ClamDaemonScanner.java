@@ -25,14 +25,18 @@ package org.primefaces.virusscan.impl;
 
 import org.primefaces.model.file.UploadedFile;
 import org.primefaces.util.Lazy;
+import org.primefaces.util.LocaleUtils;
 import org.primefaces.util.MessageFactory;
 import org.primefaces.virusscan.VirusException;
 import org.primefaces.virusscan.VirusScanner;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,8 +48,11 @@ import jakarta.faces.context.FacesContext;
  * Streams the file over TCP to a ClamAV service running on host:port.
  * It requires
  * {@link #CONTEXT_PARAM_HOST} and {@link #CONTEXT_PARAM_PORT} to be specified.
+ * <p>
+ * With {@link #CONTEXT_PARAM_SESSIONS}, connections are kept open between scans using clamd sessions; by default a new
+ * connection is opened for each scan.
  */
-public class ClamDaemonScanner implements VirusScanner {
+public class ClamDaemonScanner implements VirusScanner, AutoCloseable {
 
     private static final Logger LOGGER = Logger.getLogger(ClamDaemonScanner.class.getName());
 
@@ -53,12 +60,16 @@ public class ClamDaemonScanner implements VirusScanner {
     private static final String CONTEXT_PARAM_PORT = "primefaces.virusscan.CLAMAV_PORT";
     private static final String CONTEXT_PARAM_TIMEOUT = "primefaces.virusscan.CLAMAV_TIMEOUT";
     private static final String CONTEXT_PARAM_BUFFER = "primefaces.virusscan.CLAMAV_BUFFER";
+    private static final String CONTEXT_PARAM_SESSIONS = "primefaces.virusscan.CLAMAV_SESSIONS";
+
+    private static final String MESSAGE_ID = "primefaces.fileupload.CLAM_AV_FILE";
 
     private Lazy<ClamDaemonClient> client = new Lazy<>(() -> {
         String host = ClamDaemonClient.DEFAULT_HOST;
         int port = ClamDaemonClient.DEFAULT_PORT;
         int timeout = ClamDaemonClient.DEFAULT_TIMEOUT;
         int bufferSize = ClamDaemonClient.DEFAULT_BUFFER;
+        int sessions = 0;
 
         if (FacesContext.getCurrentInstance() != null) {
             ExternalContext ctx = FacesContext.getCurrentInstance().getExternalContext();
@@ -74,8 +85,14 @@ public class ClamDaemonScanner implements VirusScanner {
             if (ctx.getInitParameter(CONTEXT_PARAM_BUFFER) != null) {
                 bufferSize = Integer.parseInt(ctx.getInitParameter(CONTEXT_PARAM_BUFFER));
             }
+            if (ctx.getInitParameter(CONTEXT_PARAM_SESSIONS) != null) {
+                sessions = Integer.parseInt(ctx.getInitParameter(CONTEXT_PARAM_SESSIONS));
+            }
         }
 
+        if (sessions > 0) {
+            return new PooledClamDaemonClient(host, port, timeout, bufferSize, sessions);
+        }
         return new ClamDaemonClient(host, port, timeout, bufferSize);
     });
 
@@ -93,13 +110,8 @@ public class ClamDaemonScanner implements VirusScanner {
     @Override
     public void scan(UploadedFile file) {
         try {
-            InputStream inputStream = new ByteArrayInputStream(file.getContent());
-            byte[] reply = getClamAvClient().scan(inputStream);
-
-            String message = new String(reply, StandardCharsets.US_ASCII).trim();
-
-            LOGGER.log(Level.FINE, "Scanner replied with message: {0}", message);
-
+            byte[] reply = getClamAvClient().scan(file::getInputStream);
+            String message = toMessage(reply);
             if (!ClamDaemonClient.isCleanReply(reply)) {
                 String error = createErrorMessage(file, message);
                 LOGGER.log(Level.WARNING, "ClamAV Error: {0}", error);
@@ -115,8 +127,55 @@ public class ClamDaemonScanner implements VirusScanner {
         }
     }
 
+    /**
+     * Streams the file to ClamAV on the given executor.
+     * The client, the error message and the first stream of the file are resolved on the calling request thread,
+     * as neither the {@link FacesContext} nor the temporary upload file might be available anymore later on.
+     */
+    @Override
+    public CompletableFuture<Void> scanAsync(UploadedFile file, Executor executor) {
+        ClamDaemonClient clamAvClient;
+        String pattern;
+        Locale locale;
+        AtomicReference<InputStream> opened = new AtomicReference<>();
+        try {
+            clamAvClient = getClamAvClient();
+            FacesContext context = FacesContext.getCurrentInstance();
+            locale = LocaleUtils.getCurrentLocale(context);
+            pattern = MessageFactory.getMessage(context, locale, MESSAGE_ID);
+            opened.set(file.getInputStream());
+        }
+        catch (RuntimeException | IOException ex) {
+            String error = String.format("Unexpected error scanning file - %s", ex.getMessage());
+            return CompletableFuture.failedFuture(new VirusException(error));
+        }
+
+        String fileName = file.getFileName();
+        return CompletableFuture.runAsync(() -> {
+            try {
+                byte[] reply = clamAvClient.scan(() -> {
+                    InputStream is = opened.getAndSet(null);
+                    return is != null ? is : file.getInputStream();
+                });
+                String message = toMessage(reply);
+                if (!ClamDaemonClient.isCleanReply(reply)) {
+                    String error = MessageFactory.getFormattedText(locale, pattern, fileName, message);
+                    LOGGER.log(Level.WARNING, "ClamAV Error: {0}", error);
+                    throw new VirusException(error);
+                }
+            }
+            catch (IOException ex) {
+                String error = String.format("Unexpected error scanning file - %s", ex.getMessage());
+                throw new VirusException(error);
+            }
+            finally {
+                closeQuietly(opened.getAndSet(null));
+            }
+        }, executor);
+    }
+
     protected String createErrorMessage(UploadedFile file, String response) {
-        return MessageFactory.getMessage(FacesContext.getCurrentInstance(), "primefaces.fileupload.CLAM_AV_FILE", file.getFileName(), response);
+        return MessageFactory.getMessage(FacesContext.getCurrentInstance(), MESSAGE_ID, file.getFileName(), response);
     }
 
     /**
@@ -127,4 +186,31 @@ public class ClamDaemonScanner implements VirusScanner {
     public ClamDaemonClient getClamAvClient() {
         return client.get();
     }
-}
\ No newline at end of file
+
+    /**
+     * Closes the pooled ClamAV sessions, if any.
+     */
+    @Override
+    public void close() {
+        if (client.isInitialized() && client.get() instanceof PooledClamDaemonClient) {
+            ((PooledClamDaemonClient) client.get()).close();
+        }
+    }
+
+    private static String toMessage(byte[] reply) {
+        String message = new String(reply, StandardCharsets.US_ASCII).trim();
+        LOGGER.log(Level.FINE, "Scanner replied with message: {0}", message);
+        return message;
+    }
+
+    private static void closeQuietly(InputStream is) {
+        if (is != null) {
+            try {
+                is.close();
+            }
+            catch (IOException ex) {
+                LOGGER.log(Level.FINE, "Could not close upload stream", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.virusscan.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link ClamDaemonClient} which reuses its connections to clamd instead of opening a new socket for every scan.
+ * Each connection is a clamd session started with {@code IDSESSION}, in which any number of {@code INSTREAM} commands
+ * can be sent; idle sessions are kept in a pool of up to {@code maxIdle} sessions.
+ * <p>
+ * clamd closes sessions which are idle for longer than its {@code IdleTimeout} (30 seconds per default),
+ * so pooled sessions are discarded after {@link #DEFAULT_IDLE_TIMEOUT} already.
+ */
+public class PooledClamDaemonClient extends ClamDaemonClient implements Closeable {
+
+    public static final int DEFAULT_MAX_IDLE = 10;
+    public static final long DEFAULT_IDLE_TIMEOUT = 10_000;
+
+    private static final Logger LOGGER = Logger.getLogger(PooledClamDaemonClient.class.getName());
+
+    private final int maxIdle;
+    private final long idleTimeoutNanos;
+    private final Deque<Session> idle = new ArrayDeque<>();
+    private boolean closed;
+
+    /**
+     * @param host The hostname of the server running clamav-daemon
+     * @param port The port that clamav-daemon listens to
+     * @param timeout zero means infinite timeout. Not a good idea, but will be accepted.
+     * @param bufferSize The buffer (chunk size).
+     * @param maxIdle The maximum number of idle sessions to keep open.
+     * @param idleTimeout The time in milliseconds after which an idle session is closed.
+     */
+    public PooledClamDaemonClient(String host, int port, int timeout, int bufferSize, int maxIdle, long idleTimeout) {
+        super(host, port, timeout, bufferSize);
+        if (maxIdle <= 0) {
+            throw new IllegalArgumentException("maxIdle must be greater than zero.");
+        }
+        this.maxIdle = maxIdle;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+    }
+
+    public PooledClamDaemonClient(String host, int port, int timeout, int bufferSize, int maxIdle) {
+        this(host, port, timeout, bufferSize, maxIdle, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public int getMaxIdle() {
+        return maxIdle;
+    }
+
+    /**
+     * Streams the given data to the server within a pooled session. Parameter input stream is NOT closed.
+     *
+     * @param is data to scan. Not closed by this method!
+     * @return server reply, without the command id prefix of the session
+     * @throws IOException if there is an I/O problem
+     */
+    @Override
+    public byte[] scan(final InputStream is) throws IOException {
+        Session session = borrow();
+        boolean reusable = false;
+        try {
+            byte[] reply = session.scan(is);
+            // clamd closes the session after an error, e.g. "INSTREAM size limit exceeded. ERROR"
+            reusable = !new String(reply, StandardCharsets.US_ASCII).contains("ERROR");
+            return reply;
+        }
+        catch (IOException e) {
+            if (session.reused) {
+                // e.g. clamd has been restarted, so the other idle sessions are most likely closed too
+                evictIdle();
+                throw new StaleSessionException(e);
+            }
+            throw e;
+        }
+        finally {
+            if (reusable) {
+                release(session);
+            }
+            else {
+                session.close();
+            }
+        }
+    }
+
+    /**
+     * Scans the data within a pooled session and retries once on a new session, if the pooled session turned out
+     * to be closed by clamd in the meantime.
+     *
+     * @param data supplier of the data to scan, called again for the retry
+     * @return server reply, without the command id prefix of the session
+     * @throws IOException if there is an I/O problem
+     */
+    @Override
+    public byte[] scan(final InputStreamSupplier data) throws IOException {
+        try (InputStream is = data.get()) {
+            return scan(is);
+        }
+        catch (StaleSessionException e) {
+            LOGGER.log(Level.FINE, "Pooled clamd session has been closed, retrying with a new session", e);
+            try (InputStream is = data.get()) {
+                return scan(is);
+            }
+        }
+    }
+
+    protected Session borrow() throws IOException {
+        long now = System.nanoTime();
+        List<Session> expired = null;
+        Session session = null;
+
+        synchronized (idle) {
+            if (closed) {
+                throw new IOException("Client has been closed");
+            }
+
+            // most recently used first, so all following sessions are expired too once one is
+            Session candidate = idle.pollFirst();
+            if (candidate != null && now - candidate.lastUsed < idleTimeoutNanos) {
+                session = candidate;
+                session.reused = true;
+            }
+            else if (candidate != null) {
+                expired = new ArrayList<>(idle);
+                expired.add(candidate);
+                idle.clear();
+            }
+        }
+
+        if (expired != null) {
+            expired.forEach(Session::close);
+        }
+
+        return session == null ? new Session(getSocket()) : session;
+    }
+
+    protected void release(Session session) {
+        synchronized (idle) {
+            if (!closed && idle.size() < maxIdle) {
+                idle.addFirst(session);
+                return;
+            }
+        }
+        session.close();
+    }
+
+    protected void evictIdle() {
+        List<Session> sessions;
+        synchronized (idle) {
+            sessions = new ArrayList<>(idle);
+            idle.clear();
+        }
+        sessions.forEach(Session::close);
+    }
+
+    /**
+     * Ends all idle sessions.
+     */
+    @Override
+    public void close() {
+        synchronized (idle) {
+            closed = true;
+        }
+        evictIdle();
+    }
+
+    /**
+     * A connection to clamd in session mode. Not thread-safe, only used by one scan at a time.
+     */
+    protected class Session implements Closeable {
+
+        private final Socket socket;
+        private final OutputStream out;
+        private final InputStream in;
+        private long lastUsed;
+        private boolean reused;
+
+        protected Session(Socket socket) throws IOException {
+            this.socket = socket;
+            try {
+                this.out = new BufferedOutputStream(socket.getOutputStream(), getBufferSize() + 4);
+                this.in = new BufferedInputStream(socket.getInputStream());
+                out.write(asBytes("zIDSESSION\0"));
+                out.flush();
+            }
+            catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        protected byte[] scan(InputStream is) throws IOException {
+            out.write(asBytes("zINSTREAM\0"));
+            writeStream(out, is);
+
+            byte[] reply = readReply();
+            lastUsed = System.nanoTime();
+            return reply;
+        }
+
+        /**
+         * Reads a null terminated reply like {@code 1: stream: OK} and strips the command id.
+         */
+        protected byte[] readReply() throws IOException {
+            ByteArrayOutputStream reply = new ByteArrayOutputStream(64);
+            int b = in.read();
+            while (b > 0) {
+                reply.write(b);
+                b = in.read();
+            }
+            if (b < 0) {
+                throw new EOFException("clamd closed the session");
+            }
+
+            byte[] bytes = reply.toByteArray();
+            int start = 0;
+            while (start < bytes.length && bytes[start] >= '0' && bytes[start] <= '9') {
+                start++;
+            }
+            if (start > 0 && start + 1 < bytes.length && bytes[start] == ':' && bytes[start + 1] == ' ') {
+                start += 2;
+                byte[] stripped = new byte[bytes.length - start];
+                System.arraycopy(bytes, start, stripped, 0, stripped.length);
+                return stripped;
+            }
+            return bytes;
+        }
+
+        @Override
+        public void close() {
+            try {
+                out.write(asBytes("zEND\0"));
+                out.flush();
+            }
+            catch (IOException e) {
+                LOGGER.log(Level.FINE, "Could not end clamd session", e);
+            }
+            finally {
+                try {
+                    socket.close();
+                }
+                catch (IOException e) {
+                    LOGGER.log(Level.FINE, "Could not close clamd session", e);
+                }
+            }
+        }
+    }
+
+    protected static class StaleSessionException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        protected StaleSessionException(IOException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
@@ -39,6 +39,8 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -60,6 +62,8 @@ public class VirusTotalReportScanner implements VirusScanner {
 
     private static final String CONTEXT_PARAM_KEY = "primefaces.virusscan.VIRUSTOTAL_KEY";
 
+    private static final String MESSAGE_ID = "primefaces.fileupload.VIRUS_TOTAL_FILE";
+
     private static final String API_ENDPOINT = "https://www.virustotal.com/vtapi/v2/file/report?apikey=%s&resource=%s";
 
     @Override
@@ -89,37 +93,85 @@ public class VirusTotalReportScanner implements VirusScanner {
         }
     }
 
+    /**
+     * Looks the file up on the given executor.
+     * The API key, the hash of the file and the error message are resolved on the calling request thread,
+     * as neither the {@link FacesContext} nor the temporary upload file might be available anymore later on.
+     */
+    @Override
+    public CompletableFuture<Void> scanAsync(UploadedFile file, Executor executor) {
+        String key;
+        String hash;
+        String message;
+        try {
+            key = FacesContext.getCurrentInstance().getExternalContext().getInitParameter(CONTEXT_PARAM_KEY);
+            hash = LangUtils.md5Hex(file.getContent());
+            message = MessageFactory.getMessage(FacesContext.getCurrentInstance(), MESSAGE_ID, file.getFileName());
+        }
+        catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                URLConnection connection = openConnection(key, hash);
+                try (InputStream response = connection.getInputStream()) {
+                    JSONObject json = new JSONObject(IOUtils.toString(response, StandardCharsets.UTF_8));
+                    if (getPositives(json) > 0) {
+                        throw new VirusException(message);
+                    }
+                }
+            }
+            catch (JSONException | IOException ex) {
+                if (LOGGER.isLoggable(Level.WARNING)) {
+                    LOGGER.log(Level.WARNING, "Cannot perform virus scan", ex);
+                }
+                throw new FacesException("Cannot perform virus scan", ex);
+            }
+        }, executor);
+    }
+
     protected void handleBodyResponse(UploadedFile file, JSONObject json) {
+        if (getPositives(json) > 0) {
+            String message = createErrorMessage(file, json);
+            throw new VirusException(message);
+        }
+    }
+
+    /**
+     * @return the number of positives or 0 if the file is not present in the VirusTotal dataset
+     */
+    protected int getPositives(JSONObject json) {
         int responseCode = json.getInt("response_code");
         if (LOGGER.isLoggable(Level.FINE)) {
             LOGGER.fine(String.format("Retrieved response code %d.", responseCode));
         }
 
-        if (responseCode == 1) {
-            // present
-            int positives = json.getInt("positives");
-            if (LOGGER.isLoggable(Level.FINE)) {
-                LOGGER.fine(String.format("Retrieved %d positives.", positives));
-            }
-            if (positives > 0) {
-                String message = createErrorMessage(file, json);
-                throw new VirusException(message);
-            }
+        if (responseCode != 1) {
+            return 0;
         }
+
+        // present
+        int positives = json.getInt("positives");
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Retrieved %d positives.", positives));
+        }
+        return positives;
     }
 
     protected String createErrorMessage(UploadedFile file, JSONObject json) {
-        return MessageFactory.getMessage(FacesContext.getCurrentInstance(), "primefaces.fileupload.VIRUS_TOTAL_FILE", file.getFileName());
+        return MessageFactory.getMessage(FacesContext.getCurrentInstance(), MESSAGE_ID, file.getFileName());
     }
 
     protected URLConnection openConnection(UploadedFile file) throws IOException {
+        ExternalContext ctx = FacesContext.getCurrentInstance().getExternalContext();
+        return openConnection(ctx.getInitParameter(CONTEXT_PARAM_KEY), LangUtils.md5Hex(file.getContent()));
+    }
+
+    protected URLConnection openConnection(String key, String hash) throws IOException {
         HttpURLConnection connection;
 
         try {
-            ExternalContext ctx = FacesContext.getCurrentInstance().getExternalContext();
-            String key = ctx.getInitParameter(CONTEXT_PARAM_KEY);
-
-            String hash = LangUtils.md5Hex(file.getContent());
             URL url = new URI(String.format(API_ENDPOINT, EscapeUtils.forUriComponent(key), EscapeUtils.forUriComponent(hash))).toURL();
             connection = (HttpURLConnection) url.openConnection();
             connection.setRequestMethod("GET");
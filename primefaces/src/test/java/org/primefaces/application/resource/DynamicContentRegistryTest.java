@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import jakarta.faces.FacesException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicContentRegistryTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    @Test
+    void registerAndResolve() {
+        DynamicContentRegistry registry = new DynamicContentRegistry(SECRET, 10);
+
+        String key = registry.register("#{imageView.image}");
+        assertEquals(key, registry.register("#{imageView.image}"));
+        assertEquals("#{imageView.image}", registry.resolve(key));
+        assertFalse(key.contains("imageView"));
+        assertNull(registry.resolve("unknown"));
+        assertNull(registry.resolve(null));
+        assertNotEquals(key, registry.register("#{imageView.video}"));
+    }
+
+    @Test
+    void resolvesWithoutRegistration() {
+        String key = new DynamicContentRegistry(SECRET, 10).register("#{imageView.image}");
+
+        // another node or a restarted one
+        DynamicContentRegistry other = new DynamicContentRegistry(SECRET, 10);
+        assertEquals(0, other.size());
+        assertEquals("#{imageView.image}", other.resolve(key));
+        assertEquals(key, other.register("#{imageView.image}"));
+    }
+
+    @Test
+    void otherSecretCantResolve() {
+        String key = new DynamicContentRegistry(SECRET, 10).register("#{imageView.image}");
+
+        DynamicContentRegistry other = new DynamicContentRegistry("fedcba9876543210fedcba9876543210", 10);
+        assertNotEquals(key, other.register("#{imageView.image}"));
+        assertNull(other.resolve(key));
+        assertNull(new DynamicContentRegistry(null, 10).resolve(key));
+    }
+
+    @Test
+    void rejectsTamperedKey() {
+        DynamicContentRegistry registry = new DynamicContentRegistry(SECRET, 10);
+        char[] key = registry.register("#{imageView.image}").toCharArray();
+        key[key.length / 2] = key[key.length / 2] == 'A' ? 'B' : 'A';
+
+        assertNull(registry.resolve(new String(key)));
+    }
+
+    @Test
+    void evictedKeysStillResolve() {
+        DynamicContentRegistry registry = new DynamicContentRegistry(SECRET, 2);
+
+        String first = registry.register("#{a}");
+        registry.register("#{b}");
+        registry.register("#{c}");
+
+        assertEquals(2, registry.size());
+        assertEquals("#{a}", registry.resolve(first));
+        assertEquals(first, registry.register("#{a}"));
+    }
+
+    @Test
+    void rejectsShortSecret() {
+        assertThrows(FacesException.class, () -> new DynamicContentRegistry("secret", 10));
+    }
+}
@@ -25,13 +25,14 @@ package org.primefaces.application.resource;
 
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import jakarta.faces.FacesException;
 import jakarta.faces.context.ResponseWriter;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
@@ -44,16 +45,35 @@ class MoveScriptsToBottomResponseWriterTest {
     private MoveScriptsToBottomResponseWriter writer;
     private MoveScriptsToBottomState state;
     private ResponseWriter wrappedWriter;
+    private List<StringBuilder> scripts;
 
     @BeforeEach
-    void setup() {
+    void setup() throws IOException {
         wrappedWriter = mock(ResponseWriter.class);
+        // the merged scripts are streamed, so collect the content of each rendered script element
+        scripts = new ArrayList<>();
+        doAnswer(i -> scripts.add(new StringBuilder())).when(wrappedWriter).startElement(matches("(?i)script"), any());
+        doAnswer(i -> append(i.getArgument(0))).when(wrappedWriter).write(anyString());
+        doAnswer(i -> append(((String) i.getArgument(0)).substring(i.getArgument(1), (int) i.getArgument(1) + (int) i.getArgument(2))))
+                .when(wrappedWriter).write(anyString(), anyInt(), anyInt());
+        doAnswer(i -> append(String.valueOf((char) (int) i.getArgument(0)))).when(wrappedWriter).write(anyInt());
         state = new MoveScriptsToBottomState();
         writer = new MoveScriptsToBottomResponseWriter(wrappedWriter, state);
         writer = Mockito.spy(writer);
         Mockito.doReturn(Boolean.FALSE).when(writer).isFirefox();
     }
 
+    private Object append(String text) {
+        if (!scripts.isEmpty()) {
+            scripts.get(scripts.size() - 1).append(text);
+        }
+        return null;
+    }
+
+    private void assertScript(String regex) {
+        assertEquals(1, scripts.stream().filter(script -> script.toString().matches(regex)).count(), regex + " in " + scripts);
+    }
+
     @Test
     void noScripts() throws IOException {
         assertTrue(state.getInlines().isEmpty());
@@ -95,7 +115,7 @@ class MoveScriptsToBottomResponseWriterTest {
         verify(wrappedWriter).endElement("body");
 
         verify(wrappedWriter).startElement("script", null);
-        verify(wrappedWriter).write(ArgumentMatchers.contains("inline;document.getElementById('"));
+        assertScript("inline;document\\.currentScript\\.remove\\(\\);");
         verify(wrappedWriter).endElement("script");
 
         writer.endElement("html");
@@ -122,7 +142,7 @@ class MoveScriptsToBottomResponseWriterTest {
         writer.endElement("body");
 
         verify(wrappedWriter).startElement("script", null);
-        verify(wrappedWriter).write(matches("(?s).*script1.*script2.*"));
+        assertScript("(?s).*script1.*script2.*");
         verify(wrappedWriter).endElement("body");
     }
 
@@ -152,8 +172,8 @@ class MoveScriptsToBottomResponseWriterTest {
         writer.endElement("body");
 
         verify(wrappedWriter, times(2)).startElement("script", null);
-        verify(wrappedWriter).write(matches("(?s).*javascript1.*javascript2(?!.*vertex.*).*"));
-        verify(wrappedWriter).write(matches("(?s)(?!.*javascript.*).*vertex.*"));
+        assertScript("(?s).*javascript1.*javascript2(?!.*vertex.*).*");
+        assertScript("(?s)(?!.*javascript.*).*vertex.*");
         verify(wrappedWriter, times(2)).endElement("script");
     }
 
@@ -184,9 +204,9 @@ class MoveScriptsToBottomResponseWriterTest {
 
         // assert both LD files are still in their own inline script
         verify(wrappedWriter, times(3)).startElement("script", null);
-        verify(wrappedWriter).write(matches("(?s).*JSONLinkingData1(?!.*javascript2.*).*"));
-        verify(wrappedWriter).write(matches("(?s).*javascript2(?!.*JSONLinkingData1.*).*"));
-        verify(wrappedWriter).write(matches("(?s).*JSONLinkingData2(?!.*javascript2.*).*"));
+        assertScript("(?s).*JSONLinkingData1(?!.*javascript2.*).*");
+        assertScript("(?s).*javascript2(?!.*JSONLinkingData1.*).*");
+        assertScript("(?s).*JSONLinkingData2(?!.*javascript2.*).*");
         verify(wrappedWriter, times(3)).endElement("script");
     }
 
@@ -223,7 +243,7 @@ class MoveScriptsToBottomResponseWriterTest {
 
         writer.endElement("body");
 
-        verify(wrappedWriter).write(contains("pf.settings pf.cw pf.ab pf ;"));
+        assertScript("(?s).*pf\\.settings pf\\.cw pf\\.ab pf ;.*");
     }
 
     @Test
@@ -278,7 +298,44 @@ class MoveScriptsToBottomResponseWriterTest {
         verify(wrappedWriter, times(2)).startElement("script", null);
         verify(wrappedWriter).writeAttribute("src", "include", null);
         verify(wrappedWriter).writeAttribute("charset", "UTF-8", null);
-        verify(wrappedWriter).write(contains("inline"));
+        assertScript("(?s).*inline.*");
+    }
+
+    @Test
+    void batchWidgets() throws IOException {
+        state = new MoveScriptsToBottomState(false, true);
+        writer = Mockito.spy(new MoveScriptsToBottomResponseWriter(wrappedWriter, state));
+        Mockito.doReturn(Boolean.FALSE).when(writer).isFirefox();
+
+        writer.startElement("body", null);
+
+        writer.startElement("script", null);
+        writer.writeAttribute("id", "form:a_s", null);
+        writer.write("PrimeFaces.cw(\"InputText\",\"a\",{id:\"form:a\"});");
+        writer.endElement("script");
+
+        writer.startElement("script", null);
+        writer.writeAttribute("id", "form:b_s", null);
+        writer.write("PrimeFaces.cw(\"Button\",\"b\",{id:\"form:b\",behaviors:{click:function(){PrimeFaces.ab({s:\"form:b\"});}}});");
+        writer.endElement("script");
+
+        writer.startElement("script", null);
+        writer.write("custom()");
+        writer.endElement("script");
+
+        writer.startElement("script", null);
+        writer.writeAttribute("id", "form:c_s", null);
+        writer.write("PrimeFaces.cw(\"Panel\",\"c\",{id:\"form:c\"});");
+        writer.endElement("script");
+
+        writer.endElement("body");
+
+        assertEquals(1, scripts.size());
+        assertEquals("var pf=window.PrimeFaces;"
+                + "pf.cws([[\"InputText\",\"a\",{id:\"form:a\"}],[\"Button\",\"b\",{id:\"form:b\",behaviors:{click:function(){pf.ab({s:\"form:b\"});}}}]]);"
+                + "\ncustom();"
+                + "\npf.cws([[\"Panel\",\"c\",{id:\"form:c\"}]]);"
+                + "document.currentScript.remove();", scripts.get(0).toString());
     }
 
     @Test
@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.faces.application.Resource;
+import jakarta.faces.application.ResourceHandler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PrimeResourceCacheTest {
+
+    private static final String CONTENT = "PrimeFaces.widget.DataTable = PrimeFaces.widget.DeferredWidget.extend({});".repeat(20);
+
+    @Test
+    void compressesOnce() throws Exception {
+        PrimeResourceCache cache = new PrimeResourceCache(mock(ResourceHandler.class));
+        Resource resource = mockResource("components.js", CONTENT.getBytes(StandardCharsets.UTF_8));
+
+        PrimeResourceCache.Entry entry = cache.get(resource);
+        assertSame(entry, cache.get(resource));
+        verify(resource, times(1)).getInputStream();
+
+        assertEquals("gzip", entry.selectEncoding("gzip, deflate, br"));
+        assertNull(entry.selectEncoding("identity"));
+        assertEquals(CONTENT, new String(entry.getContent(null), StandardCharsets.UTF_8));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(entry.getContent("gzip")))) {
+            assertEquals(CONTENT, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void precompressedVariants() throws Exception {
+        ResourceHandler handler = mock(ResourceHandler.class);
+        Resource brotli = mockResource("core.js.br", new byte[] {1, 2, 3});
+        when(handler.createResource("core.js.br", "primefaces", "text/javascript")).thenReturn(brotli);
+
+        PrimeResourceCache.Entry entry = new PrimeResourceCache(handler).get(mockResource("core.js", CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("br", entry.selectEncoding("gzip, deflate, br"));
+        assertArrayEquals(new byte[] {1, 2, 3}, entry.getContent("br"));
+        assertEquals("gzip", entry.selectEncoding("gzip, br;q=0"));
+    }
+
+    @Test
+    void skipsIncompressible() throws Exception {
+        PrimeResourceCache.Entry entry = new PrimeResourceCache(mock(ResourceHandler.class)).get(mockResource("logo.png", new byte[] {7}));
+
+        assertFalse(entry.isCompressed());
+        assertNull(entry.selectEncoding("gzip"));
+    }
+
+    @Test
+    void matchesETag() throws Exception {
+        PrimeResourceCache.Entry entry = new PrimeResourceCache(mock(ResourceHandler.class)).get(mockResource("core.js", new byte[] {1}));
+
+        assertEquals("W/\"" + entry.getHash() + "\"", entry.getETag());
+        assertTrue(entry.matches(entry.getETag()));
+        assertTrue(entry.matches("\"other\", \"" + entry.getHash() + "\""));
+        assertTrue(entry.matches("*"));
+        assertFalse(entry.matches("\"other\""));
+        assertFalse(entry.matches(null));
+    }
+
+    @Test
+    void skipsStylesheets() throws Exception {
+        PrimeResourceCache cache = new PrimeResourceCache(mock(ResourceHandler.class));
+        byte[] evaluated = "url(/app/jakarta.faces.resource/primeicons.woff;jsessionid=1)".getBytes(StandardCharsets.UTF_8);
+        Resource css = mockResource("primeicons/primeicons.css", evaluated);
+        when(css.getContentType()).thenReturn("text/css");
+
+        assertNull(cache.get(css));
+        assertEquals(0, cache.size());
+        verify(css, never()).getInputStream();
+    }
+
+    private static Resource mockResource(String resourceName, byte[] content) throws IOException {
+        Resource resource = mock(Resource.class);
+        when(resource.getLibraryName()).thenReturn("primefaces");
+        when(resource.getResourceName()).thenReturn(resourceName);
+        when(resource.getContentType()).thenReturn("text/javascript");
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(content));
+        return resource;
+    }
+}
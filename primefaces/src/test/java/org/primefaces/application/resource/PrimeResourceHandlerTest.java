@@ -0,0 +1,92 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.faces.application.Resource;
+import jakarta.faces.application.ResourceHandler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PrimeResourceHandlerTest {
+
+    @Test
+    void encodingAccepted() {
+        assertTrue(PrimeResourceHandler.isEncodingAccepted("gzip, deflate, br", "br"));
+        assertTrue(PrimeResourceHandler.isEncodingAccepted("GZIP;q=0.5", "gzip"));
+        assertTrue(PrimeResourceHandler.isEncodingAccepted("*", "br"));
+        assertFalse(PrimeResourceHandler.isEncodingAccepted(null, "gzip"));
+        assertFalse(PrimeResourceHandler.isEncodingAccepted("gzip, deflate", "br"));
+        assertFalse(PrimeResourceHandler.isEncodingAccepted("br;q=0, gzip", "br"));
+        assertFalse(PrimeResourceHandler.isEncodingAccepted("*, br;q=0", "br"));
+        assertTrue(PrimeResourceHandler.isEncodingAccepted("*, br;q=0", "gzip"));
+    }
+
+    @Test
+    void contentHash() throws Exception {
+        PrimeResourceHandler handler = new PrimeResourceHandler(mock(ResourceHandler.class));
+
+        Resource core = mockResource("core.js", "PrimeFaces = {};");
+        String hash = handler.getContentHash(core);
+        assertEquals(16, hash.length());
+        assertEquals(hash, handler.getContentHash(core));
+        verify(core, times(1)).getInputStream();
+
+        assertNotEquals(hash, handler.getContentHash(mockResource("components.js", "PrimeFaces.widget = {};")));
+        assertEquals(hash, new PrimeResourceHandler(mock(ResourceHandler.class)).getContentHash(mockResource("core.js", "PrimeFaces = {};")));
+    }
+
+    @Test
+    void contentHashOfReferencingResource() throws Exception {
+        PrimeResourceHandler handler = new PrimeResourceHandler(mock(ResourceHandler.class));
+        Resource font = mockResource("font.woff", "font");
+        Resource css = mock(Resource.class);
+        when(css.getLibraryName()).thenReturn("primefaces");
+        when(css.getResourceName()).thenReturn("theme.css");
+        // reading a stylesheet evaluates #{resource[...]}, which gets the hash of the referenced resource and of itself in a cycle
+        when(css.getInputStream()).thenAnswer(invocation -> {
+            String content = "url(" + handler.getContentHash(font) + ") url(" + handler.getContentHash(css) + ")";
+            return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        });
+
+        String hash = handler.getContentHash(css);
+        assertNotNull(hash);
+        assertEquals(hash, handler.getContentHash(css));
+        assertEquals(handler.getContentHash(mockResource("font.woff", "font")), handler.getContentHash(font));
+        verify(css, times(1)).getInputStream();
+    }
+
+    private static Resource mockResource(String resourceName, String content) throws Exception {
+        Resource resource = mock(Resource.class);
+        when(resource.getLibraryName()).thenReturn("primefaces");
+        when(resource.getResourceName()).thenReturn(resourceName);
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return resource;
+    }
+}
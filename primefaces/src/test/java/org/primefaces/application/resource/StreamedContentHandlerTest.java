@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.application.resource;
+
+import org.primefaces.model.DefaultStreamedContent;
+import org.primefaces.model.StreamedContent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.faces.context.ExternalContext;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StreamedContentHandlerTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private StreamedContentHandler handler;
+    private ExternalContext externalContext;
+    private Map<String, String> requestHeaders;
+    private ByteArrayOutputStream response;
+    private StreamedContent streamedContent;
+
+    @BeforeEach
+    void setup() throws IOException {
+        handler = new StreamedContentHandler();
+        requestHeaders = new HashMap<>();
+        response = new ByteArrayOutputStream();
+        externalContext = mock(ExternalContext.class);
+        when(externalContext.getRequestHeaderMap()).thenReturn(requestHeaders);
+        when(externalContext.getResponseOutputStream()).thenReturn(response);
+        streamedContent = DefaultStreamedContent.builder()
+                .stream(() -> new ByteArrayInputStream(CONTENT))
+                .contentLength((long) CONTENT.length)
+                .lastModified(1_700_000_000_000L)
+                .build();
+    }
+
+    private String stream() throws IOException {
+        handler.stream(externalContext, streamedContent, streamedContent.getStream().get(), false);
+        return response.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void fullContent() throws IOException {
+        assertEquals("0123456789", stream());
+        verify(externalContext).setResponseStatus(HttpServletResponse.SC_OK);
+        verify(externalContext).setResponseHeader("Accept-Ranges", "bytes");
+    }
+
+    @Test
+    void range() throws IOException {
+        requestHeaders.put("Range", "bytes=2-5");
+
+        assertEquals("2345", stream());
+        verify(externalContext).setResponseStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        verify(externalContext).setResponseHeader("Content-Range", "bytes 2-5/10");
+        verify(externalContext).setResponseHeader("Content-Length", "4");
+    }
+
+    @Test
+    void openAndSuffixRange() throws IOException {
+        requestHeaders.put("Range", "bytes=7-");
+        assertEquals("789", stream());
+
+        response.reset();
+        requestHeaders.put("Range", "bytes=-2");
+        assertEquals("89", stream());
+    }
+
+    @Test
+    void unsatisfiableRange() throws IOException {
+        requestHeaders.put("Range", "bytes=10-20");
+
+        assertEquals("", stream());
+        verify(externalContext).setResponseStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        verify(externalContext).setResponseHeader("Content-Range", "bytes */10");
+    }
+
+    @Test
+    void multipleRangesServeFullContent() throws IOException {
+        requestHeaders.put("Range", "bytes=0-1,4-5");
+
+        assertEquals("0123456789", stream());
+    }
+
+    @Test
+    void ifRangeMismatchServesFullContent() throws IOException {
+        requestHeaders.put("Range", "bytes=2-5");
+        requestHeaders.put("If-Range", "\"outdated\"");
+
+        assertEquals("0123456789", stream());
+    }
+
+    @Test
+    void notModified() {
+        String eTag = handler.getETag(streamedContent);
+        assertNotNull(eTag);
+        assertFalse(handler.isNotModified(externalContext, streamedContent));
+        verify(externalContext).setResponseHeader("ETag", eTag);
+
+        requestHeaders.put("If-None-Match", "\"other\", " + eTag);
+        assertTrue(handler.isNotModified(externalContext, streamedContent));
+
+        requestHeaders.clear();
+        requestHeaders.put("If-Modified-Since", "Tue, 14 Nov 2023 22:13:20 GMT");
+        assertTrue(handler.isNotModified(externalContext, streamedContent));
+
+        requestHeaders.put("If-Modified-Since", "Tue, 14 Nov 2023 22:13:19 GMT");
+        assertFalse(handler.isNotModified(externalContext, streamedContent));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedCacheProviderTest {
+
+    private static class TestCacheProvider extends BoundedCacheProvider {
+
+        private long time;
+
+        TestCacheProvider(Properties config) {
+            super(config);
+        }
+
+        @Override
+        protected long nanoTime() {
+            return time;
+        }
+    }
+
+    private static TestCacheProvider provider(String... config) {
+        Properties properties = new Properties();
+        for (int i = 0; i < config.length; i += 2) {
+            properties.setProperty(config[i], config[i + 1]);
+        }
+        return new TestCacheProvider(properties);
+    }
+
+    @Test
+    void getPutRemove() {
+        BoundedCacheProvider cache = provider();
+
+        cache.put("region", "key", "value");
+        assertEquals("value", cache.get("region", "key"));
+        assertNull(cache.get("other", "key"));
+
+        cache.remove("region", "key");
+        assertNull(cache.get("region", "key"));
+
+        BoundedCacheProvider.Stats stats = cache.getStats("region");
+        assertEquals(0, stats.getSize());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    @Test
+    void maxEntries() {
+        BoundedCacheProvider cache = provider("maxEntries", "100");
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put("region", "key" + i, i);
+        }
+
+        BoundedCacheProvider.Stats stats = cache.getStats("region");
+        assertEquals(100, stats.getSize());
+        assertEquals(900, stats.getEvictionCount());
+    }
+
+    @Test
+    void maxWeightPerRegion() {
+        BoundedCacheProvider cache = provider("region.small.maxWeight", "10");
+
+        cache.put("small", "a", "12345");
+        cache.put("small", "b", "12345");
+        cache.put("small", "c", "12345");
+        cache.put("large", "a", "12345");
+        cache.put("large", "b", "12345");
+        cache.put("large", "c", "12345");
+
+        assertTrue(cache.getStats("small").getWeight() <= 10);
+        assertEquals(15, cache.getStats("large").getWeight());
+    }
+
+    @Test
+    void frequentEntriesSurviveScan() {
+        BoundedCacheProvider cache = provider("maxEntries", "100");
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("region", "hot" + i, i);
+        }
+        for (int n = 0; n < 3; n++) {
+            for (int i = 0; i < 100; i++) {
+                assertNotNull(cache.get("region", "hot" + i));
+            }
+        }
+
+        // one-hit wonders must not flush the frequently used entries, a plain LRU would lose all of them here
+        for (int i = 0; i < 10000; i++) {
+            cache.put("region", "cold" + i, i);
+            cache.get("region", "hot" + (i % 100));
+        }
+
+        int hits = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.get("region", "hot" + i) != null) {
+                hits++;
+            }
+        }
+        assertTrue(hits >= 90, "Only " + hits + " hot entries survived");
+    }
+
+    @Test
+    void expireAfterWrite() {
+        TestCacheProvider cache = provider("expireAfterWrite", "60");
+
+        cache.put("region", "key", "value");
+        cache.time += TimeUnit.SECONDS.toNanos(59);
+        assertEquals("value", cache.get("region", "key"));
+
+        cache.time += TimeUnit.SECONDS.toNanos(1);
+        assertNull(cache.get("region", "key"));
+        assertEquals(1, cache.getStats("region").getExpirationCount());
+    }
+
+    @Test
+    void expireAfterAccess() {
+        TestCacheProvider cache = provider("expireAfterAccess", "60");
+
+        cache.put("region", "key", "value");
+        for (int i = 0; i < 5; i++) {
+            cache.time += TimeUnit.SECONDS.toNanos(50);
+            assertEquals("value", cache.get("region", "key"));
+        }
+
+        cache.time += TimeUnit.SECONDS.toNanos(60);
+        assertNull(cache.get("region", "key"));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedFragmentTest {
+
+    private static final String MARKUP = "<div class=\"ui-datatable\"><span>Grüße</span></div>".repeat(100);
+
+    @Test
+    void uncompressed() {
+        CachedFragment fragment = CachedFragment.of(MARKUP.getBytes(StandardCharsets.UTF_8), 0);
+
+        assertFalse(fragment.isCompressed());
+        assertEquals(MARKUP, fragment.getContent());
+    }
+
+    @Test
+    void compressedAboveThreshold() {
+        byte[] bytes = MARKUP.getBytes(StandardCharsets.UTF_8);
+        CachedFragment fragment = CachedFragment.of(bytes, 1024);
+
+        assertTrue(fragment.isCompressed());
+        assertTrue(fragment.getSize() < bytes.length);
+        assertEquals(MARKUP, fragment.getContent());
+    }
+
+    @Test
+    void uncompressedBelowThreshold() {
+        CachedFragment fragment = CachedFragment.of("<span/>".getBytes(StandardCharsets.UTF_8), 1024);
+
+        assertFalse(fragment.isCompressed());
+        assertEquals("<span/>", fragment.getContent());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrequencySketchTest {
+
+    @Test
+    void frequency() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+        sketch.ensureCapacity(1000);
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("a");
+        }
+        sketch.increment("b");
+
+        assertEquals(5, sketch.frequency("a"));
+        assertEquals(1, sketch.frequency("b"));
+        assertEquals(0, sketch.frequency("c"));
+
+        // saturates at 15
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("a");
+        }
+        assertEquals(15, sketch.frequency("a"));
+    }
+
+    @Test
+    void aging() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 10; i++) {
+            sketch.increment("a");
+        }
+
+        // the sample size is 10 times the table length, the counters are halved once it is reached
+        for (int i = 0; i < 16 * 10; i++) {
+            sketch.increment(i);
+        }
+        // at most 15 / 2 after halving
+        assertTrue(sketch.frequency("a") < 10);
+    }
+
+    @Test
+    void growingDiscardsCounters() {
+        FrequencySketch sketch = new FrequencySketch(Long.MAX_VALUE);
+        sketch.increment("a");
+        assertEquals(1, sketch.frequency("a"));
+
+        // still fits into the initial table
+        sketch.ensureCapacity(16);
+        assertEquals(1, sketch.frequency("a"));
+
+        sketch.ensureCapacity(100);
+        assertEquals(0, sketch.frequency("a"));
+        sketch.increment("a");
+        assertEquals(1, sketch.frequency("a"));
+    }
+}
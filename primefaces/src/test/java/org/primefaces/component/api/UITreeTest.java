@@ -0,0 +1,80 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.api;
+
+import org.primefaces.component.tree.Tree;
+import org.primefaces.model.DefaultTreeNode;
+import org.primefaces.model.TreeNode;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UITreeTest {
+
+    @Test
+    void findTreeNode() {
+        Tree tree = new Tree();
+        TreeNode<String> root = new DefaultTreeNode<>("root", null);
+        TreeNode<String> child0 = new DefaultTreeNode<>("0", root);
+        TreeNode<String> child1 = new DefaultTreeNode<>("1", root);
+        TreeNode<String> child10 = new DefaultTreeNode<>("1_0", child1);
+        tree.buildRowKeys(root);
+
+        assertSame(child0, tree.findTreeNode(root, "0"));
+        assertSame(child10, tree.findTreeNode(root, "1_0"));
+        assertNull(tree.findTreeNode(root, "1_1"));
+        assertNull(tree.findTreeNode(root, "2"));
+        assertThrows(NumberFormatException.class, () -> tree.findTreeNode(root, "a"));
+    }
+
+    @Test
+    void findTreeNodeAfterModification() {
+        Tree tree = new Tree();
+        TreeNode<String> root = new DefaultTreeNode<>("root", null);
+        TreeNode<String> child0 = new DefaultTreeNode<>("0", root);
+        new DefaultTreeNode<>("0_0", child0);
+        TreeNode<String> child1 = new DefaultTreeNode<>("1", root);
+        TreeNode<String> child10 = new DefaultTreeNode<>("1_0", child1);
+        tree.buildRowKeys(root);
+        assertNotNull(tree.findTreeNode(root, "0_0"));
+
+        root.getChildren().remove(child0);
+
+        // the removed subtree is still indexed, but must not be resolved anymore
+        assertSame(child1, tree.findTreeNode(root, "0"));
+        assertSame(child10, tree.findTreeNode(root, "0_0"));
+        assertNull(tree.findTreeNode(root, "1"));
+    }
+
+    @Test
+    void isChildRowKey() {
+        assertTrue(UITree.isChildRowKey("3", null, 3));
+        assertTrue(UITree.isChildRowKey("1_12", "1", 12));
+        assertFalse(UITree.isChildRowKey("1_12", "1", 1));
+        assertFalse(UITree.isChildRowKey("1_012", "1", 12));
+        assertFalse(UITree.isChildRowKey("2_12", "1", 12));
+        assertFalse(UITree.isChildRowKey(null, "1", 0));
+    }
+}
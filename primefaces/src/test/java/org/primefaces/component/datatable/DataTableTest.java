@@ -30,18 +30,182 @@ import org.primefaces.el.MyBean;
 import org.primefaces.el.MyContainer;
 import org.primefaces.mock.FacesContextMock;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import jakarta.el.ExpressionFactory;
 import jakarta.el.ValueExpression;
+import jakarta.faces.component.html.HtmlInputText;
+import jakarta.faces.component.html.HtmlOutputText;
+import jakarta.faces.component.html.HtmlPanelGroup;
 import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.PartialResponseWriter;
+import jakarta.faces.model.DataModel;
+import jakarta.faces.model.ListDataModel;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DataTableTest {
 
+    @Test
+    void getRowDataByRowKeyIndex() {
+        new FacesContextMock();
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add("row" + i);
+        }
+        AtomicInteger evaluations = new AtomicInteger();
+        DataTable table = new DataTable() {
+            private final DataModel<String> model = new ListDataModel<>(rows);
+
+            @Override
+            protected DataModel getDataModel() {
+                return model;
+            }
+
+            @Override
+            public <T> String getRowKey(T object) {
+                evaluations.incrementAndGet();
+                return "key-" + object;
+            }
+        };
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("row" + i, table.getRowData("key-row" + i));
+        }
+        // one pass to index, then one verification per lookup
+        assertEquals(200, evaluations.get());
+
+        // rebuilt once on the first miss, further misses of the same request are not found
+        assertNull(table.getRowData("key-unknown"));
+        assertEquals(300, evaluations.get());
+        for (int i = 0; i < 100; i++) {
+            assertNull(table.getRowData("key-unknown" + i));
+        }
+        assertEquals(300, evaluations.get());
+        assertEquals("row5", table.getRowData("key-row5"));
+
+        // next request
+        new FacesContextMock();
+        rows.add("row100");
+        assertEquals("row100", table.getRowData("key-row100"));
+
+        new FacesContextMock();
+        rows.set(0, "replaced");
+        assertNull(table.getRowData("key-row0"));
+        assertEquals("replaced", table.getRowData("key-replaced"));
+    }
+
+    @Test
+    void getRowDataByRowKeyIndexOfModifiedLinkedList() {
+        new FacesContextMock();
+        List<String> rows = new LinkedList<>(List.of("row0", "row1", "row2"));
+        DataTable table = new DataTable() {
+            private final DataModel<String> model = new ListDataModel<>(rows);
+
+            @Override
+            protected DataModel getDataModel() {
+                return model;
+            }
+
+            @Override
+            public <T> String getRowKey(T object) {
+                return "key-" + object;
+            }
+        };
+
+        assertEquals("row1", table.getRowData("key-row1"));
+
+        // same size, the indexed copy is stale
+        new FacesContextMock();
+        rows.set(1, "replaced");
+        assertEquals("replaced", table.getRowData("key-replaced"));
+        assertNull(table.getRowData("key-row1"));
+    }
+
+    @Test
+    void rowUpdatesWithoutRowKeyUpdateWholeTable() throws IOException {
+        FacesContext context = new FacesContextMock();
+        AtomicInteger encodes = new AtomicInteger();
+        DataTable table = new DataTable() {
+            private final DataModel<String> model = new ListDataModel<>(Arrays.asList("row0", "row1"));
+
+            @Override
+            protected DataModel getDataModel() {
+                return model;
+            }
+
+            @Override
+            public String getClientId(FacesContext context) {
+                return "form:table";
+            }
+
+            @Override
+            public void encodeAll(FacesContext context) {
+                encodes.incrementAndGet();
+            }
+        };
+        PartialResponseWriter writer = mock(PartialResponseWriter.class);
+
+        assertFalse(table.isRowKeyDefined());
+        new DataTableRenderer().encodeRowUpdates(context, table, writer, Collections.singleton("row1"));
+
+        verify(writer).startUpdate("form:table");
+        verify(writer).endUpdate();
+        assertEquals(1, encodes.get());
+    }
+
+    @Test
+    void readOnlyIteration() {
+        FacesContext context = new FacesContextMock();
+
+        DataTable table = new DataTable();
+        table.setId("table");
+        table.setVar("row");
+        table.setValue(List.of("a", "b", "c"));
+        Column column = new Column();
+        HtmlOutputText output = new HtmlOutputText();
+        output.setId("out");
+        column.getChildren().add(output);
+        table.getChildren().add(column);
+
+        assertTrue(table.isReadOnlyIteration());
+        table.setRowIndex(1);
+        assertEquals("b", context.getExternalContext().getRequestMap().get("row"));
+        assertEquals("table:1:out", output.getClientId(context));
+        table.setRowIndex(2);
+        assertEquals("table:2:out", output.getClientId(context));
+        table.setRowIndex(-1);
+
+        DataTable editable = new DataTable();
+        Column editableColumn = new Column();
+        editableColumn.getFacets().put("header", new HtmlPanelGroup());
+        editableColumn.getFacets().get("header").getChildren().add(new HtmlInputText());
+        editable.getChildren().add(editableColumn);
+        assertFalse(editable.isReadOnlyIteration());
+
+        // inputs outside of the rows don't matter
+        table.getFacets().put("header", new HtmlInputText());
+        assertTrue(table.isReadOnlyIteration());
+
+        // decided again by the next iteration, which starts with row index -1
+        column.getChildren().add(new HtmlInputText());
+        table.setRowIndex(-1);
+        table.setRowIndex(0);
+        assertFalse(table.isReadOnlyIteration());
+        table.setRowIndex(-1);
+    }
+
     @Test
     void allowUnsorting() {
         DataTable table = new DataTable();
@@ -0,0 +1,267 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.export;
+
+import org.primefaces.component.column.Column;
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.component.export.ExportConfiguration;
+import org.primefaces.component.export.ExportSnapshot;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.el.ELContext;
+import jakarta.el.MethodExpression;
+import jakarta.el.ValueExpression;
+import jakarta.faces.FacesException;
+import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.component.visit.VisitCallback;
+import jakarta.faces.component.visit.VisitContext;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+class DataTableExporterTest {
+
+    private static final int ROW_COUNT = 2500;
+
+    private FacesContext context;
+    private ByteArrayOutputStream output;
+    private final List<int[]> loads = new ArrayList<>();
+    private final List<Integer> writtenBeforeLoad = new ArrayList<>();
+    private LazyDataModel<String> model;
+    private DataTable table;
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @BeforeEach
+    void setup() {
+        context = new FacesContextMock();
+        output = new ByteArrayOutputStream();
+
+        model = new LazyDataModel<String>() {
+            @Override
+            public int count(Map<String, FilterMeta> filterBy) {
+                return ROW_COUNT;
+            }
+
+            @Override
+            public List<String> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+                loads.add(new int[]{first, pageSize});
+                writtenBeforeLoad.add(lines());
+                List<String> page = new ArrayList<>();
+                for (int i = first; i < Math.min(first + pageSize, ROW_COUNT); i++) {
+                    page.add("row" + i);
+                }
+                return page;
+            }
+        };
+
+        table = new DataTable();
+        table.setId("table");
+        table.setVar("row");
+        table.setLazy(true);
+        table.setValue(model);
+        table.setSortByAsMap(new HashMap<>());
+        table.setFilterByAsMap(new HashMap<>());
+        Column column = new Column();
+        column.setId("name");
+        column.setValueExpression("exportValue", expression(() -> {
+            evaluations.incrementAndGet();
+            return context.getExternalContext().getRequestMap().get("row");
+        }));
+        table.getChildren().add(column);
+    }
+
+    @Test
+    void streamingExportsLazyModelPageByPage() throws IOException {
+        new CSVExporter().export(context, table, ExportConfiguration.builder()
+                .encodingType(StandardCharsets.UTF_8.name())
+                .outputStream(output)
+                .bufferSize(1000)
+                .streaming(true)
+                .build());
+
+        // 3 pages and the empty one which ends the export
+        assertEquals(4, loads.size());
+        for (int i = 0; i < loads.size(); i++) {
+            int first = Math.min(i * 1000, ROW_COUNT);
+            assertEquals(first, loads.get(i)[0]);
+            assertEquals(1000, loads.get(i)[1]);
+            // every page has been written before the next one is loaded
+            assertEquals(first, writtenBeforeLoad.get(i));
+        }
+
+        String[] rows = output.toString(StandardCharsets.UTF_8).replace("\ufeff", "").split("\n");
+        assertEquals(ROW_COUNT, rows.length);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertEquals("\"row" + i + "\"", rows[i].trim());
+        }
+
+        // the model is restored
+        assertNull(model.getWrappedData());
+        assertEquals(0, model.getPageSize());
+    }
+
+    @Test
+    void bufferedExportMatchesStreamingExport() throws IOException {
+        new CSVExporter().export(context, table, ExportConfiguration.builder()
+                .encodingType(StandardCharsets.UTF_8.name())
+                .outputStream(output)
+                .streaming(true)
+                .build());
+        String streamed = output.toString(StandardCharsets.UTF_8);
+        assertEquals(ExportConfiguration.DEFAULT_STREAMING_BUFFER_SIZE, loads.get(0)[1]);
+
+        output.reset();
+        loads.clear();
+        new CSVExporter().export(context, table, ExportConfiguration.builder()
+                .encodingType(StandardCharsets.UTF_8.name())
+                .outputStream(output)
+                .build());
+
+        // loaded at once, written at the end
+        assertEquals(1, loads.size());
+        assertEquals(ROW_COUNT, loads.get(0)[1]);
+        assertEquals(streamed, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void asyncExportWritesSnapshotWithoutFacesContext() throws Exception {
+        new CSVExporter().export(context, table, ExportConfiguration.builder()
+                .encodingType(StandardCharsets.UTF_8.name())
+                .outputStream(output)
+                .streaming(true)
+                .build());
+        String expected = output.toString(StandardCharsets.UTF_8);
+        int expectedEvaluations = evaluations.get();
+        output.reset();
+        loads.clear();
+        evaluations.set(0);
+
+        DataTableCSVExporter exporter = new DataTableCSVExporter();
+        ExportConfiguration config = ExportConfiguration.builder()
+                .encodingType(StandardCharsets.UTF_8.name())
+                .outputStream(output)
+                .streaming(true)
+                .build();
+
+        // the rows are loaded and evaluated on the request thread
+        ExportSnapshot snapshot = snapshot(exporter, config);
+        assertEquals(ROW_COUNT, snapshot.getRowCount());
+        assertEquals(expectedEvaluations, evaluations.get());
+        int loaded = loads.size();
+
+        // and only written in the background
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                assertNull(FacesContext.getCurrentInstance());
+                exporter.export(snapshot, config);
+                return null;
+            }).get(5, TimeUnit.SECONDS);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(loaded, loads.size());
+        assertEquals(expectedEvaluations, evaluations.get());
+        assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void asyncExportRejectsProcessors() {
+        ExportConfiguration config = ExportConfiguration.builder()
+                .outputStream(output)
+                .postProcessor(mock(MethodExpression.class))
+                .build();
+
+        assertThrows(FacesException.class, () -> snapshot(new DataTableCSVExporter(), config));
+        assertEquals(0, loads.size());
+    }
+
+    private ExportSnapshot snapshot(DataTableCSVExporter exporter, ExportConfiguration config) {
+        VisitContext visitContext = mock(VisitContext.class);
+        when(visitContext.getFacesContext()).thenReturn(context);
+        UIViewRoot viewRoot = mock(UIViewRoot.class);
+        when(viewRoot.visitTree(any(), any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, VisitCallback.class).visit(visitContext, table);
+            return true;
+        });
+        ((FacesContextMock) context).setViewRoot(viewRoot);
+
+        try (MockedStatic<VisitContext> visitContexts = mockStatic(VisitContext.class)) {
+            visitContexts.when(() -> VisitContext.createVisitContext(any(), any(), any())).thenReturn(visitContext);
+            return exporter.snapshot(context, List.of(table), config);
+        }
+    }
+
+    private int lines() {
+        String written = output.toString(StandardCharsets.UTF_8);
+        return (int) written.chars().filter(c -> c == '\n').count();
+    }
+
+    private static ValueExpression expression(Supplier<Object> supplier) {
+        ValueExpression expression = mock(ValueExpression.class);
+        when(expression.getValue(any(ELContext.class))).thenAnswer(invocation -> supplier.get());
+        return expression;
+    }
+
+    /**
+     * Exports a single table without visiting the view.
+     */
+    private static class CSVExporter extends DataTableCSVExporter {
+
+        void export(FacesContext context, DataTable table, ExportConfiguration config) throws IOException {
+            exportConfiguration = config;
+            preExport(context);
+            exportTable(context, table, 0);
+            postExport(context);
+        }
+    }
+}
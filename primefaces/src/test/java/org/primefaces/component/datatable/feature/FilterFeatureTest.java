@@ -0,0 +1,298 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.feature;
+
+import org.primefaces.component.column.Column;
+import org.primefaces.component.datatable.DataTable;
+import org.primefaces.mock.FacesContextMock;
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.MatchMode;
+import org.primefaces.model.filter.FilterConstraint;
+import org.primefaces.model.filter.NegationFilterConstraintWrapper;
+import org.primefaces.model.filter.StartsWithFilterConstraint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+import jakarta.el.ELContext;
+import jakarta.el.ValueExpression;
+import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FilterFeatureTest {
+
+    private static final String[] BRANDS = {"Audi", "BMW", "Fiat", "Ford", "Opel", "Renault", "Volvo"};
+    private static final String[] COLORS = {"Black", "Blue", "Green", "Red", "White"};
+
+    private FacesContext context;
+    private List<Car> value;
+    private List<Object> filtered;
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private int parallelThreshold;
+    private DataTable table;
+    private Column brand;
+    private Column color;
+
+    @BeforeEach
+    void setup() {
+        context = new FacesContextMock();
+        Map<String, Object> viewMap = new HashMap<>();
+        UIViewRoot viewRoot = new UIViewRoot() {
+            @Override
+            public Map<String, Object> getViewMap(boolean create) {
+                return viewMap;
+            }
+        };
+        viewRoot.setLocale(Locale.ENGLISH);
+        context.setViewRoot(viewRoot);
+
+        value = cars(200);
+        table = new DataTable() {
+            @Override
+            public boolean isParallelThresholdReached(FacesContext context, int rowCount) {
+                return parallelThreshold > 0 && rowCount >= parallelThreshold;
+            }
+        };
+        table.setId("table");
+        table.setVar("car");
+        table.setValueExpression("value", expression(() -> value));
+        ValueExpression filteredValue = expression(() -> filtered);
+        doAnswer(invocation -> filtered = invocation.getArgument(1)).when(filteredValue).setValue(any(ELContext.class), any());
+        table.setValueExpression("filteredValue", filteredValue);
+        brand = column("brand", Car::getBrand);
+        color = column("color", Car::getColor);
+        table.getChildren().add(brand);
+        table.getChildren().add(color);
+    }
+
+    @Test
+    void cachedFilteringMatchesUncachedFiltering() {
+        filterBy(MatchMode.STARTS_WITH, "F", MatchMode.CONTAINS, "e", "r");
+
+        List<Object> uncached = filter(false);
+        List<Object> cached = filter(true);
+
+        assertNotEquals(0, uncached.size());
+        assertNotEquals(value.size(), uncached.size());
+        assertEquals(uncached, cached);
+
+        // filtered again on the cached values, without evaluating filterBy
+        int cachedEvaluations = evaluations.get();
+        assertEquals(uncached, filter(true));
+        filterBy(MatchMode.EQUALS, "BMW", MatchMode.STARTS_WITH, "B", null);
+        List<Object> changed = filter(true);
+        assertEquals(cachedEvaluations, evaluations.get());
+        assertEquals(filter(false), changed);
+    }
+
+    @Test
+    void cacheIsInvalidatedWhenValueChanges() {
+        filterBy(MatchMode.EQUALS, "Volvo", MatchMode.EQUALS, "Red", null);
+        List<Object> before = filter(true);
+
+        // another list
+        value = cars(300);
+        int evaluationsBefore = evaluations.get();
+        List<Object> replaced = filter(true);
+        assertEquals(evaluationsBefore + 2 * value.size(), evaluations.get());
+        assertEquals(filter(false), replaced);
+        assertNotEquals(before.size(), replaced.size());
+
+        // the same list, modified in place
+        List<Car> list = value;
+        list.add(new Car("Volvo", "Red"));
+        List<Object> added = filter(true);
+        assertEquals(replaced.size() + 1, added.size());
+        assertEquals(list.get(list.size() - 1), added.get(added.size() - 1));
+    }
+
+    @Test
+    void parallelFilteringMatchesSequentialFiltering() {
+        value = cars(5000);
+        filterBy(MatchMode.CONTAINS, "o", MatchMode.STARTS_WITH, "B", "l");
+        List<Object> sequential = filter(true);
+        assertEquals(filter(false), sequential);
+
+        parallelThreshold = 1000;
+        AtomicBoolean threadSafe = new AtomicBoolean();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        FilterFeature feature = new FilterFeature() {
+            @Override
+            protected boolean isThreadSafe(Map<String, FilterMeta> filterBy) {
+                threadSafe.set(super.isThreadSafe(filterBy));
+                return threadSafe.get();
+            }
+
+            @Override
+            protected IntPredicate compile(FacesContext context, FilterValueCache cache, Map<String, FilterMeta> filterBy, Locale filterLocale) {
+                IntPredicate predicate = super.compile(context, cache, filterBy, filterLocale);
+                return row -> {
+                    threads.add(Thread.currentThread());
+                    return predicate.test(row);
+                };
+            }
+        };
+        table.setFilterCache(false);
+        feature.filter(context, table);
+        List<Object> parallel = filtered;
+
+        assertTrue(threadSafe.get());
+        assertNotEquals(0, sequential.size());
+        assertNotEquals(value.size(), sequential.size());
+        // same rows in the same order
+        assertEquals(sequential, parallel);
+
+        // below the threshold, filtered sequentially on the request thread
+        parallelThreshold = value.size() + 1;
+        threads.clear();
+        table.setFilterCache(true);
+        feature.filter(context, table);
+        assertEquals(sequential, filtered);
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void negatedCustomConstraintIsFilteredSequentially() {
+        value = cars(5000);
+        filterBy(MatchMode.CONTAINS, "o", MatchMode.STARTS_WITH, "B", null);
+        List<Object> expected = new ArrayList<>();
+        for (Car car : value) {
+            if (car.getBrand().toLowerCase(Locale.ENGLISH).contains("o") && !car.getColor().startsWith("B")) {
+                expected.add(car);
+            }
+        }
+
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        FilterConstraint custom = (ctxt, columnValue, filterValue, locale) -> {
+            threads.add(Thread.currentThread());
+            return columnValue.toString().startsWith(filterValue.toString());
+        };
+        table.getFilterByAsMap().get(color.getColumnKey()).setConstraint(new NegationFilterConstraintWrapper(custom));
+
+        parallelThreshold = 1000;
+        FilterFeature feature = new FilterFeature();
+        assertFalse(feature.isThreadSafe(table.getFilterByAsMap()));
+        table.setFilterCache(false);
+        feature.filter(context, table);
+
+        assertEquals(expected, filtered);
+        assertEquals(Set.of(Thread.currentThread()), threads);
+
+        // the built-in constraints are still thread-safe when negated
+        table.getFilterByAsMap().get(color.getColumnKey()).setConstraint(new NegationFilterConstraintWrapper(new StartsWithFilterConstraint()));
+        assertTrue(feature.isThreadSafe(table.getFilterByAsMap()));
+    }
+
+    private List<Object> filter(boolean filterCache) {
+        table.setFilterCache(filterCache);
+        new FilterFeature().filter(context, table);
+        return filtered;
+    }
+
+    private void filterBy(MatchMode brandMode, String brandValue, MatchMode colorMode, String colorValue, String globalValue) {
+        brand.setFilterMatchMode(brandMode.operator());
+        brand.setFilterValue(brandValue);
+        color.setFilterMatchMode(colorMode.operator());
+        color.setFilterValue(colorValue);
+
+        Map<String, FilterMeta> filterBy = new LinkedHashMap<>();
+        for (Column column : List.of(brand, color)) {
+            FilterMeta filter = FilterMeta.of(context, "car", column, false);
+            filterBy.put(filter.getColumnKey(), filter);
+        }
+        if (globalValue != null) {
+            filterBy.put(FilterMeta.GLOBAL_FILTER_KEY, FilterMeta.of(globalValue, null, false));
+        }
+        table.setFilterByAsMap(filterBy);
+    }
+
+    private Column column(String id, Function<Car, String> property) {
+        Column column = new Column();
+        column.setId(id);
+        column.setField(id);
+        column.setValueExpression("filterBy", expression(() -> {
+            evaluations.incrementAndGet();
+            Car car = (Car) context.getExternalContext().getRequestMap().get("car");
+            return car == null ? null : property.apply(car);
+        }));
+        return column;
+    }
+
+    private static ValueExpression expression(Supplier<Object> supplier) {
+        ValueExpression expression = mock(ValueExpression.class);
+        when(expression.getValue(any(ELContext.class))).thenAnswer(invocation -> supplier.get());
+        when(expression.getExpressionString()).thenReturn("#{" + System.identityHashCode(supplier) + "}");
+        return expression;
+    }
+
+    private static List<Car> cars(int size) {
+        List<Car> cars = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            cars.add(new Car(BRANDS[(i * 7 + i / 3) % BRANDS.length], COLORS[(i * 3 + i / 5) % COLORS.length]));
+        }
+        return cars;
+    }
+
+    public static class Car {
+
+        private final String brand;
+        private final String color;
+
+        Car(String brand, String color) {
+            this.brand = brand;
+            this.color = color;
+        }
+
+        public String getBrand() {
+            return brand;
+        }
+
+        public String getColor() {
+            return color;
+        }
+    }
+}
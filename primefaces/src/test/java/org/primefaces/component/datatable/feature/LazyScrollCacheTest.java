@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.datatable.feature;
+
+import org.primefaces.model.FilterMeta;
+import org.primefaces.model.LazyDataModel;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LazyScrollCacheTest {
+
+    @Test
+    void loadReusesWindowsUntilSignatureChanges() {
+        CountingModel model = new CountingModel();
+        LazyScrollCache cache = new LazyScrollCache(2);
+        Map<String, SortMeta> sortBy = Collections.emptyMap();
+        Map<String, FilterMeta> filterBy = Collections.emptyMap();
+
+        cache.validate(sortBy, filterBy);
+        List<Integer> first = cache.load(model, 0, 10, sortBy, filterBy);
+        assertSame(first, cache.load(model, 0, 10, sortBy, filterBy));
+        assertEquals(1, model.loads.get());
+
+        cache.validate(Collections.singletonMap("id", SortMeta.builder().field("id").order(SortOrder.DESCENDING).build()), filterBy);
+        cache.load(model, 0, 10, sortBy, filterBy);
+        assertEquals(2, model.loads.get());
+    }
+
+    @Test
+    void loadEvictsLeastRecentlyUsedWindow() {
+        CountingModel model = new CountingModel();
+        LazyScrollCache cache = new LazyScrollCache(2);
+        Map<String, SortMeta> sortBy = Collections.emptyMap();
+        Map<String, FilterMeta> filterBy = Collections.emptyMap();
+
+        cache.load(model, 0, 10, sortBy, filterBy);
+        cache.load(model, 10, 10, sortBy, filterBy);
+        cache.load(model, 0, 10, sortBy, filterBy);
+        cache.load(model, 20, 10, sortBy, filterBy);
+        assertEquals(3, model.loads.get());
+
+        cache.load(model, 0, 10, sortBy, filterBy);
+        assertEquals(3, model.loads.get());
+        cache.load(model, 10, 10, sortBy, filterBy);
+        assertEquals(4, model.loads.get());
+    }
+
+    @Test
+    void prefetch() {
+        CountingModel model = new CountingModel();
+        LazyScrollCache cache = new LazyScrollCache(2);
+        Map<String, SortMeta> sortBy = Collections.emptyMap();
+        Map<String, FilterMeta> filterBy = Collections.emptyMap();
+
+        cache.prefetch(Runnable::run, model, 10, 10, sortBy, filterBy);
+        assertEquals(10, cache.load(model, 10, 10, sortBy, filterBy).get(0));
+        assertEquals(1, model.loads.get());
+
+        // a failed prefetch is loaded again
+        model.fail = true;
+        cache.prefetch(Runnable::run, model, 20, 10, sortBy, filterBy);
+        model.fail = false;
+        assertEquals(20, cache.load(model, 20, 10, sortBy, filterBy).get(0));
+        assertEquals(3, model.loads.get());
+    }
+
+    @Test
+    void prefetchRequiresThreadSafeLoad() {
+        CountingModel model = new CountingModel();
+        model.threadSafe = false;
+        LazyScrollCache cache = new LazyScrollCache(2);
+        Map<String, SortMeta> sortBy = Collections.emptyMap();
+        Map<String, FilterMeta> filterBy = Collections.emptyMap();
+
+        List<Runnable> queued = new ArrayList<>();
+        cache.prefetch(queued::add, model, 10, 10, sortBy, filterBy);
+        assertTrue(queued.isEmpty());
+        assertEquals(0, model.loads.get());
+    }
+
+    @Test
+    void loadClaimsPrefetchNotStartedYet() {
+        CountingModel model = new CountingModel();
+        LazyScrollCache cache = new LazyScrollCache(2);
+        Map<String, SortMeta> sortBy = Collections.emptyMap();
+        Map<String, FilterMeta> filterBy = Collections.emptyMap();
+
+        List<Runnable> queued = new ArrayList<>();
+        cache.prefetch(queued::add, model, 10, 10, sortBy, filterBy);
+        assertEquals(10, cache.load(model, 10, 10, sortBy, filterBy).get(0));
+        assertEquals(1, model.loads.get());
+
+        // the prefetch task doesn't load the window again once it runs
+        queued.forEach(Runnable::run);
+        assertEquals(1, model.loads.get());
+    }
+
+    @Test
+    void validateComparesFilterValues() {
+        CountingModel model = new CountingModel();
+        LazyScrollCache cache = new LazyScrollCache(2);
+        Map<String, SortMeta> sortBy = Collections.emptyMap();
+        List<String> values = new ArrayList<>(List.of("a"));
+        Map<String, FilterMeta> filterBy = Collections.singletonMap("name", FilterMeta.builder().field("name").filterValue(values).build());
+
+        cache.validate(sortBy, filterBy);
+        cache.load(model, 0, 10, sortBy, filterBy);
+        cache.validate(sortBy, filterBy);
+        cache.load(model, 0, 10, sortBy, filterBy);
+        assertEquals(1, model.loads.get());
+
+        // changed in place
+        values.add("b");
+        cache.validate(sortBy, filterBy);
+        cache.load(model, 0, 10, sortBy, filterBy);
+        assertEquals(2, model.loads.get());
+    }
+
+    private static class CountingModel extends LazyDataModel<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile boolean fail;
+        private boolean threadSafe = true;
+
+        @Override
+        public boolean isLoadThreadSafe() {
+            return threadSafe;
+        }
+
+        @Override
+        public int count(Map<String, FilterMeta> filterBy) {
+            return 1000;
+        }
+
+        @Override
+        public List<Integer> load(int first, int pageSize, Map<String, SortMeta> sortBy, Map<String, FilterMeta> filterBy) {
+            loads.incrementAndGet();
+            if (fail) {
+                throw new IllegalStateException("no FacesContext");
+            }
+            List<Integer> rows = new ArrayList<>(pageSize);
+            for (int i = first; i < first + pageSize; i++) {
+                rows.add(i);
+            }
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExportJobManagerTest {
+
+    private ExportJobManager manager;
+    private FacesContext context;
+    private ExternalContext externalContext;
+
+    @BeforeEach
+    void setup() {
+        manager = new ExportJobManager(1, 1);
+        context = mock(FacesContext.class);
+        externalContext = mock(ExternalContext.class);
+        when(context.getExternalContext()).thenReturn(externalContext);
+        when(externalContext.getSessionId(anyBoolean())).thenReturn("session");
+    }
+
+    @AfterEach
+    void close() {
+        manager.close();
+    }
+
+    @Test
+    void exportIntoFile() throws Exception {
+        ExportJob job = manager.create(context, "cars.csv", "text/csv", 2);
+        assertEquals(ExportJob.Status.QUEUED, job.getStatus());
+
+        manager.submit(job, os -> {
+            os.write("a;b".getBytes(StandardCharsets.UTF_8));
+            job.rowExported();
+            assertEquals(50, job.getProgress());
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(ExportJob.Status.DONE, job.getStatus());
+        assertEquals(100, job.getProgress());
+        assertEquals("a;b", Files.readString(job.getFile()));
+        assertEquals(job.getFile(), job.getContent().getPath());
+        assertSame(job, manager.get(context, job.getId()));
+        assertEquals(1, manager.getJobs(context).size());
+    }
+
+    @Test
+    void onlyVisibleToOwnSession() {
+        ExportJob job = manager.create(context, "cars.csv", "text/csv", -1);
+
+        when(externalContext.getSessionId(anyBoolean())).thenReturn("other");
+        assertNull(manager.get(context, job.getId()));
+        assertTrue(manager.getJobs(context).isEmpty());
+    }
+
+    @Test
+    void failureDeletesFile() throws Exception {
+        ExportJob job = manager.create(context, "cars.csv", "text/csv", -1);
+        manager.submit(job, os -> {
+            throw new IOException("broken");
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(ExportJob.Status.FAILED, job.getStatus());
+        assertNull(job.getContent());
+    }
+
+    @Test
+    void submitReturnsImmediatelyAndRejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        ExportJobManager.Task blocking = os -> await(latch);
+
+        ExportJob running = manager.create(context, "1.csv", "text/csv", -1);
+        ExportJob queued = manager.create(context, "2.csv", "text/csv", -1);
+        ExportJob rejected = manager.create(context, "3.csv", "text/csv", -1);
+
+        Future<?> runningFuture = manager.submit(running, blocking);
+        Future<?> queuedFuture = manager.submit(queued, blocking);
+        assertFalse(runningFuture.isDone());
+        assertThrows(IOException.class, () -> manager.submit(rejected, blocking));
+        assertEquals(ExportJob.Status.FAILED, rejected.getStatus());
+
+        latch.countDown();
+        runningFuture.get(5, TimeUnit.SECONDS);
+        queuedFuture.get(5, TimeUnit.SECONDS);
+        assertEquals(ExportJob.Status.DONE, running.getStatus());
+        assertEquals(ExportJob.Status.DONE, queued.getStatus());
+    }
+
+    @Test
+    void closeDeletesFiles() throws Exception {
+        ExportJob job = manager.create(context, "cars.csv", "text/csv", -1);
+        manager.submit(job, os -> os.write('a')).get(5, TimeUnit.SECONDS);
+        Path file = job.getFile();
+        assertTrue(Files.exists(file));
+
+        manager.close();
+        assertFalse(Files.exists(file));
+        assertNull(manager.get(context, job.getId()));
+    }
+
+    private static void await(CountDownLatch latch) throws IOException {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IOException(new TimeoutException());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.component.fileupload;
+
+import org.primefaces.model.file.UploadedFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jakarta.faces.context.FacesContext;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AbstractFileUploadDecoderTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private final AbstractFileUploadDecoder<HttpServletRequest> decoder = new AbstractFileUploadDecoder<HttpServletRequest>() {
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public String getUploadDirectory(HttpServletRequest request) {
+            return uploadDir.toString();
+        }
+
+        @Override
+        protected List<UploadedFile> createUploadedFiles(HttpServletRequest request, FileUpload fileUpload, String inputToDecodeId) {
+            return null;
+        }
+
+        @Override
+        protected UploadedFile createUploadedFile(HttpServletRequest request, FileUpload fileUpload, String inputToDecodeId) {
+            return null;
+        }
+
+        @Override
+        protected HttpServletRequest getRequest(FacesContext ctxt) {
+            return null;
+        }
+    };
+
+    private UploadedFile chunk(String content) throws IOException {
+        UploadedFile chunk = mock(UploadedFile.class);
+        when(chunk.getFileName()).thenReturn("test.txt");
+        when(chunk.getInputStream()).thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII)));
+        return chunk;
+    }
+
+    @Test
+    void positionalAssemblyOutOfOrder() throws IOException {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getParameter("X-File-Id")).thenReturn("test.txt");
+        Path chunksDir = uploadDir.resolve(decoder.generateFileInfoKey(request));
+
+        assertNull(decoder.writeChunkAtPosition(request, chunk("abcd"), chunksDir, ContentRange.of("bytes 0-3/11", 4), null));
+        assertNull(decoder.writeChunkAtPosition(request, chunk("ijk"), chunksDir, ContentRange.of("bytes 8-10/11", 4), null));
+        assertEquals(4, decoder.getAssembledBytes(chunksDir));
+
+        UploadedFile file = decoder.writeChunkAtPosition(request, chunk("efgh"), chunksDir, ContentRange.of("bytes 4-7/11", 4), null);
+        assertNotNull(file);
+        assertEquals("abcdefghijk", new String(file.getContent(), StandardCharsets.US_ASCII));
+        assertFalse(Files.exists(chunksDir));
+    }
+
+    @Test
+    void positionalAssemblyRejectsChunkOfCompletedUpload() throws IOException {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getParameter("X-File-Id")).thenReturn("test.txt");
+        Path chunksDir = uploadDir.resolve(decoder.generateFileInfoKey(request));
+
+        // not started yet
+        assertThrows(IOException.class,
+            () -> decoder.writeChunkAtPosition(request, chunk("efgh"), chunksDir, ContentRange.of("bytes 4-7/8", 4), null));
+        assertFalse(Files.exists(chunksDir));
+
+        assertNull(decoder.writeChunkAtPosition(request, chunk("abcd"), chunksDir, ContentRange.of("bytes 0-3/8", 4), null));
+        assertNotNull(decoder.writeChunkAtPosition(request, chunk("efgh"), chunksDir, ContentRange.of("bytes 4-7/8", 4), null));
+
+        // retried after the completion, which deleted the chunk directory
+        assertThrows(IOException.class,
+            () -> decoder.writeChunkAtPosition(request, chunk("efgh"), chunksDir, ContentRange.of("bytes 4-7/8", 4), null));
+        assertFalse(Files.exists(chunksDir));
+    }
+
+    @Test
+    void positionalAssemblyRejectsShortChunk() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getParameter("X-File-Id")).thenReturn("test.txt");
+        Path chunksDir = uploadDir.resolve(decoder.generateFileInfoKey(request));
+
+        assertThrows(IOException.class,
+            () -> decoder.writeChunkAtPosition(request, chunk("ab"), chunksDir, ContentRange.of("bytes 0-3/11", 4), null));
+    }
+
+    @Test
+    void positionalAssemblyRejectsTotalAboveSizeLimit() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getParameter("X-File-Id")).thenReturn("test.txt");
+        Path chunksDir = uploadDir.resolve(decoder.generateFileInfoKey(request));
+
+        assertThrows(IOException.class,
+            () -> decoder.writeChunkAtPosition(request, chunk("abcd"), chunksDir, ContentRange.of("bytes 0-3/1000000000", 4), 10L));
+        assertFalse(Files.exists(chunksDir));
+    }
+}
@@ -26,6 +26,15 @@ package org.primefaces.context;
 import org.primefaces.mock.CollectingPartialResponseWriter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.PartialViewContext;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -33,6 +42,12 @@ import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SuppressWarnings("resource")
 class PrimePartialResponseWriterTest {
@@ -81,4 +96,23 @@ class PrimePartialResponseWriterTest {
         primePartialResponseWriter.encodeJSONValue("myVal2", 123);
         assertEquals("&#34;myVal2&#34;:123", partialResponseWriter.toString());
     }
+
+    @Test
+    void encodeRowUpdatesSkipsUpdatedTables() throws IOException {
+        CollectingPartialResponseWriter partialResponseWriter = new CollectingPartialResponseWriter();
+        PrimePartialResponseWriter primePartialResponseWriter = new PrimePartialResponseWriter(partialResponseWriter);
+
+        FacesContext context = mock(FacesContext.class);
+        PartialViewContext partialViewContext = mock(PartialViewContext.class);
+        UIViewRoot viewRoot = mock(UIViewRoot.class);
+        when(context.getPartialViewContext()).thenReturn(partialViewContext);
+        when(context.getViewRoot()).thenReturn(viewRoot);
+        when(partialViewContext.getRenderIds()).thenReturn(Arrays.asList("form:table"));
+
+        Map<String, Set<String>> rowUpdates = Collections.singletonMap("form:table", new LinkedHashSet<>(Arrays.asList("1", "2")));
+        primePartialResponseWriter.encodeRowUpdates(context, rowUpdates);
+
+        assertEquals("", partialResponseWriter.toString());
+        verify(viewRoot, never()).invokeOnComponent(any(), anyString(), any());
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.csp;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CspStateTest {
+
+    @Test
+    void generateNonce() {
+        CspState state = new CspState(mock(FacesContext.class));
+
+        String nonce = state.generateNonce();
+        assertEquals(16, Base64.getDecoder().decode(nonce).length);
+        assertNotEquals(nonce, state.generateNonce());
+    }
+
+    @Test
+    void generateElementId() {
+        CspState state = new CspState(mock(FacesContext.class));
+
+        String first = state.generateElementId("A");
+        String second = state.generateElementId("a");
+        assertTrue(first.startsWith("a-"));
+        assertNotEquals(first, second);
+        assertNotEquals(first, new CspState(mock(FacesContext.class)).generateElementId("a"));
+    }
+
+    @Test
+    void appendEventHandlers() throws Exception {
+        CspState state = new CspState(mock(FacesContext.class));
+        assertFalse(state.hasEventHandlers());
+
+        state.registerEventHandlers("form:button", new String[] {"onclick", "alert(1)", "onblur", "alert(2)"});
+        state.registerEventHandlers("form:input", new String[] {"onchange", "alert(3)"});
+        state.registerEventHandlers("form:input", new String[] {"onchange", "alert(4)"});
+        assertTrue(state.hasEventHandlers());
+
+        StringBuilder sb = new StringBuilder();
+        state.appendEventHandlers(sb);
+        assertEquals("PrimeFaces.csp.register('form:button','onclick',function(event){alert(1)});"
+                + "PrimeFaces.csp.register('form:button','onblur',function(event){alert(2)});"
+                + "PrimeFaces.csp.register('form:input','onchange',function(event){alert(4)});", sb.toString());
+        assertFalse(state.hasEventHandlers());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void appendLegacyEventHandlers() throws Exception {
+        CspState state = new CspState(mock(FacesContext.class));
+        Map<String, String> events = new HashMap<>();
+        events.put("onclick", "alert(1)");
+        state.getEventHandlers().put("form:button", events);
+        assertTrue(state.hasEventHandlers());
+
+        StringBuilder sb = new StringBuilder();
+        state.appendEventHandlers(sb);
+        assertEquals("PrimeFaces.csp.register('form:button','onclick',function(event){alert(1)});", sb.toString());
+        assertFalse(state.hasEventHandlers());
+    }
+}
@@ -39,6 +39,7 @@ import jakarta.faces.context.ExternalContext;
 public class ExternalContextMock extends ExternalContext {
 
     private Map<String, Object> applicationMap = new HashMap<String, Object>();
+    private Map<String, Object> requestMap = new HashMap<String, Object>();
 
     @Override
     public void dispatch(String path) throws IOException {
@@ -127,7 +128,7 @@ public class ExternalContextMock extends ExternalContext {
 
     @Override
     public Map<String, Object> getRequestMap() {
-        return null;
+        return requestMap;
     }
 
     @Override
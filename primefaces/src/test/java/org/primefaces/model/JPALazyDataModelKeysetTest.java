@@ -0,0 +1,220 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import org.primefaces.mock.FacesContextMock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class JPALazyDataModelKeysetTest {
+
+    private final Car audi = new Car(1L, "Audi", 2020);
+    private final Car bmw = new Car(2L, "BMW", 2021);
+    private final Car fiat = new Car(3L, "Fiat", 2019);
+    private final Car opel = new Car(4L, "Opel", 2018);
+
+    private CriteriaBuilder cb;
+    private TypedQuery<Car> query;
+    private Path<Object> id;
+    private Path<Object> brand;
+    private Path<Object> year;
+    private Path<Object> owner;
+    private JPALazyDataModel<Car> model;
+
+    @BeforeEach
+    void setup() {
+        new FacesContextMock();
+
+        EntityManager em = mock(EntityManager.class);
+        cb = mock(CriteriaBuilder.class);
+        CriteriaQuery<Car> cq = mock(CriteriaQuery.class);
+        Root<Car> root = mock(Root.class);
+        query = mock(TypedQuery.class);
+        id = mock(Path.class);
+        brand = mock(Path.class);
+        year = mock(Path.class);
+        owner = mock(Path.class);
+
+        when(em.getCriteriaBuilder()).thenReturn(cb);
+        when(cb.createQuery(Car.class)).thenReturn(cq);
+        when(cq.from(Car.class)).thenReturn(root);
+        when(cq.select(root)).thenReturn(cq);
+        when(root.get("id")).thenReturn(id);
+        when(root.get("brand")).thenReturn(brand);
+        when(root.get("year")).thenReturn(year);
+        when(root.get("owner")).thenReturn(owner);
+        when(em.createQuery(any(CriteriaQuery.class))).thenReturn(query);
+
+        model = new JPALazyDataModel<>();
+        model.entityClass = Car.class;
+        model.entityManager = () -> em;
+        model.rowKeyField = "id";
+        model.rowKeyProvider = Car::getId;
+        model.keysetPagination = true;
+    }
+
+    @Test
+    void multiColumnMixedOrderSeeksForward() {
+        Map<String, SortMeta> sortBy = sortBy(
+                SortMeta.builder().field("brand").order(SortOrder.ASCENDING).priority(0).build(),
+                SortMeta.builder().field("year").order(SortOrder.DESCENDING).priority(1).build());
+
+        when(query.getResultList()).thenReturn(Arrays.asList(audi, bmw));
+        model.load(0, 2, sortBy, Collections.emptyMap());
+        verify(query).setFirstResult(0);
+        verify(cb).asc(brand);
+        verify(cb).desc(year);
+        verify(cb).asc(id);
+
+        clearInvocations(cb, query);
+        when(query.getResultList()).thenReturn(Arrays.asList(fiat, opel));
+        assertEquals(Arrays.asList(fiat, opel), model.load(2, 2, sortBy, Collections.emptyMap()));
+
+        // (brand, year, id) after ("BMW", 2021, 2), with year descending
+        verify(query, never()).setFirstResult(anyInt());
+        verify(cb).greaterThan((Path) brand, (Comparable) "BMW");
+        verify(cb).lessThan((Path) year, (Comparable) 2021);
+        verify(cb).greaterThan((Path) id, (Comparable) 2L);
+        verify(cb).equal(brand, "BMW");
+        verify(cb).equal(year, 2021);
+    }
+
+    @Test
+    void multiColumnMixedOrderSeeksBackward() {
+        Map<String, SortMeta> sortBy = sortBy(
+                SortMeta.builder().field("brand").order(SortOrder.DESCENDING).priority(0).build(),
+                SortMeta.builder().field("year").order(SortOrder.ASCENDING).priority(1).build());
+
+        // rows: ..., opel, fiat, bmw, audi
+        when(query.getResultList()).thenReturn(Arrays.asList(bmw, audi));
+        model.load(4, 2, sortBy, Collections.emptyMap());
+        verify(query).setFirstResult(4);
+
+        clearInvocations(cb, query);
+        // the previous page is queried in reversed order and reversed again
+        when(query.getResultList()).thenReturn(Arrays.asList(fiat, opel));
+        assertEquals(Arrays.asList(opel, fiat), model.load(2, 2, sortBy, Collections.emptyMap()));
+
+        // (brand, year, id) before ("BMW", 2021, 2), with brand descending
+        verify(query, never()).setFirstResult(anyInt());
+        verify(cb).asc(brand);
+        verify(cb).desc(year);
+        verify(cb).desc(id);
+        verify(cb).greaterThan((Path) brand, (Comparable) "BMW");
+        verify(cb).lessThan((Path) year, (Comparable) 2021);
+        verify(cb).lessThan((Path) id, (Comparable) 2L);
+    }
+
+    @Test
+    void notComparableSortFieldFallsBackToOffset() {
+        Map<String, SortMeta> sortBy = sortBy(SortMeta.builder().field("owner").order(SortOrder.ASCENDING).build());
+
+        when(query.getResultList()).thenReturn(Arrays.asList(audi, bmw));
+        model.load(0, 2, sortBy, Collections.emptyMap());
+        assertNull(model.keyset.lastValues);
+
+        clearInvocations(cb, query);
+        when(query.getResultList()).thenReturn(Arrays.asList(fiat, opel));
+        assertEquals(Arrays.asList(fiat, opel), model.load(2, 2, sortBy, Collections.emptyMap()));
+        verify(query).setFirstResult(2);
+        verify(cb, never()).greaterThan(any(Path.class), any(Comparable.class));
+        verify(cb, never()).lessThan(any(Path.class), any(Comparable.class));
+    }
+
+    private static Map<String, SortMeta> sortBy(SortMeta... sorts) {
+        Map<String, SortMeta> sortBy = new LinkedHashMap<>();
+        for (SortMeta sort : sorts) {
+            sortBy.put(sort.getField(), sort);
+        }
+        return sortBy;
+    }
+
+    public static class Owner {
+
+        private final String name;
+
+        public Owner(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Car {
+
+        private final Long id;
+        private final String brand;
+        private final Integer year;
+        private final Owner owner;
+
+        public Car(Long id, String brand, Integer year) {
+            this.id = id;
+            this.brand = brand;
+            this.year = year;
+            this.owner = new Owner(brand + " owner");
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getBrand() {
+            return brand;
+        }
+
+        public Integer getYear() {
+            return year;
+        }
+
+        public Owner getOwner() {
+            return owner;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.model;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyDefaultTreeNodeTest {
+
+    private static List<Integer> load(Integer parent, int offset, int limit) {
+        return IntStream.range(offset, Math.min(offset + limit, 25)).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void pagedLoading() {
+        LazyDefaultTreeNode<Integer> root = new LazyDefaultTreeNode<>(-1, LazyDefaultTreeNodeTest::load, data -> 25, data -> data >= 0, 10);
+
+        assertFalse(root.hasMoreChildren());
+        assertEquals(10, root.getChildCount());
+        assertTrue(root.hasMoreChildren());
+        assertEquals(25, root.getTotalChildCount());
+
+        assertEquals(10, root.loadMoreChildren());
+        assertEquals(20, root.getChildCount());
+        assertEquals("19", root.getChildren().get(19).getRowKey());
+
+        assertEquals(20, root.loadMoreChildren());
+        assertEquals(25, root.getChildCount());
+        assertFalse(root.hasMoreChildren());
+        assertEquals(-1, root.loadMoreChildren());
+    }
+
+    @Test
+    void pagedLoadingWithoutCount() {
+        LazyDefaultTreeNode<Integer> root = new LazyDefaultTreeNode<>(-1, LazyDefaultTreeNodeTest::load, null, data -> data >= 0, 5);
+
+        assertEquals(5, root.getChildCount());
+        assertEquals(-1, root.getTotalChildCount());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(root.hasMoreChildren());
+            root.loadMoreChildren();
+        }
+        assertEquals(25, root.getChildCount());
+
+        // a full page has been returned, so only the next (empty) page tells that there are no more children
+        assertTrue(root.hasMoreChildren());
+        assertEquals(-1, root.loadMoreChildren());
+        assertFalse(root.hasMoreChildren());
+        assertEquals(25, root.getChildCount());
+    }
+
+    @Test
+    void loadMoreChildrenWithoutChildren() {
+        LazyDefaultTreeNode<Integer> root = new LazyDefaultTreeNode<>(-1, (data, offset, limit) -> List.of(), null, data -> false, 5);
+
+        assertEquals(-1, root.loadMoreChildren());
+        assertTrue(root.isLoaded());
+        assertEquals(-1, root.loadMoreChildren());
+
+        LazyDefaultTreeNode<Integer> loaded = new LazyDefaultTreeNode<>(-1, LazyDefaultTreeNodeTest::load, null, data -> data >= 0, 5);
+        assertEquals(0, loaded.loadMoreChildren());
+        assertEquals(5, loaded.getChildCount());
+    }
+}
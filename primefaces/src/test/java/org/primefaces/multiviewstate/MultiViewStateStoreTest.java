@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.multiviewstate;
+
+import org.primefaces.cache.CacheProvider;
+import org.primefaces.cache.DefaultCacheProvider;
+import org.primefaces.component.datatable.DataTableState;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.faces.FacesException;
+import jakarta.faces.context.ExternalContext;
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MultiViewStateStoreTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private Map<String, Object> sessionMap;
+
+    @BeforeEach
+    void setup() {
+        sessionMap = new HashMap<>();
+    }
+
+    @Test
+    void sessionStoreEvictsLeastRecentlyUsed() {
+        SessionMultiViewStateStore store = new SessionMultiViewStateStore(false, 2);
+        FacesContext context = newRequest();
+
+        DataTableState first = new DataTableState();
+        store.put(context, key("tbl1"), first);
+        store.put(context, key("tbl2"), new DataTableState());
+        // access makes tbl1 the most recently used one
+        assertSame(first, store.get(context, key("tbl1")));
+        store.put(context, key("tbl3"), new DataTableState());
+
+        assertEquals(Set.of(key("tbl1"), key("tbl3")), store.getKeys(context));
+        assertNull(store.get(context, key("tbl2")));
+
+        store.clear(context);
+        assertTrue(store.getKeys(context).isEmpty());
+    }
+
+    @Test
+    void compactSessionStoreWritesBackModifiedStates() {
+        CompactSessionMultiViewStateStore store = new CompactSessionMultiViewStateStore(false, 2);
+
+        FacesContext context = newRequest();
+        DataTableState state = new DataTableState();
+        store.put(context, key("tbl1"), state);
+        // components modify the state in place after put
+        state.setFirst(20);
+        store.flush(context);
+
+        context = newRequest();
+        DataTableState restored = (DataTableState) store.get(context, key("tbl1"));
+        assertEquals(20, restored.getFirst());
+        assertSame(restored, store.get(context, key("tbl1")));
+        restored.setSelectedRowKeys(new HashSet<>(Set.of("1", "2")));
+        store.put(context, key("tbl2"), new DataTableState());
+        store.put(context, key("tbl3"), new DataTableState());
+        store.flush(context);
+
+        context = newRequest();
+        assertEquals(Set.of("1", "2"), ((DataTableState) store.get(context, key("tbl1"))).getSelectedRowKeys());
+        assertEquals(2, store.getKeys(context).size());
+
+        assertTrue(store.remove(context, key("tbl1")));
+        assertFalse(store.remove(context, key("tbl1")));
+        store.flush(context);
+        assertNull(store.get(newRequest(), key("tbl1")));
+    }
+
+    @Test
+    void cookieStoreRejectsTamperedValues() {
+        CookieMultiViewStateStore store = new CookieMultiViewStateStore(SECRET, 10);
+        Map<MultiViewStateKey, byte[]> states = new LinkedHashMap<>();
+        states.put(key("tbl1"), SerializedMultiViewStateStore.serialize(key("tbl1"), new DataTableState()));
+
+        String value = store.encode(states);
+        Map<MultiViewStateKey, byte[]> decoded = store.decode(value);
+        assertEquals(states.keySet(), decoded.keySet());
+        assertNotNull(SerializedMultiViewStateStore.deserialize(decoded.get(key("tbl1"))));
+
+        String tampered = (value.charAt(0) == 'A' ? 'B' : 'A') + value.substring(1);
+        assertTrue(store.decode(tampered).isEmpty());
+        assertTrue(new CookieMultiViewStateStore(SECRET.replace('0', '1'), 10).decode(value).isEmpty());
+        assertTrue(store.decode("invalid").isEmpty());
+
+        assertThrows(FacesException.class, () -> new CookieMultiViewStateStore("secret", 10));
+    }
+
+    @Test
+    void serializedStoreDeserializesAllowedClassesOnly() {
+        CompactSessionMultiViewStateStore store = new CompactSessionMultiViewStateStore(false, 10);
+        FacesContext context = newRequest();
+        store.put(context, key("tbl1"), new HashMap<>(Map.of("filter", new int[] {1, 2})));
+        store.put(context, key("tbl2"), URI.create("https://www.primefaces.org"));
+        store.flush(context);
+
+        context = newRequest();
+        assertNotNull(store.get(context, key("tbl1")));
+        assertNull(store.get(context, key("tbl2")));
+
+        store.setAllowedClasses("java.net.URI");
+        store.put(context, key("tbl2"), URI.create("https://www.primefaces.org"));
+        store.flush(context);
+        assertEquals(URI.create("https://www.primefaces.org"), store.get(newRequest(), key("tbl2")));
+    }
+
+    @Test
+    void cacheStoreMovesStatesToChangedSessionId() {
+        CacheProvider cacheProvider = new DefaultCacheProvider();
+        CacheMultiViewStateStore store = new CacheMultiViewStateStore(10) {
+            @Override
+            protected CacheProvider getCacheProvider(FacesContext context) {
+                return cacheProvider;
+            }
+        };
+
+        FacesContext context = newRequest("session1");
+        DataTableState state = new DataTableState();
+        state.setFirst(10);
+        store.put(context, key("tbl1"), state);
+        store.flush(context);
+
+        // e.g. ExternalContext#changeSessionId on login
+        context = newRequest("session2");
+        assertEquals(10, ((DataTableState) store.get(context, key("tbl1"))).getFirst());
+        assertNotNull(cacheProvider.get(CacheMultiViewStateStore.CACHE_REGION, "session2"));
+
+        store.put(context, key("tbl2"), new DataTableState());
+        store.flush(context);
+        assertEquals(Set.of(key("tbl1"), key("tbl2")), store.getKeys(newRequest("session2")));
+    }
+
+    private FacesContext newRequest() {
+        return newRequest(null);
+    }
+
+    private FacesContext newRequest(String sessionId) {
+        FacesContext context = mock(FacesContext.class);
+        ExternalContext externalContext = mock(ExternalContext.class);
+        when(context.getExternalContext()).thenReturn(externalContext);
+        when(context.getAttributes()).thenReturn(new HashMap<>());
+        when(externalContext.getSessionMap()).thenReturn(sessionMap);
+        when(externalContext.getSessionId(false)).thenReturn(sessionId);
+        when(externalContext.getSessionId(true)).thenReturn(sessionId);
+        return context;
+    }
+
+    private static MultiViewStateKey key(String clientId) {
+        return MultiViewStateKey.of("/index.xhtml", clientId);
+    }
+}
@@ -26,13 +26,17 @@ package org.primefaces.util;
 import org.primefaces.component.fileupload.FileUpload;
 import org.primefaces.context.PrimeApplicationContext;
 import org.primefaces.model.file.UploadedFile;
+import org.primefaces.virusscan.VirusException;
+import org.primefaces.virusscan.VirusScannerService;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import jakarta.faces.FacesException;
@@ -57,6 +61,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class FileUploadUtilsTest {
@@ -97,6 +102,30 @@ class FileUploadUtilsTest {
         return file;
     }
 
+    @Test
+    void performVirusScanWaitsForStartedScan() {
+        when(context.getAttributes()).thenReturn(new HashMap<>());
+        UploadedFile file = createFile("test.png", "image/png", inputStream);
+        CompletableFuture<Void> scan = new CompletableFuture<>();
+        VirusScannerService service = mock(VirusScannerService.class);
+        when(service.performVirusScanAsync(file)).thenReturn(scan);
+        PrimeApplicationContext applicationContext = mock(PrimeApplicationContext.class);
+        when(applicationContext.getVirusScannerService()).thenReturn(service);
+
+        try (MockedStatic<PrimeApplicationContext> mocked = Mockito.mockStatic(PrimeApplicationContext.class)) {
+            mocked.when(() -> PrimeApplicationContext.getCurrentInstance(context)).thenReturn(applicationContext);
+
+            FileUploadUtils.startVirusScan(context, file);
+            scan.completeExceptionally(new VirusException("infected"));
+            VirusException e = assertThrows(VirusException.class, () -> FileUploadUtils.performVirusScan(context, file));
+            assertEquals("infected", e.getMessage());
+
+            // the started scan is only used once
+            FileUploadUtils.performVirusScan(context, file);
+            verify(service).performVirusScan(file);
+        }
+    }
+
     @Test
     void isValidType_NameCheck() {
         assertTrue(FileUploadUtils.isValidType(appContext,
@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.faces.FacesException;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONPropertyIgnore;
+import org.json.JSONPropertyName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonWriterTest {
+
+    @Test
+    void primitives() throws IOException {
+        assertEquals("null", write(null, false));
+        assertEquals("true", write(true, false));
+        assertEquals("12", write(12, false));
+        assertEquals("1", write(1.0d, false));
+        assertEquals("1.5", write(1.50f, false));
+        assertEquals("1.0E21", write(1e21, false));
+        assertEquals("null", write(Double.NaN, false));
+        assertEquals("\"c\"", write('c', false));
+        assertEquals("\"SECONDS\"", write(java.util.concurrent.TimeUnit.SECONDS, false));
+        assertEquals("[1,2,3]", write(new int[] {1, 2, 3}, false));
+    }
+
+    @Test
+    void escaping() throws IOException {
+        assertEquals("\"a\\\"b\\\\c\\n<\\/script>\\u0001\\u2028\"", write("a\"b\\c\n</script>\u0001\u2028", false));
+        assertEquals("\"Hello&lt;&gt;World &amp; more\"", write("Hello<>World & more", true));
+        assertEquals("\"plain\"", write("plain", true));
+    }
+
+    @Test
+    void collections() throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", "events");
+        map.put("skipped", null);
+        map.put("list", Arrays.asList(1, null, "x"));
+        assertEquals("{\"name\":\"events\",\"list\":[1,null,\"x\"]}", write(map, false));
+    }
+
+    @Test
+    void orgJson() throws IOException {
+        JSONObject object = new JSONObject();
+        object.put("array", new JSONArray().put("test").put(JSONObject.NULL));
+        assertEquals("{\"array\":[\"test\",null]}", write(object, false));
+    }
+
+    @Test
+    void beanLikeOrgJson() throws IOException {
+        Event event = new Event("Meeting <1>", 3, true);
+        event.children.add(new Event("Child", 1, false));
+
+        String json = write(event, true);
+        assertFalse(json.contains("internal"));
+        assertTrue(json.contains("\"URL\":\"https://example.com\""));
+        assertTrue(json.contains("\"label\":\"Meeting &lt;1&gt;\""));
+        assertTrue(new JSONObject(new JSONObject(event).toString()).similar(new JSONObject(write(event, false))));
+    }
+
+    @Test
+    void cycle() {
+        List<Object> list = new ArrayList<>();
+        list.add(list);
+        assertThrows(FacesException.class, () -> write(list, false));
+    }
+
+    private static String write(Object value, boolean escapeXml) throws IOException {
+        StringWriter out = new StringWriter();
+        new JsonWriter(out, escapeXml).writeValue(value);
+        return out.toString();
+    }
+
+    public static class Event {
+
+        private final String title;
+        private final int duration;
+        private final boolean allDay;
+        private final List<Event> children = new ArrayList<>();
+
+        Event(String title, int duration, boolean allDay) {
+            this.title = title;
+            this.duration = duration;
+            this.allDay = allDay;
+        }
+
+        @JSONPropertyName("label")
+        public String getTitle() {
+            return title;
+        }
+
+        public int getDuration() {
+            return duration;
+        }
+
+        public boolean isAllDay() {
+            return allDay;
+        }
+
+        public List<Event> getChildren() {
+            return children;
+        }
+
+        public String getURL() {
+            return "https://example.com";
+        }
+
+        public String getDescription() {
+            return null;
+        }
+
+        @JSONPropertyIgnore
+        public String getInternal() {
+            return "internal";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.util;
+
+import org.primefaces.component.api.UITable;
+import org.primefaces.model.SortMeta;
+import org.primefaces.model.SortOrder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.faces.context.FacesContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SortTableComparatorTest {
+
+    private static final SortTableComparator.BeanPropertyMapper ARRAY_MAPPER = new SortTableComparator.BeanPropertyMapper() {
+        @Override
+        public boolean isValueExprBased() {
+            return false;
+        }
+
+        @Override
+        public Object map(FacesContext context, String var, SortMeta sortMeta, Object obj) {
+            return ((Object[]) obj)[Integer.parseInt(sortMeta.getField())];
+        }
+    };
+
+    private FacesContext context;
+    private UITable<?> table;
+    private final Map<String, SortMeta> sortBy = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setup() {
+        context = mock(FacesContext.class);
+        table = mock(UITable.class);
+        when(table.getActiveSortMeta()).thenReturn(sortBy);
+        when(table.getVar()).thenReturn("row");
+        when(table.resolveDataLocale(any())).thenReturn(Locale.GERMAN);
+    }
+
+    @Test
+    void sortMultipleColumnsLikeComparator() {
+        sortBy.put("0", SortMeta.builder().field("0").order(SortOrder.ASCENDING).nullSortOrder(1).build());
+        sortBy.put("1", SortMeta.builder().field("1").order(SortOrder.DESCENDING).nullSortOrder(-1).build());
+
+        assertSameOrder(false);
+    }
+
+    @Test
+    void sortCaseSensitiveLikeComparator() {
+        sortBy.put("0", SortMeta.builder().field("0").order(SortOrder.DESCENDING).nullSortOrder(-1).caseSensitiveSort(true).build());
+        sortBy.put("1", SortMeta.builder().field("1").order(SortOrder.ASCENDING).nullSortOrder(1).build());
+
+        assertSameOrder(false);
+    }
+
+    @Test
+    void sortParallelLikeComparator() {
+        when(table.isParallelThresholdReached(any(), anyInt())).thenReturn(true);
+        sortBy.put("0", SortMeta.builder().field("0").order(SortOrder.ASCENDING).nullSortOrder(1).build());
+        sortBy.put("1", SortMeta.builder().field("1").order(SortOrder.ASCENDING).nullSortOrder(1).build());
+
+        assertSameOrder(true);
+    }
+
+    private void assertSameOrder(boolean parallel) {
+        List<Object[]> rows = new ArrayList<>();
+        String[] names = {"Zoe", "zoe", "Émile", "emile", "Anna", null, "anna", "Ölaf", "olaf", "Bob"};
+        for (int i = 0; i < (parallel ? 2000 : 200); i++) {
+            rows.add(new Object[] {names[i % names.length], i % 7 == 0 ? null : i % 5, i});
+        }
+
+        List<Object[]> expected = new ArrayList<>(rows);
+        expected.sort(new SortTableComparator(context, table, ARRAY_MAPPER));
+
+        List<Object[]> actual = new ArrayList<>(rows);
+        SortTableComparator.sort(context, table, actual, ARRAY_MAPPER);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(Arrays.asList(expected.get(i)), Arrays.asList(actual.get(i)), "row " + i);
+        }
+    }
+}
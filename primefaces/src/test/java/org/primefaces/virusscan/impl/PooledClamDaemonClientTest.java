@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2009-2025 PrimeTek Informatics
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.primefaces.virusscan.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledClamDaemonClientTest {
+
+    private static final byte[] EICAR = "X5O!P%@AP[4\\PZX54(P^)7CC)7}$EICAR".getBytes(StandardCharsets.US_ASCII);
+
+    private ServerSocket server;
+    private Thread daemon;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @BeforeEach
+    void startDaemon() throws IOException {
+        server = new ServerSocket(0);
+        daemon = new Thread(() -> {
+            try {
+                while (!server.isClosed()) {
+                    try (Socket socket = server.accept()) {
+                        connections.incrementAndGet();
+                        serve(socket);
+                    }
+                }
+            }
+            catch (IOException e) {
+                // server closed
+            }
+        });
+        daemon.setDaemon(true);
+        daemon.start();
+    }
+
+    @AfterEach
+    void stopDaemon() throws IOException {
+        server.close();
+    }
+
+    /**
+     * Minimal clamd session: replies {@code <id>: stream: OK} or {@code <id>: stream: Eicar-Signature FOUND}.
+     */
+    private static void serve(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        OutputStream out = socket.getOutputStream();
+        int id = 0;
+        if (!"zIDSESSION".equals(readCommand(in))) {
+            return;
+        }
+        while ("zINSTREAM".equals(readCommand(in))) {
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            int length = in.readInt();
+            while (length > 0) {
+                byte[] chunk = new byte[length];
+                in.readFully(chunk);
+                data.write(chunk);
+                length = in.readInt();
+            }
+            String result = new String(data.toByteArray(), StandardCharsets.US_ASCII).contains("EICAR") ? "Eicar-Signature FOUND" : "OK";
+            out.write((++id + ": stream: " + result + "\0").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+    }
+
+    private static String readCommand(DataInputStream in) throws IOException {
+        StringBuilder command = new StringBuilder();
+        int b = in.read();
+        while (b > 0) {
+            command.append((char) b);
+            b = in.read();
+        }
+        return command.toString();
+    }
+
+    @Test
+    void reusesSession() throws IOException {
+        try (PooledClamDaemonClient client = new PooledClamDaemonClient("localhost", server.getLocalPort(), 5000, 16, 2)) {
+            byte[] reply = client.scan("clean file content".getBytes(StandardCharsets.US_ASCII));
+            assertEquals("stream: OK", new String(reply, StandardCharsets.US_ASCII));
+            assertTrue(ClamDaemonClient.isCleanReply(reply));
+
+            reply = client.scan(EICAR);
+            assertEquals("stream: Eicar-Signature FOUND", new String(reply, StandardCharsets.US_ASCII));
+            assertFalse(ClamDaemonClient.isCleanReply(reply));
+
+            assertEquals(1, connections.get());
+        }
+    }
+}